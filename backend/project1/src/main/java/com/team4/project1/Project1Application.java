@@ -2,6 +2,7 @@ package com.team4.project1;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Spring Boot 애플리케이션의 진입점입니다.
@@ -9,6 +10,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * 애플리케이션의 실행을 시작합니다.
  */
 @SpringBootApplication
+@EnableScheduling
 public class Project1Application {
 
 	/**
@@ -21,11 +21,12 @@ public class Customer {
 
     /**
      * 고객의 고유 ID
-     * 데이터베이스에서 자동으로 증가하는 값을 할당합니다.
+     * {@code customer_seq}에서 50개 단위로 미리 할당받은 값을 사용합니다.
      * id는 객체 생성 시에만 값이 설정되고 이후에는 변경이 불가능합니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_seq")
+    @SequenceGenerator(name = "customer_seq", sequenceName = "customer_seq", initialValue = 1000, allocationSize = 50)
     @Setter(AccessLevel.NONE) // id는 절대 변경 불가
     private Long id;
 
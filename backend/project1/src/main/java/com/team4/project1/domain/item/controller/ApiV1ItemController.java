@@ -1,28 +1,49 @@
 package com.team4.project1.domain.item.controller;
 
+import com.team4.project1.domain.item.dto.ItemBatchUpdateDto;
+import com.team4.project1.domain.item.dto.ItemBulkImportResultDto;
 import com.team4.project1.domain.item.dto.ItemDto;
+import com.team4.project1.domain.item.dto.ItemFilter;
+import com.team4.project1.domain.item.dto.ItemLookupDto;
+import com.team4.project1.domain.item.dto.ItemSuggestionDto;
+import com.team4.project1.domain.item.dto.ItemVersionedDto;
 import com.team4.project1.domain.item.entity.Item;
+import com.team4.project1.domain.item.entity.ItemImageSize;
+import com.team4.project1.domain.item.entity.ItemSearchMode;
 import com.team4.project1.domain.item.entity.ItemSortType;
+import com.team4.project1.domain.item.service.ItemBulkImportService;
 import com.team4.project1.domain.item.service.ItemService;
+import com.team4.project1.domain.item.service.PrefixTrie;
+import com.team4.project1.global.dto.CursorPageDto;
 import com.team4.project1.global.dto.ResponseDto;
 import com.team4.project1.global.exception.ItemNotFoundException;
+import com.team4.project1.global.web.FileResponseWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 
 /**
  * 상품 관련 API를 처리하는 컨트롤러 클래스입니다.
  * 상품의 조회, 등록, 수정, 삭제와 관련된 기능을 제공합니다.
+ * 조회 응답에는 상품 버전으로 만든 ETag를 담고, If-None-Match가 현재 ETag와 같으면 조회 없이 304로 응답합니다.
  */
 @Tag(name = "ApiV1ItemController", description = "상품 API")
 @RestController
@@ -31,44 +52,167 @@ import java.util.Objects;
 public class ApiV1ItemController {
 
     private final ItemService itemService;
+    private final ItemBulkImportService itemBulkImportService;
+    private final FileResponseWriter fileResponseWriter;
+
+    /** 내용이 바뀌지 않는 UUID 이미지의 캐시 정책 */
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
 
     /**
      * 상품 ID를 통해 상품 정보를 조회하는 API엔드포인트입니다.
      *
      * @param itemId 조회할 상품의 ID
-     * @return {@Link ItemDto} 객체를 포함한 응답을 반환합니다.
+     * @return {@Link ItemDto} 객체를 포함한 응답을 반환합니다. 상품이 변경되지 않았으면 304를 반환합니다.
      * @throws ItemNotFoundException 상품이 존재하지 않는 경우 예외 발생합니다.
      */
     @Operation(summary = "개별 상품 조회")
     @GetMapping("/{itemId}")
-    public ResponseEntity<ResponseDto<ItemDto>> item(@PathVariable("itemId") Long itemId) {
-        return ResponseEntity.ok(ResponseDto.ok(itemService.getItemById(itemId)));
+    public ResponseEntity<ResponseDto<ItemDto>> item(@PathVariable("itemId") Long itemId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(itemService.getItemETag(itemId))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ResponseDto.ok(itemService.getItemById(itemId)));
     }
 
 
     /**
      * 상품 목록을 조회, 검색 및 정렬 기능을 제공하는 API 엔드포인트입니다.
      *
-     * @param sortType 정렬 기준 ({@link ItemSortType} 사용 가능)
-     * @param keyword  검색 키워드 (이름을 기준으로 검색)
-     * @return 정렬 및 검색된 상품 목록을 포함한 {@link Page<ItemDto>} 객체를 반환합니다.
+     * @param sortType   정렬 기준 ({@link ItemSortType} 사용 가능, popularity이면 최근 판매량이 많은 순)
+     * @param searchMode 검색 방식 ({@link ItemSearchMode} 사용 가능, chosung이면 초성으로, fuzzy이면 오타를 허용해 검색)
+     * @param keyword    검색 키워드 (이름을 기준으로 검색)
+     * @param minPrice   최소 가격 (포함)
+     * @param maxPrice   최대 가격 (포함)
+     * @param inStock    true이면 재고가 있는 상품만 조회
+     * @return 정렬 및 검색된 상품 목록을 포함한 {@link Page<ItemDto>} 객체를 반환합니다. 상품이 하나도 변경되지 않았으면 304를 반환합니다.
      */
 
     @Operation(
             summary = "전체 상품 조회",
-            description = "페이징 처리와 검색 및 정렬 기능"
+            description = "페이징 처리와 검색, 정렬 및 가격, 재고 조건 기능"
     )
     @GetMapping
     public ResponseEntity<ResponseDto<Page<ItemDto>>> sortedItems(
             @RequestParam(value = "sortBy", required = false, defaultValue = "name") String sortType,
+            @RequestParam(value = "searchMode", required = false, defaultValue = "name") String searchMode,
             @RequestParam(value = "searchKeyword", required = false) String keyword,
-            Pageable pageable
+            @RequestParam(value = "minPrice", required = false) Integer minPrice,
+            @RequestParam(value = "maxPrice", required = false) Integer maxPrice,
+            @RequestParam(value = "inStock", defaultValue = "false") boolean inStock,
+            Pageable pageable,
+            WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(itemService.getCatalogETag())) {
+            return null;
+        }
         if (keyword == null) { keyword = ""; }
-        Page<ItemDto> items = itemService.searchAllItemsSortedBy(sortType, keyword, pageable);
-        return ResponseEntity.ok(ResponseDto.ok(items));
+        ItemFilter filter = new ItemFilter(minPrice, maxPrice, inStock);
+        Page<ItemDto> items = itemService.searchAllItemsSortedBy(sortType, searchMode, keyword, filter, pageable);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ResponseDto.ok(items));
+    }
+
+
+    /**
+     * 여러 상품을 ID로 한 번에 조회하는 API 엔드포인트입니다.
+     * 결과는 요청한 ID 순서대로 담기며, 존재하지 않는 상품의 자리는 null이고 missingIds에 ID가 담깁니다.
+     *
+     * @param ids 쉼표로 구분한 상품 ID 목록 (최대 {@value ItemService#MAX_LOOKUP_SIZE}개)
+     * @return 조회된 상품과 존재하지 않는 상품 ID를 담고 있는 {@link ItemLookupDto} 객체를 포함한 응답을 반환합니다.
+     */
+    @Operation(
+            summary = "상품 여러 개 조회",
+            description = "ids=1,2,3 형식의 상품 ID 목록으로 한 번에 조회, 요청 순서대로 반환"
+    )
+    @GetMapping(params = "ids")
+    public ResponseEntity<ResponseDto<ItemLookupDto>> itemsByIds(@RequestParam("ids") List<Long> ids, WebRequest webRequest) {
+        if (webRequest.checkNotModified(itemService.getCatalogETag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ResponseDto.ok(itemService.lookupItems(ids)));
+    }
+
+    /**
+     * 여러 상품을 ID로 한 번에 조회하는 API 엔드포인트입니다.
+     * ID 목록이 길어 쿼리 문자열에 담기 어려울 때 요청 본문에 JSON 배열로 전달합니다.
+     *
+     * @param ids 상품 ID 목록 (최대 {@value ItemService#MAX_LOOKUP_SIZE}개)
+     * @return 조회된 상품과 존재하지 않는 상품 ID를 담고 있는 {@link ItemLookupDto} 객체를 포함한 응답을 반환합니다.
+     */
+    @Operation(
+            summary = "상품 여러 개 조회 (본문)",
+            description = "요청 본문의 상품 ID 배열로 한 번에 조회, 요청 순서대로 반환"
+    )
+    @PostMapping("/lookup")
+    public ResponseEntity<ResponseDto<ItemLookupDto>> lookupItems(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(ResponseDto.ok(itemService.lookupItems(ids)));
+    }
+
+    /**
+     * 상품 목록을 커서 방식으로 조회하는 API 엔드포인트입니다. 무한 스크롤에 사용합니다.
+     * 전체 개수를 세지 않으며, 응답의 nextCursor를 다음 요청의 after로 전달하면 이어서 조회합니다.
+     *
+     * @param sortType   정렬 기준 ({@link ItemSortType} 사용 가능, popularity이면 최근 판매량이 많은 순)
+     * @param searchMode 검색 방식 (name 또는 chosung)
+     * @param keyword    검색 키워드 (이름을 기준으로 검색)
+     * @param after      이전 페이지의 nextCursor
+     * @param size       조회할 상품 수 (1 ~ 100)
+     * @param withTotal  전체 상품 수를 함께 조회할지 여부
+     * @return 상품 목록과 다음 페이지 커서를 포함한 응답을 반환합니다.
+     */
+    @Operation(
+            summary = "상품 커서 조회",
+            description = "전체 개수를 세지 않고 이전 페이지의 마지막 상품 다음부터 이어서 조회"
+    )
+    @GetMapping("/scroll")
+    public ResponseEntity<ResponseDto<CursorPageDto<ItemDto>>> scrollItems(
+            @RequestParam(value = "sortBy", required = false, defaultValue = "name") String sortType,
+            @RequestParam(value = "searchMode", required = false, defaultValue = "name") String searchMode,
+            @RequestParam(value = "searchKeyword", required = false) String keyword,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(itemService.getCatalogETag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ResponseDto.ok(itemService.scrollItems(sortType, searchMode, keyword, after, size, withTotal)));
     }
 
+    /**
+     * 검색어 자동 완성 결과를 조회하는 API 엔드포인트입니다.
+     * 상품 이름 전체나 이름 속 단어가 접두사로 시작하는 상품을 이름 순으로 반환합니다.
+     *
+     * @param prefix 입력 중인 검색어
+     * @param size   반환할 최대 개수 (1 ~ {@value PrefixTrie#DEFAULT_TOP_K})
+     * @return 자동 완성 결과 목록을 포함한 응답을 반환합니다.
+     */
+    @Operation(
+            summary = "상품 검색어 자동 완성",
+            description = "접두사로 시작하는 상품 이름을 이름 순으로 조회"
+    )
+    @GetMapping("/suggest")
+    public ResponseEntity<ResponseDto<List<ItemSuggestionDto>>> suggestItems(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        if (size < 1 || size > PrefixTrie.DEFAULT_TOP_K) {
+            return ResponseEntity.badRequest().body(ResponseDto.of(
+                    HttpStatus.BAD_REQUEST.value() + "",
+                    "자동 완성 개수는 1 이상 %d 이하여야 합니다.".formatted(PrefixTrie.DEFAULT_TOP_K),
+                    null
+            ));
+        }
+        return ResponseEntity.ok(ResponseDto.ok(itemService.suggestItems(prefix, size)));
+    }
 
     /**
      * 새로운 상품을 등록하는 API 엔드포인트입니다.
@@ -83,6 +227,38 @@ public class ApiV1ItemController {
         return ResponseEntity.ok(ResponseDto.ok(ItemDto.from(item)));
     }
 
+    /**
+     * CSV 본문으로 상품을 대량 등록하는 API 엔드포인트입니다.
+     * 첫 줄은 name, price, stock 열을 포함한 헤더이며, 본문을 한 줄씩 읽어 묶음 단위로 저장합니다.
+     *
+     * @param body 요청 본문
+     * @return 등록된 행 수와 실패한 행의 줄 번호, 사유를 담고 있는 {@link ItemBulkImportResultDto} 객체를 포함한 응답을 반환합니다.
+     */
+    @Operation(
+            summary = "상품 대량 등록 (CSV)",
+            description = "name, price, stock 헤더가 있는 CSV 본문을 한 줄씩 읽어 일괄 등록하고 행별 오류를 반환"
+    )
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<ResponseDto<ItemBulkImportResultDto>> importItemsFromCsv(InputStream body) {
+        return ResponseEntity.ok(ResponseDto.ok(itemBulkImportService.importCsv(body)));
+    }
+
+    /**
+     * NDJSON 본문으로 상품을 대량 등록하는 API 엔드포인트입니다.
+     * 한 줄에 name, price, stock 필드를 가진 JSON 객체 하나를 담으며, 본문을 한 줄씩 읽어 묶음 단위로 저장합니다.
+     *
+     * @param body 요청 본문
+     * @return 등록된 행 수와 실패한 행의 줄 번호, 사유를 담고 있는 {@link ItemBulkImportResultDto} 객체를 포함한 응답을 반환합니다.
+     */
+    @Operation(
+            summary = "상품 대량 등록 (NDJSON)",
+            description = "한 줄에 상품 하나씩 담은 NDJSON 본문을 한 줄씩 읽어 일괄 등록하고 행별 오류를 반환"
+    )
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseDto<ItemBulkImportResultDto>> importItemsFromNdjson(InputStream body) {
+        return ResponseEntity.ok(ResponseDto.ok(itemBulkImportService.importNdjson(body)));
+    }
+
     /**
      * 기존 상품의 정보를 수정하는 APi 엔드포인트입니다.
      *
@@ -97,6 +273,25 @@ public class ApiV1ItemController {
         return ResponseEntity.ok(ResponseDto.ok(updatedItem));
     }
 
+    /**
+     * 여러 상품의 재고와 가격을 한 번에 변경하는 API 엔드포인트입니다.
+     * 입고 등으로 많은 상품의 재고를 바꿀 때 상품마다 요청을 보내지 않도록 합니다.
+     * 하나라도 변경에 실패하면 모든 변경이 취소됩니다.
+     *
+     * @param request 상품별 재고 변화량과 새 가격 (최대 {@value ItemService#MAX_BATCH_UPDATE_SIZE}개)
+     * @return 변경된 상품과 상품별 ETag 목록을 포함한 응답을 반환합니다. ETag는 개별 상품 조회의 If-None-Match에 사용할 수 있습니다.
+     */
+    @Operation(
+            summary = "상품 재고, 가격 일괄 변경",
+            description = "여러 상품의 재고 변화량과 가격을 하나의 트랜잭션에서 변경"
+    )
+    @PatchMapping("/batch")
+    public ResponseEntity<ResponseDto<List<ItemVersionedDto>>> updateItems(@RequestBody ItemBatchUpdateDto request) {
+        List<ItemDto> updatedItems = itemService.updateItems(request.getItems());
+        // 트랜잭션이 커밋되어 상품 버전이 오른 뒤에 ETag를 읽는다
+        return ResponseEntity.ok(ResponseDto.ok(itemService.withETags(updatedItems)));
+    }
+
     /**
      * 특정 상품을 삭제하는 API 엔드포인트입니다.
      *
@@ -110,14 +305,97 @@ public class ApiV1ItemController {
         return ResponseEntity.ok(ResponseDto.ok("삭제가 완료되었습니다."));
     }
 
-    @Operation(summary = "상품 이미지 조회")
+    /**
+     * 상품을 핫 아이템으로 지정해 재고를 여러 버킷으로 나누는 API 엔드포인트입니다.
+     * 프로모션 등으로 한 상품에 주문이 몰릴 때 사용합니다.
+     *
+     * @param id      핫 아이템으로 지정할 상품의 ID
+     * @param stripes 재고를 나눌 버킷 수 (1 ~ 256)
+     * @return 지정된 상품의 정보를 담고 있는 {@Link ItemDto} 객체를 포함한 응답을 반환합니다.
+     */
+    @Operation(
+            summary = "핫 아이템 분할 재고 활성화",
+            description = "상품의 재고를 여러 버킷으로 나누어 동시 주문을 처리"
+    )
+    @PostMapping("/{id}/hot-stock")
+    public ResponseEntity<ResponseDto<ItemDto>> enableHotStock(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "stripes", defaultValue = "8") int stripes
+    ) {
+        if (stripes < 1 || stripes > 256) {
+            return ResponseEntity.badRequest().body(ResponseDto.of(
+                    HttpStatus.BAD_REQUEST.value() + "",
+                    "버킷 수는 1 이상 256 이하여야 합니다.",
+                    null
+            ));
+        }
+        return ResponseEntity.ok(ResponseDto.ok(itemService.enableHotStock(id, stripes)));
+    }
+
+    /**
+     * 핫 아이템 지정을 해제하고 남은 재고를 DB에 기록하는 API 엔드포인트입니다.
+     *
+     * @param id 지정을 해제할 상품의 ID
+     * @return 해제된 상품의 정보를 담고 있는 {@Link ItemDto} 객체를 포함한 응답을 반환합니다.
+     */
+    @Operation(summary = "핫 아이템 분할 재고 해제")
+    @DeleteMapping("/{id}/hot-stock")
+    public ResponseEntity<ResponseDto<ItemDto>> disableHotStock(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(ResponseDto.ok(itemService.disableHotStock(id)));
+    }
+
+    /**
+     * 상품의 현재 이미지를 조회하는 API 엔드포인트입니다.
+     * 상품의 이미지는 바뀔 수 있으므로 매번 재검증하도록 하고, 이미지 UUID를 ETag로 사용합니다.
+     * 목록처럼 이미지를 많이 불러오는 화면은 캐시 기간이 긴 {@link #getImageFile}을 사용해야 합니다.
+     *
+     * @param id 상품 ID
+     * @param size 이미지 크기 ({@link ItemImageSize} 사용 가능, 변형이 준비되기 전에는 원본을 반환)
+     * @return 이미지가 없으면 404 응답을, 있으면 null을 반환합니다 (본문은 {@link FileResponseWriter}가 직접 씁니다).
+     */
+    @Operation(summary = "상품 이미지 조회", description = "size로 thumb, list, detail 크기의 이미지를 조회")
     @GetMapping("/{id}/image")
-    public ResponseEntity<Object> getItemImage(@PathVariable("id") Long id) {
-        Resource resource = itemService.getItemImage(id);
-        if (resource == null) {
+    public ResponseEntity<Object> getItemImage(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "size", required = false, defaultValue = "original") String size,
+            ServletWebRequest webRequest
+    ) throws IOException {
+        ItemImageSize imageSize = ItemImageSize.fromString(size);
+        UUID imageUuid = itemService.getItemImageUuid(id);
+        Path file = imageUuid == null ? null : itemService.getImageFile(imageUuid, imageSize);
+        if (file == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ResponseDto.notFound("해당 상품 이미지가 존재하지 않습니다. (상품: %d)".formatted(id)));
         }
-        return ResponseEntity.ok().contentType(MediaType.IMAGE_JPEG).body(resource);
+        fileResponseWriter.write(webRequest, file, MediaType.IMAGE_JPEG, fileETag(file), CacheControl.noCache());
+        return null;
+    }
+
+    /**
+     * 이미지 UUID로 이미지 파일을 조회하는 API 엔드포인트입니다. 상품 목록의 imageUri로 요청합니다.
+     * 같은 UUID의 이미지는 내용이 바뀌지 않으므로 1년 동안 재검증 없이 캐시하도록 immutable로 응답합니다.
+     * 단, 요청한 크기의 변형이 아직 준비되지 않아 원본을 대신 보낼 때는 원본이 캐시에 남지 않도록 재검증하게 합니다.
+     * Range, If-None-Match, If-Modified-Since 요청을 지원합니다.
+     *
+     * @param imageUuid 이미지 UUID
+     * @param size 이미지 크기 ({@link ItemImageSize} 사용 가능)
+     * @return 이미지가 없으면 404 응답을, 있으면 null을 반환합니다 (본문은 {@link FileResponseWriter}가 직접 씁니다).
+     */
+    @Operation(summary = "이미지 파일 조회", description = "UUID로 저장된 상품 이미지를 조회 (내용이 바뀌지 않으므로 장기 캐시)")
+    @GetMapping("/images/{imageUuid}.jpg")
+    public ResponseEntity<Object> getImageFile(
+            @PathVariable("imageUuid") UUID imageUuid,
+            @RequestParam(value = "size", required = false, defaultValue = "original") String size,
+            ServletWebRequest webRequest
+    ) throws IOException {
+        ItemImageSize imageSize = ItemImageSize.fromString(size);
+        Path file = itemService.getImageFile(imageUuid, imageSize);
+        if (file == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ResponseDto.notFound("해당 이미지가 존재하지 않습니다. (이미지: %s)".formatted(imageUuid)));
+        }
+        boolean ready = file.getFileName().toString().equals(imageSize.fileNameOf(imageUuid));
+        fileResponseWriter.write(webRequest, file, MediaType.IMAGE_JPEG, fileETag(file),
+                ready ? IMMUTABLE : CacheControl.noCache());
+        return null;
     }
 
     @Operation(
@@ -131,4 +409,9 @@ public class ApiV1ItemController {
         }
         return ResponseEntity.ok(ResponseDto.ok(itemService.addImageToItem(id, file)));
     }
+
+    // 파일 이름에 UUID와 크기가 담겨 있고 파일은 수정되지 않으므로 파일 이름을 ETag로 사용한다
+    private static String fileETag(Path file) {
+        return "\"" + file.getFileName() + "\"";
+    }
 }
@@ -0,0 +1,42 @@
+package com.team4.project1.domain.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 여러 상품의 재고와 가격을 한 번에 변경하는 요청을 담는 데이터 전송 객체(DTO)입니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemBatchUpdateDto {
+
+    /**
+     * 상품별 변경 내용
+     */
+    private List<Change> items;
+
+    /**
+     * 한 상품의 변경 내용입니다. 재고 변화량과 가격 중 하나 이상을 지정해야 합니다.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Change {
+
+        /** 변경할 상품의 ID */
+        private Long id;
+
+        /** 재고 변화량 (입고는 양수, 차감은 음수), 지정하지 않으면 재고를 변경하지 않습니다. */
+        private Integer stockDelta;
+
+        /** 새 가격, 지정하지 않으면 가격을 변경하지 않습니다. */
+        private Integer price;
+    }
+}
@@ -0,0 +1,50 @@
+package com.team4.project1.domain.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 상품 대량 등록 결과를 담는 데이터 전송 객체(DTO)입니다.
+ * 읽은 행 수, 등록된 행 수, 실패한 행 수와 실패한 행의 줄 번호와 사유를 담고 있습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ItemBulkImportResultDto {
+
+    /**
+     * 빈 줄과 CSV 헤더를 제외하고 읽은 행 수
+     */
+    private int totalRows;
+
+    /**
+     * 등록된 행 수
+     */
+    private int importedRows;
+
+    /**
+     * 검증이나 저장에 실패한 행 수
+     */
+    private int failedRows;
+
+    /**
+     * 실패한 행의 줄 번호와 사유, 앞에서부터 최대 개수까지만 담습니다.
+     */
+    private List<RowError> errors;
+
+    /**
+     * 실패한 행이 많아 {@link #errors}에 모두 담지 못했는지 여부
+     */
+    private boolean errorsTruncated;
+
+    /**
+     * 실패한 한 행의 줄 번호(1부터 시작)와 사유입니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private int line;
+        private String message;
+    }
+}
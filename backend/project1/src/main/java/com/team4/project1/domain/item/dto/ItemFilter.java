@@ -0,0 +1,54 @@
+package com.team4.project1.domain.item.dto;
+
+/**
+ * 상품 목록 조회에 사용하는 가격, 재고 조건입니다.
+ * @param minPrice 최소 가격 (포함), null이면 제한하지 않습니다.
+ * @param maxPrice 최대 가격 (포함), null이면 제한하지 않습니다.
+ * @param inStock true이면 재고가 1개 이상인 상품만 조회합니다.
+ */
+public record ItemFilter(Integer minPrice, Integer maxPrice, boolean inStock) {
+
+    /**
+     * 아무 조건도 없는 필터
+     */
+    public static final ItemFilter NONE = new ItemFilter(null, null, false);
+
+    public ItemFilter {
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+    }
+
+    /**
+     * 조건이 하나도 없는지 확인합니다.
+     * @return 조건이 없으면 true를 반환합니다.
+     */
+    public boolean isEmpty() {
+        return !hasPriceRange() && !inStock;
+    }
+
+    /**
+     * 가격 조건이 있는지 확인합니다.
+     * @return 최소 가격이나 최대 가격이 있으면 true를 반환합니다.
+     */
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+
+    /**
+     * 상품이 조건을 만족하는지 확인합니다. 가격 조건이 있으면 가격이 없는 상품은 제외됩니다.
+     * @param item 확인할 상품
+     * @return 조건을 만족하면 true를 반환합니다.
+     */
+    public boolean test(ItemDto item) {
+        if (hasPriceRange()) {
+            Integer price = item.getPrice();
+            if (price == null
+                    || (minPrice != null && price < minPrice)
+                    || (maxPrice != null && price > maxPrice)) {
+                return false;
+            }
+        }
+        return !inStock || (item.getStock() != null && item.getStock() > 0);
+    }
+}
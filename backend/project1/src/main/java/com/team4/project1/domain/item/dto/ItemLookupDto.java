@@ -0,0 +1,25 @@
+package com.team4.project1.domain.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 여러 상품 ID로 조회한 결과를 담는 데이터 전송 객체(DTO)입니다.
+ * 요청한 ID 순서대로 상품을 담고, 존재하지 않는 상품의 자리에는 null을 담습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ItemLookupDto {
+
+    /**
+     * 요청한 ID 순서대로 조회된 상품, 존재하지 않는 상품은 null
+     */
+    private List<ItemDto> items;
+
+    /**
+     * 존재하지 않는 상품의 ID (요청 순서, 중복 제외)
+     */
+    private List<Long> missingIds;
+}
@@ -0,0 +1,23 @@
+package com.team4.project1.domain.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색어 자동 완성 결과를 담는 데이터 전송 객체(DTO)입니다.
+ * 상품의 아이디와 이름만 담고 있습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ItemSuggestionDto {
+
+    /**
+     * 상품의 ID
+     */
+    private Long id;
+
+    /**
+     * 상품의 이름
+     */
+    private String name;
+}
@@ -0,0 +1,23 @@
+package com.team4.project1.domain.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품과 그 상품의 현재 ETag를 함께 담는 데이터 전송 객체(DTO)입니다.
+ * 여러 상품을 한 번에 변경한 응답처럼 상품마다 ETag 헤더를 보낼 수 없을 때 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ItemVersionedDto {
+
+    /**
+     * 상품 정보
+     */
+    private ItemDto item;
+
+    /**
+     * 개별 상품 조회의 If-None-Match에 사용할 수 있는 강한 ETag
+     */
+    private String etag;
+}
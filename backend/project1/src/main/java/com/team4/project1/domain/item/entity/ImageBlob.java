@@ -0,0 +1,50 @@
+package com.team4.project1.domain.item.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 내용 주소 방식으로 저장된 이미지 파일 하나를 나타내는 엔티티 클래스입니다.
+ * 이미지 파일은 내용의 SHA-256 해시로 만든 UUID를 이름으로 저장되므로, 같은 내용의 이미지는 파일 하나를 공유합니다.
+ * 몇 개의 상품이 이 파일을 사용하는지 참조 수로 관리합니다. 참조 수가 0이 되어도 바로 지우지 않고,
+ * 유예 시간이 지나도록 다시 참조되지 않으면 정리 작업이 행과 파일을 함께 삭제합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageBlob {
+
+    /**
+     * 이미지의 UUID, SHA-256 해시의 앞 16바이트로 만들며 상품의 {@code imageUuid}와 파일 이름에 사용됩니다.
+     */
+    @Id
+    private UUID id;
+
+    /**
+     * 이미지 내용의 SHA-256 해시 (16진수 64자)
+     */
+    @Column(nullable = false, unique = true, length = 64)
+    private String sha256;
+
+    /**
+     * 이미지 파일의 크기 (바이트)
+     */
+    @Column(nullable = false)
+    private Long size;
+
+    /**
+     * 이 이미지를 사용하는 상품 수
+     */
+    @Column(nullable = false)
+    private Integer refCount;
+
+    /**
+     * 참조 수가 0이 된 시각, 참조하는 상품이 있으면 null입니다.
+     */
+    private LocalDateTime unreferencedAt;
+}
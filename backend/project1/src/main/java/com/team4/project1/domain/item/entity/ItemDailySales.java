@@ -0,0 +1,46 @@
+package com.team4.project1.domain.item.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 상품의 일별 판매 수량을 저장하는 요약 엔티티 클래스입니다.
+ * 주문이 접수될 때마다 행을 추가하지 않고, 메모리에서 모은 수량을 주기적으로 (상품, 날짜) 행에 더합니다.
+ * 인기순 정렬은 주문 항목을 집계하지 않고 이 테이블의 최근 기간 행만 읽어 판매량을 계산하므로,
+ * 읽는 행 수가 주문 수가 아니라 상품 수와 기간(일)에 비례합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "item_daily_sales",
+        uniqueConstraints = @UniqueConstraint(name = "uk_item_daily_sales_item_date", columnNames = {"item_id", "sales_date"}),
+        indexes = @Index(name = "idx_item_daily_sales_date", columnList = "sales_date")) // 최근 기간 조회용
+public class ItemDailySales {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 상품의 ID
+     * 삭제된 상품의 판매 기록도 남을 수 있으므로 외래 키를 두지 않습니다.
+     */
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    /**
+     * 판매일 (주문 접수일)
+     */
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    /**
+     * 그날 판매된 수량의 합계
+     */
+    @Column(nullable = false)
+    private Long quantity;
+}
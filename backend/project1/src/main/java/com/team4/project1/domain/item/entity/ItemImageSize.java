@@ -0,0 +1,58 @@
+package com.team4.project1.domain.item.entity;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 상품 이미지의 크기 변형입니다.
+ * 업로드된 원본보다 작은 변형을 미리 만들어 두어, 목록처럼 작은 이미지로 충분한 화면이 원본을 내려받지 않도록 합니다.
+ * 원본의 가로가 변형의 최대 가로 이하이면 변형을 만들지 않고 원본을 사용합니다.
+ */
+public enum ItemImageSize {
+    /** 썸네일, 가로 최대 160px */
+    THUMB(160, 0.70f),
+    /** 목록용, 가로 최대 320px */
+    LIST(320, 0.75f),
+    /** 상세 화면용, 가로 최대 960px */
+    DETAIL(960, 0.85f),
+    /** 업로드된 원본 */
+    ORIGINAL(0, 0f);
+
+    private final int maxWidth;
+    private final float quality;
+
+    ItemImageSize(int maxWidth, float quality) {
+        this.maxWidth = maxWidth;
+        this.quality = quality;
+    }
+
+    /**
+     * 변형의 최대 가로 길이(px)를 반환합니다. 원본이면 0을 반환합니다.
+     */
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    /**
+     * 변형을 JPEG로 저장할 때의 품질(0~1)을 반환합니다. 작은 변형일수록 낮은 품질로도 차이가 잘 보이지 않습니다.
+     */
+    public float getQuality() {
+        return quality;
+    }
+
+    /**
+     * 원본 이미지 파일 이름으로 이 변형의 파일 이름을 만듭니다.
+     * @param imageUuid 원본 이미지의 UUID
+     * @return "UUID.jpg" (원본) 또는 "UUID_thumb.jpg" 형식의 파일 이름
+     */
+    public String fileNameOf(UUID imageUuid) {
+        return this == ORIGINAL ? imageUuid + ".jpg" : imageUuid + "_" + name().toLowerCase() + ".jpg";
+    }
+
+    public static ItemImageSize fromString(String value) {
+        return Arrays.stream(values())
+                .filter(size -> size.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("잘못된 이미지 크기: " + value));
+    }
+}
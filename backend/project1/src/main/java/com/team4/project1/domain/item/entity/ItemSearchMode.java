@@ -0,0 +1,16 @@
+package com.team4.project1.domain.item.entity;
+
+import java.util.Arrays;
+
+public enum ItemSearchMode {
+    NAME,
+    CHOSUNG,
+    FUZZY;
+
+    public static ItemSearchMode fromString(String value) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("잘못된 검색 방식: " + value));
+    }
+}
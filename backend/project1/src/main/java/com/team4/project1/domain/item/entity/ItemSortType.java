@@ -6,7 +6,9 @@ import java.util.Arrays;
 
 public enum ItemSortType {
     NAME("name"),
-    PRICE("price");
+    PRICE("price"),
+    /** 최근 판매량이 많은 순 ({@code item.popularity.window-days} 기간의 판매 수량 합계) */
+    POPULARITY("popularity");
 
     private final String fieldName;
 
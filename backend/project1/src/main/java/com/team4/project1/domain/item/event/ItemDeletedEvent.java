@@ -0,0 +1,8 @@
+package com.team4.project1.domain.item.event;
+
+/**
+ * 상품이 삭제되었을 때 발행되는 이벤트입니다.
+ * @param itemId 삭제된 상품의 ID
+ */
+public record ItemDeletedEvent(Long itemId) {
+}
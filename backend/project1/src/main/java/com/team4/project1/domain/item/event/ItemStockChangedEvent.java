@@ -0,0 +1,11 @@
+package com.team4.project1.domain.item.event;
+
+import java.util.Set;
+
+/**
+ * 주문 등으로 상품의 재고가 변경되었을 때 발행되는 이벤트입니다.
+ * 재고 값은 담지 않으며, 받은 쪽에서 변경된 상품을 모아 두었다가 현재 재고를 한 번에 다시 읽습니다.
+ * @param itemIds 재고가 변경된 상품 ID 목록
+ */
+public record ItemStockChangedEvent(Set<Long> itemIds) {
+}
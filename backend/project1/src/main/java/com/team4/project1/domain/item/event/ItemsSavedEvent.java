@@ -0,0 +1,12 @@
+package com.team4.project1.domain.item.event;
+
+import com.team4.project1.domain.item.dto.ItemDto;
+
+import java.util.List;
+
+/**
+ * 상품이 추가되거나 수정되었을 때 발행되는 이벤트입니다.
+ * @param items 저장된 상품 목록
+ */
+public record ItemsSavedEvent(List<ItemDto> items) {
+}
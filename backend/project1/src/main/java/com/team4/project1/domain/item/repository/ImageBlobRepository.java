@@ -0,0 +1,78 @@
+package com.team4.project1.domain.item.repository;
+
+import com.team4.project1.domain.item.entity.ImageBlob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 이미지 파일의 참조 수({@link ImageBlob})를 관리하는 리포지토리 인터페이스입니다.
+ * 참조 수는 조회 후 저장하지 않고 하나의 UPDATE 문장으로 바꾸므로, 동시에 같은 이미지를 등록하거나 교체해도 변경이 유실되지 않습니다.
+ */
+@Repository
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, UUID> {
+
+    /**
+     * 참조 수 0으로 이미지를 등록합니다.
+     * @param id 이미지 UUID
+     * @param sha256 이미지 내용의 SHA-256 해시
+     * @param size 이미지 파일의 크기
+     * @param unreferencedAt 등록 시각
+     * @return 저장된 행의 수를 반환합니다.
+     * @throws org.springframework.dao.DataIntegrityViolationException 이미 등록된 이미지인 경우 예외 발생
+     */
+    @Modifying
+    @Query(value = "INSERT INTO image_blob (id, sha256, size, ref_count, unreferenced_at) " +
+            "VALUES (:id, :sha256, :size, 0, :unreferencedAt)", nativeQuery = true)
+    int insertUnreferenced(@Param("id") UUID id, @Param("sha256") String sha256, @Param("size") long size,
+                           @Param("unreferencedAt") LocalDateTime unreferencedAt);
+
+    /**
+     * 이미지의 참조 수를 1 늘립니다.
+     * @param id 이미지 UUID
+     * @return 변경된 행의 수를 반환합니다. 등록되지 않은 이미지면 0을 반환합니다.
+     */
+    @Modifying
+    @Query("UPDATE ImageBlob b SET b.refCount = b.refCount + 1, b.unreferencedAt = NULL WHERE b.id = :id")
+    int increaseRefCount(@Param("id") UUID id);
+
+    /**
+     * 이미지의 참조 수를 1 줄이고, 0이 되면 그 시각을 기록합니다.
+     * (MySQL은 SET 절을 왼쪽부터 차례로 적용하므로 참조 수를 바꾸기 전에 시각을 먼저 기록한다)
+     * @param id 이미지 UUID
+     * @param now 현재 시각
+     * @return 변경된 행의 수를 반환합니다. 등록되지 않은 이미지면 0을 반환합니다.
+     */
+    @Modifying
+    @Query("UPDATE ImageBlob b " +
+            "SET b.unreferencedAt = CASE WHEN b.refCount = 1 THEN :now ELSE NULL END, b.refCount = b.refCount - 1 " +
+            "WHERE b.id = :id AND b.refCount > 0")
+    int decreaseRefCount(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    /**
+     * 주어진 시각 이전부터 참조하는 상품이 없는 이미지의 UUID를 조회합니다.
+     * @param before 기준 시각
+     * @param pageable 조회할 최대 개수
+     * @return 이미지 UUID 목록을 반환합니다.
+     */
+    @Query("SELECT b.id FROM ImageBlob b WHERE b.refCount = 0 AND b.unreferencedAt < :before")
+    List<UUID> findUnreferencedIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    /**
+     * 주어진 시각 이전부터 참조하는 상품이 없는 이미지를 삭제합니다.
+     * 삭제한 행은 트랜잭션이 끝날 때까지 잠겨 있으므로, 그동안 같은 이미지의 참조 수를 늘리려는 요청은 기다린 뒤 새로 등록합니다.
+     * @param id 이미지 UUID
+     * @param before 기준 시각
+     * @return 삭제된 행의 수를 반환합니다. 그 사이 다시 참조되었으면 0을 반환합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM ImageBlob b WHERE b.id = :id AND b.refCount = 0 AND b.unreferencedAt < :before")
+    int deleteUnreferenced(@Param("id") UUID id, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,34 @@
+package com.team4.project1.domain.item.repository;
+
+import com.team4.project1.domain.item.entity.ItemDailySales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 상품의 일별 판매 수량({@link ItemDailySales})을 관리하는 리포지토리 인터페이스입니다.
+ */
+@Repository
+public interface ItemDailySalesRepository extends JpaRepository<ItemDailySales, Long>, ItemDailySalesRepositoryCustom {
+
+    /**
+     * 주어진 날짜 이후의 일별 판매 수량을 조회합니다. 서버 시작 시 인기순 집계 기간을 채우는 데 사용합니다.
+     * @param from 조회를 시작할 판매일 (포함)
+     * @return 일별 판매 수량 목록을 반환합니다.
+     */
+    List<ItemDailySales> findAllBySalesDateGreaterThanEqual(LocalDate from);
+
+    /**
+     * 주어진 날짜 이전의 일별 판매 수량을 삭제합니다. 집계 기간이 지난 행이 쌓이지 않도록 합니다.
+     * @param before 삭제 기준 판매일 (포함하지 않음)
+     * @return 삭제된 행의 수를 반환합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM ItemDailySales s WHERE s.salesDate < :before")
+    int deleteBySalesDateBefore(@Param("before") LocalDate before);
+}
@@ -0,0 +1,18 @@
+package com.team4.project1.domain.item.repository;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * {@link ItemDailySalesRepository}에 JDBC 기반의 판매 수량 누적 기능을 추가하는 커스텀 리포지토리 인터페이스입니다.
+ */
+public interface ItemDailySalesRepositoryCustom {
+
+    /**
+     * 하루치 상품별 판매 수량을 기존 행에 더합니다. 행이 없는 상품은 새 행을 추가합니다.
+     * 기존 행은 하나의 UPDATE 배치로 더하고, 갱신된 행이 없는 상품만 INSERT 배치로 추가합니다.
+     * @param salesDate 판매일
+     * @param quantities 상품 ID를 키로, 더할 판매 수량을 값으로 하는 맵
+     */
+    void addQuantities(LocalDate salesDate, Map<Long, Long> quantities);
+}
@@ -0,0 +1,75 @@
+package com.team4.project1.domain.item.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ItemDailySalesRepositoryCustom}의 구현 클래스입니다.
+ * {@link NamedParameterJdbcTemplate}을 사용하며, 호출한 쪽의 트랜잭션에 함께 참여합니다.
+ */
+@RequiredArgsConstructor
+public class ItemDailySalesRepositoryCustomImpl implements ItemDailySalesRepositoryCustom {
+
+    private static final String ADD_QUANTITY_SQL =
+            "UPDATE item_daily_sales SET quantity = quantity + ? WHERE item_id = ? AND sales_date = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO item_daily_sales (item_id, sales_date, quantity) VALUES (?, ?, ?)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addQuantities(LocalDate salesDate, Map<Long, Long> quantities) {
+        List<Map.Entry<Long, Long>> lines = new ArrayList<>(quantities.entrySet());
+        Date date = Date.valueOf(salesDate);
+
+        int[] updatedRows = jdbcTemplate.getJdbcTemplate().batchUpdate(ADD_QUANTITY_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Long, Long> line = lines.get(i);
+                ps.setLong(1, line.getValue());
+                ps.setLong(2, line.getKey());
+                ps.setDate(3, date);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return lines.size();
+            }
+        });
+
+        // 갱신된 행이 0인 상품은 그날의 첫 판매이므로 새 행을 추가한다
+        List<Map.Entry<Long, Long>> newLines = new ArrayList<>();
+        for (int i = 0; i < updatedRows.length; i++) {
+            if (updatedRows[i] == 0) {
+                newLines.add(lines.get(i));
+            }
+        }
+        if (newLines.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Long, Long> line = newLines.get(i);
+                ps.setLong(1, line.getKey());
+                ps.setDate(2, date);
+                ps.setLong(3, line.getValue());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return newLines.size();
+            }
+        });
+    }
+}
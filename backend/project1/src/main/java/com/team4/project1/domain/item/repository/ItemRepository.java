@@ -1,10 +1,18 @@
 package com.team4.project1.domain.item.repository;
 
 import com.team4.project1.domain.item.entity.Item;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 /**
  * {@link Item} 엔티티에 대한 데이터베이스 작업을 처리하는 리포지토리 인터페이스입니다.
@@ -12,7 +20,7 @@ import org.springframework.stereotype.Repository;
  * {@link Item} 엔티티와 관련된 데이터 검색 기능을 확장한 메서드를 정의하고 있습니다.
  */
 @Repository
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositoryCustom {
     /**
      * 주어진 키워드를 포함하는 상품의 목록을 이름 기준으로 오름차순 정렬하고 반환합니다.
      * @param keyword 검색할 키워드
@@ -22,4 +30,38 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     Page<Item> findAllByNameContaining(String keyword, Pageable pageable);
 
     Page<Item> findAllByNameContainingOrderByPriceAsc(String name, Pageable pageable);
+
+    /**
+     * 재고가 충분한 경우에만 상품의 재고를 하나의 UPDATE 문장으로 차감합니다.
+     * 조회 후 저장하는 방식과 달리 동시에 들어온 주문의 차감이 유실되지 않습니다.
+     * @param id 차감할 상품의 ID
+     * @param quantity 차감할 수량
+     * @return 변경된 행의 수를 반환합니다. 재고가 부족하거나 상품이 없으면 0을 반환합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Item i SET i.stock = i.stock - :quantity WHERE i.id = :id AND i.stock >= :quantity")
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * 상품의 재고를 주어진 값으로 덮어씁니다.
+     * 메모리에서 관리하던 분할 재고를 DB에 기록할 때 사용합니다.
+     * @param id 상품의 ID
+     * @param stock 기록할 재고 수량
+     * @return 변경된 행의 수를 반환합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Item i SET i.stock = :stock WHERE i.id = :id")
+    int updateStock(@Param("id") Long id, @Param("stock") int stock);
+
+    /**
+     * 쓰기 잠금을 걸고 상품을 조회합니다.
+     * 잠금은 현재 트랜잭션이 끝날 때까지 유지되어, 그 사이의 재고 차감이 대기하게 됩니다.
+     * @param id 조회할 상품의 ID
+     * @return 조회된 상품을 {@link Optional}로 감싸 반환합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Item i WHERE i.id = :id")
+    Optional<Item> findByIdForUpdate(@Param("id") Long id);
 }
@@ -0,0 +1,52 @@
+package com.team4.project1.domain.item.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ItemRepository}에 JDBC 기반의 재고 처리 기능을 추가하는 커스텀 리포지토리 인터페이스입니다.
+ * 여러 상품의 재고를 하나의 배치 문장으로 차감하고, 영속성 컨텍스트를 거치지 않고 현재 재고를 조회합니다.
+ * 같은 값으로 바꾸는 여러 상품의 재고, 가격은 IN 조건을 사용한 하나의 UPDATE 문장으로 변경합니다.
+ */
+public interface ItemRepositoryCustom {
+
+    /**
+     * 여러 상품의 재고를 하나의 JDBC 배치로 차감합니다.
+     * 각 상품은 재고가 차감할 수량 이상인 경우에만 차감되며, 조건을 만족하지 못한 상품은 변경되지 않습니다.
+     * @param quantities 상품 ID를 키로, 차감할 수량을 값으로 하는 맵
+     * @return 재고가 부족하거나 존재하지 않아 차감되지 않은 상품 ID 목록을 반환합니다.
+     */
+    List<Long> decreaseStocks(Map<Long, Integer> quantities);
+
+    /**
+     * 여러 상품의 재고를 하나의 JDBC 배치로 증가시킵니다.
+     * 일부 상품의 차감에 실패했을 때 이미 차감한 수량을 되돌리는 데 사용합니다.
+     * @param quantities 상품 ID를 키로, 증가시킬 수량을 값으로 하는 맵
+     */
+    void increaseStocks(Map<Long, Integer> quantities);
+
+    /**
+     * 여러 상품의 재고를 같은 수량만큼 하나의 UPDATE 문장으로 변경합니다.
+     * 변경 후 재고가 음수가 되는 상품은 변경되지 않습니다.
+     * @param itemIds 변경할 상품 ID 목록
+     * @param delta 재고 변화량 (차감은 음수)
+     * @return 변경된 행의 수를 반환합니다.
+     */
+    int addStocks(Collection<Long> itemIds, int delta);
+
+    /**
+     * 여러 상품의 가격을 같은 값으로 하나의 UPDATE 문장으로 변경합니다.
+     * @param itemIds 변경할 상품 ID 목록
+     * @param price 새 가격
+     * @return 변경된 행의 수를 반환합니다.
+     */
+    int updatePrices(Collection<Long> itemIds, int price);
+
+    /**
+     * 주어진 상품들의 현재 재고를 데이터베이스에서 직접 조회합니다.
+     * @param itemIds 조회할 상품 ID 목록
+     * @return 상품 ID를 키로, 현재 재고를 값으로 하는 맵을 반환합니다. 존재하지 않는 상품은 포함되지 않습니다.
+     */
+    Map<Long, Integer> findStocks(Collection<Long> itemIds);
+}
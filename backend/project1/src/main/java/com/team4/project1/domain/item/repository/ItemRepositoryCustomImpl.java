@@ -0,0 +1,121 @@
+package com.team4.project1.domain.item.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ItemRepositoryCustom}의 구현 클래스입니다.
+ * {@link NamedParameterJdbcTemplate}을 사용하며, 호출한 쪽의 트랜잭션에 함께 참여합니다.
+ */
+@RequiredArgsConstructor
+public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
+
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE item SET stock = stock - ? WHERE id = ? AND stock >= ?";
+
+    private static final String INCREASE_STOCK_SQL =
+            "UPDATE item SET stock = stock + ? WHERE id = ?";
+
+    private static final String ADD_STOCKS_SQL =
+            "UPDATE item SET stock = stock + :delta WHERE id IN (:ids) AND stock + :delta >= 0";
+
+    private static final String UPDATE_PRICES_SQL =
+            "UPDATE item SET price = :price WHERE id IN (:ids)";
+
+    private static final String FIND_STOCKS_SQL =
+            "SELECT id, stock FROM item WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> decreaseStocks(Map<Long, Integer> quantities) {
+        List<Map.Entry<Long, Integer>> lines = new ArrayList<>(quantities.entrySet());
+
+        int[] updatedRows = jdbcTemplate.getJdbcTemplate().batchUpdate(DECREASE_STOCK_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Long, Integer> line = lines.get(i);
+                ps.setInt(1, line.getValue());
+                ps.setLong(2, line.getKey());
+                ps.setInt(3, line.getValue());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return lines.size();
+            }
+        });
+
+        // 갱신된 행이 0인 문장은 재고가 부족하거나 상품이 없는 경우이다.
+        // (드라이버가 SUCCESS_NO_INFO를 반환하면 성공으로 간주하므로 배치 재작성 옵션은 사용하지 않는다)
+        List<Long> shortItemIds = new ArrayList<>();
+        for (int i = 0; i < updatedRows.length; i++) {
+            if (updatedRows[i] == 0) {
+                shortItemIds.add(lines.get(i).getKey());
+            }
+        }
+        return shortItemIds;
+    }
+
+    @Override
+    public void increaseStocks(Map<Long, Integer> quantities) {
+        List<Map.Entry<Long, Integer>> lines = new ArrayList<>(quantities.entrySet());
+
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INCREASE_STOCK_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Long, Integer> line = lines.get(i);
+                ps.setInt(1, line.getValue());
+                ps.setLong(2, line.getKey());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return lines.size();
+            }
+        });
+    }
+
+    @Override
+    public int addStocks(Collection<Long> itemIds, int delta) {
+        if (itemIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(ADD_STOCKS_SQL, new MapSqlParameterSource()
+                .addValue("ids", itemIds)
+                .addValue("delta", delta));
+    }
+
+    @Override
+    public int updatePrices(Collection<Long> itemIds, int price) {
+        if (itemIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(UPDATE_PRICES_SQL, new MapSqlParameterSource()
+                .addValue("ids", itemIds)
+                .addValue("price", price));
+    }
+
+    @Override
+    public Map<Long, Integer> findStocks(Collection<Long> itemIds) {
+        Map<Long, Integer> stocks = new HashMap<>();
+        if (itemIds.isEmpty()) {
+            return stocks;
+        }
+        jdbcTemplate.query(FIND_STOCKS_SQL, new MapSqlParameterSource("ids", itemIds),
+                rs -> {
+                    stocks.put(rs.getLong("id"), rs.getInt("stock"));
+                });
+        return stocks;
+    }
+}
@@ -0,0 +1,229 @@
+package com.team4.project1.domain.item.service;
+
+import com.team4.project1.domain.item.repository.ItemRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 핫 아이템(주문이 몰리는 상품)의 분할 재고를 관리하는 클래스입니다.
+ * 등록된 상품의 재고는 메모리의 {@link StripedStock}에서 차감되며,
+ * 일정 주기마다 합산된 재고를 DB에 기록(write-behind)합니다.
+ * 재고가 메모리에 있으므로 서버가 하나인 환경을 전제로 하며,
+ * 서버가 비정상 종료되면 마지막 기록 이후의 차감분은 DB에 반영되지 않습니다.
+ * 차감과 되돌리기는 상품별 읽기 잠금을, 등록 해제는 쓰기 잠금을 사용하므로,
+ * 해제 시 DB에 기록하는 합계와 분할 재고에서 오간 수량이 어긋나지 않습니다.
+ */
+@Slf4j
+@Component
+public class HotItemStockRegistry {
+
+    /**
+     * 핫 아이템 재고 차감 결과입니다.
+     */
+    public enum Result {
+        /** 핫 아이템이 아니므로 DB에서 차감해야 합니다. */
+        NOT_HOT,
+        /** 분할 재고에서 차감되었습니다. */
+        REDUCED,
+        /** 분할 재고가 부족합니다. */
+        INSUFFICIENT
+    }
+
+    /**
+     * 핫 아이템의 분할 재고와 등록 해제를 차감, 되돌리기와 배타적으로 처리하기 위한 잠금입니다.
+     * @param stock 분할 재고
+     * @param lock 차감, 되돌리기는 읽기 잠금을, 등록 해제는 쓰기 잠금을 사용합니다.
+     */
+    private record HotStock(StripedStock stock, ReentrantReadWriteLock lock) {
+    }
+
+    private final ItemRepository itemRepository;
+
+    /** 등록 해제 뒤 DB에 되돌리는 수량은 호출한 쪽의 트랜잭션 결과와 관계없이 반영되어야 하므로 새 트랜잭션을 사용한다 */
+    private final TransactionTemplate requiresNew;
+
+    private final Map<Long, HotStock> stocks = new ConcurrentHashMap<>();
+
+    /** 상품별로 마지막으로 DB에 기록한 재고 */
+    private final Map<Long, Integer> flushedStocks = new ConcurrentHashMap<>();
+
+    public HotItemStockRegistry(ItemRepository itemRepository, PlatformTransactionManager transactionManager) {
+        this.itemRepository = itemRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 상품을 핫 아이템으로 등록하고 재고를 버킷으로 나눕니다.
+     * @param itemId 상품 ID
+     * @param stock 현재 재고 수량
+     * @param stripes 버킷 수
+     * @throws IllegalStateException 이미 핫 아이템으로 등록된 경우 예외 발생
+     */
+    public synchronized void register(Long itemId, int stock, int stripes) {
+        if (stocks.containsKey(itemId)) {
+            throw new IllegalStateException("이미 분할 재고가 활성화된 상품입니다. (상품 ID: " + itemId + ")");
+        }
+        stocks.put(itemId, new HotStock(new StripedStock(stock, stripes), new ReentrantReadWriteLock()));
+        flushedStocks.put(itemId, stock);
+    }
+
+    /**
+     * 핫 아이템 등록을 해제하고 남은 재고를 DB에 기록합니다.
+     * 진행 중인 차감, 되돌리기가 끝날 때까지 기다린 뒤 분할 재고를 닫고, DB에 기록할 때까지 잠금을 유지합니다.
+     * 이후의 차감은 DB에서, 되돌리기는 DB의 재고를 늘리는 것으로 처리됩니다.
+     * @param itemId 상품 ID
+     * @throws IllegalStateException 핫 아이템으로 등록되지 않은 경우 예외 발생
+     */
+    public synchronized void unregister(Long itemId) {
+        HotStock hot = stocks.get(itemId);
+        if (hot == null) {
+            throw new IllegalStateException("분할 재고가 활성화되지 않은 상품입니다. (상품 ID: " + itemId + ")");
+        }
+        Lock lock = hot.lock().writeLock();
+        lock.lock();
+        try {
+            hot.stock().close();
+            stocks.remove(itemId);
+            flushedStocks.remove(itemId);
+            itemRepository.updateStock(itemId, hot.stock().sum());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 핫 아이템이면 분할 재고에서 차감합니다.
+     * @param itemId 상품 ID
+     * @param quantity 차감할 수량
+     * @return 차감 결과를 반환합니다.
+     */
+    public Result tryReduce(Long itemId, int quantity) {
+        HotStock hot = stocks.get(itemId);
+        if (hot == null) {
+            return Result.NOT_HOT;
+        }
+        Lock lock = hot.lock().readLock();
+        lock.lock();
+        try {
+            // 조회한 뒤 등록이 해제되었다면 DB에서 차감하도록 한다
+            if (hot.stock().isClosed()) {
+                return Result.NOT_HOT;
+            }
+            return hot.stock().tryTake(quantity) ? Result.REDUCED : Result.INSUFFICIENT;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백되면 분할 재고에서 차감한 수량을 되돌리도록 등록합니다.
+     * @param quantities 상품 ID를 키로, 차감한 수량을 값으로 하는 맵
+     */
+    public void restoreOnRollback(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    quantities.forEach(HotItemStockRegistry.this::restore);
+                }
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 핫 아이템의 재고를 늘리도록 등록합니다.
+     * 입고처럼 롤백될 수 있는 재고 증가가 커밋 전에 판매되지 않도록 합니다.
+     * @param quantities 상품 ID를 키로, 늘릴 수량을 값으로 하는 맵
+     */
+    public void addOnCommit(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            quantities.forEach(this::restore);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                quantities.forEach(HotItemStockRegistry.this::restore);
+            }
+        });
+    }
+
+    /**
+     * 분할 재고에 수량을 되돌립니다. 그 사이 등록이 해제되었다면 DB의 재고를 늘립니다.
+     * 등록 해제와 같은 상품별 잠금을 사용하므로, 해제 시 기록되는 합계에서 되돌린 수량이 빠지지 않습니다.
+     * @param itemId 상품 ID
+     * @param quantity 되돌릴 수량
+     */
+    public void restore(Long itemId, int quantity) {
+        HotStock hot = stocks.get(itemId);
+        if (hot != null) {
+            Lock lock = hot.lock().readLock();
+            lock.lock();
+            try {
+                if (!hot.stock().isClosed()) {
+                    hot.stock().give(quantity);
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        // 해제 시 기록된 합계에는 이 수량이 빠져 있으므로 DB에 더한다
+        requiresNew.executeWithoutResult(status -> itemRepository.increaseStocks(Map.of(itemId, quantity)));
+    }
+
+    /**
+     * 핫 아이템의 현재 재고(모든 버킷의 합)를 반환합니다.
+     * @param itemId 상품 ID
+     * @return 핫 아이템이면 합산된 재고를, 아니면 빈 값을 반환합니다.
+     */
+    public OptionalInt getStock(Long itemId) {
+        HotStock hot = stocks.get(itemId);
+        return hot != null ? OptionalInt.of(hot.stock().sum()) : OptionalInt.empty();
+    }
+
+    public boolean isHot(Long itemId) {
+        return stocks.containsKey(itemId);
+    }
+
+    /**
+     * 핫 아이템들의 합산 재고를 주기적으로 DB에 기록합니다.
+     * 마지막 기록 이후 재고가 바뀐 상품만 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${item.hot-stock.flush-interval-ms:1000}")
+    @PreDestroy
+    public synchronized void flush() {
+        stocks.forEach((itemId, hot) -> {
+            int sum = hot.stock().sum();
+            if (Integer.valueOf(sum).equals(flushedStocks.get(itemId))) {
+                return;
+            }
+            try {
+                itemRepository.updateStock(itemId, sum);
+                flushedStocks.put(itemId, sum);
+            } catch (RuntimeException e) {
+                log.warn("분할 재고 기록 실패 (상품 ID: {}): {}", itemId, e.getMessage());
+            }
+        });
+    }
+}
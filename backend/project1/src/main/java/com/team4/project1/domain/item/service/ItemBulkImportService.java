@@ -0,0 +1,172 @@
+package com.team4.project1.domain.item.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.project1.domain.item.dto.ItemBulkImportResultDto;
+import com.team4.project1.domain.item.entity.Item;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 또는 NDJSON 본문으로 상품을 대량 등록하는 서비스 클래스입니다.
+ * 본문을 한 줄씩 읽어 검증하고({@link ItemImportReader}), 올바른 행을 {@value #CHUNK_SIZE}개씩 모아 한 트랜잭션으로 저장합니다.
+ * 트랜잭션 안에서는 {@value #FLUSH_SIZE}개마다 flush로 JDBC 배치를 보내고 영속성 컨텍스트를 비우므로,
+ * 본문 크기와 관계없이 한 번에 메모리에 올라가는 상품은 한 묶음 분량뿐입니다.
+ * 등록이 끝나면 상품마다 이벤트를 발행하는 대신 카탈로그를 한 번만 다시 읽습니다.
+ */
+@Slf4j
+@Service
+public class ItemBulkImportService {
+
+    /** 결과에 담는 실패 행의 최대 개수 */
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    /** 한 트랜잭션으로 저장하는 행 수, 실패하면 이 묶음만 롤백된 뒤 나누어 다시 저장합니다. */
+    static final int CHUNK_SIZE = 1000;
+
+    /** flush/clear 단위, hibernate.jdbc.batch_size 및 item_seq의 할당 단위와 같습니다. */
+    static final int FLUSH_SIZE = 50;
+
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ItemCatalogService itemCatalogService;
+
+    public ItemBulkImportService(
+            EntityManager em,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            ItemCatalogService itemCatalogService
+    ) {
+        this.em = em;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.itemCatalogService = itemCatalogService;
+    }
+
+    /**
+     * CSV 본문으로 상품을 등록합니다. 첫 줄은 name, price, stock 열을 포함한 헤더여야 합니다.
+     * @param body 요청 본문 (UTF-8)
+     * @return 등록 결과를 반환합니다.
+     * @throws IllegalArgumentException 헤더가 올바르지 않은 경우 예외 발생
+     */
+    public ItemBulkImportResultDto importCsv(InputStream body) {
+        return importItems(body, ItemImportReader.Format.CSV);
+    }
+
+    /**
+     * NDJSON 본문으로 상품을 등록합니다. 한 줄에 {"name", "price", "stock"} 객체 하나를 담습니다.
+     * @param body 요청 본문 (UTF-8)
+     * @return 등록 결과를 반환합니다.
+     */
+    public ItemBulkImportResultDto importNdjson(InputStream body) {
+        return importItems(body, ItemImportReader.Format.NDJSON);
+    }
+
+    private ItemBulkImportResultDto importItems(InputStream body, ItemImportReader.Format format) {
+        ItemImportReader reader = new ItemImportReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), format, objectMapper);
+        List<ItemImportReader.Row> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<ItemBulkImportResultDto.RowError> errors = new ArrayList<>();
+        int total = 0;
+        int imported = 0;
+        int failed = 0;
+        try {
+            ItemImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                total++;
+                if (!row.isValid()) {
+                    failed++;
+                    addError(errors, row.line(), row.error());
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    int saved = saveChunk(chunk, errors);
+                    imported += saved;
+                    failed += chunk.size() - saved;
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                int saved = saveChunk(chunk, errors);
+                imported += saved;
+                failed += chunk.size() - saved;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // 중간에 본문 읽기가 끊겨도 이미 커밋된 묶음은 카탈로그에 반영
+            if (imported > 0) {
+                itemCatalogService.reload();
+            }
+        }
+        log.info("상품 대량 등록: 읽은 행 {}, 등록 {}, 실패 {}", total, imported, failed);
+        return new ItemBulkImportResultDto(total, imported, failed, errors, failed > errors.size());
+    }
+
+    /**
+     * 한 묶음을 한 트랜잭션으로 저장합니다.
+     * 저장에 실패하면 묶음을 {@value #FLUSH_SIZE}개씩, 그래도 실패한 작은 묶음은 한 행씩 나누어 다시 저장하므로,
+     * 문제가 있는 행만 실제 오류 사유와 함께 실패로 기록하고 나머지 행은 등록됩니다.
+     * @return 저장된 행 수
+     */
+    private int saveChunk(List<ItemImportReader.Row> chunk, List<ItemBulkImportResultDto.RowError> errors) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < chunk.size(); i++) {
+                    ItemImportReader.Row row = chunk.get(i);
+                    em.persist(new Item(row.name(), row.price(), row.stock()));
+                    if ((i + 1) % FLUSH_SIZE == 0) {
+                        em.flush();
+                        em.clear();
+                    }
+                }
+                em.flush();
+                em.clear();
+            });
+            return chunk.size();
+        } catch (DataAccessException | TransactionException | PersistenceException e) {
+            em.clear();
+            // 트랜잭션을 시작하지 못했다면(DB 연결 실패 등) 행의 문제가 아니므로 나누어 다시 시도하지 않는다
+            if (chunk.size() == 1 || e instanceof CannotCreateTransactionException) {
+                log.warn("상품 대량 등록 저장 실패 ({}~{}번째 줄)", chunk.getFirst().line(), chunk.getLast().line(), e);
+                String message = "저장 중 오류가 발생했습니다: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                for (ItemImportReader.Row row : chunk) {
+                    addError(errors, row.line(), message);
+                }
+                return 0;
+            }
+            log.debug("상품 대량 등록 묶음 저장 실패, 나누어 다시 저장 ({}~{}번째 줄)",
+                    chunk.getFirst().line(), chunk.getLast().line());
+            int retrySize = chunk.size() > FLUSH_SIZE ? FLUSH_SIZE : 1;
+            int saved = 0;
+            for (int from = 0; from < chunk.size(); from += retrySize) {
+                saved += saveChunk(chunk.subList(from, Math.min(from + retrySize, chunk.size())), errors);
+            }
+            return saved;
+        }
+    }
+
+    private static void addError(List<ItemBulkImportResultDto.RowError> errors, int line, String message) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new ItemBulkImportResultDto.RowError(line, message));
+        }
+    }
+}
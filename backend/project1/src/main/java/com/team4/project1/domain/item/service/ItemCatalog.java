@@ -0,0 +1,446 @@
+package com.team4.project1.domain.item.service;
+
+import com.team4.project1.domain.item.dto.ItemDto;
+import com.team4.project1.domain.item.dto.ItemFilter;
+import com.team4.project1.domain.item.entity.ItemSortType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 상품 카탈로그의 변경 불가능한 스냅샷입니다.
+ * 모든 상품을 이름 순, 가격 순, 인기 순으로 미리 정렬해 두어 목록 조회, 검색, 정렬, 페이징을 DB 없이 처리합니다.
+ * 인기 순은 스냅샷에 함께 담긴 상품별 최근 판매량({@link ItemSalesCounter} 참고)이 많은 순이며, 판매량이 같으면 이름 순입니다.
+ * 가격, 재고 조건은 기본형 배열로 만든 열 저장소({@link ItemColumns})에서 거릅니다.
+ * 상품이 변경되면 기존 스냅샷을 수정하지 않고 변경 내용을 반영한 새 스냅샷을 만듭니다(copy-on-write).
+ * 따라서 여러 스레드가 잠금 없이 같은 스냅샷을 읽을 수 있습니다.
+ */
+public final class ItemCatalog {
+
+    private static final Comparator<ItemDto> BY_NAME = Comparator
+            .comparing(ItemDto::getName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ItemDto::getId);
+
+    private static final Comparator<ItemDto> BY_PRICE = Comparator
+            .comparing(ItemDto::getPrice, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ItemDto::getId);
+
+    private final long version;
+    private final Map<Long, ItemDto> byId;
+    private final ItemDto[] byName;
+    private final ItemDto[] byPrice;
+    private final ItemDto[] byPopularity;
+    private final ItemColumns columns;
+    /** 상품 ID별 최근 판매량, 판매량이 없는 상품은 담기지 않습니다. */
+    private final Map<Long, Long> sales;
+    private final Comparator<ItemDto> byPopularityComparator;
+
+    private ItemCatalog(long version, Map<Long, ItemDto> byId, ItemDto[] byName, ItemDto[] byPrice,
+                        ItemDto[] byPopularity, ItemColumns columns, Map<Long, Long> sales) {
+        this.version = version;
+        this.byId = byId;
+        this.byName = byName;
+        this.byPrice = byPrice;
+        this.byPopularity = byPopularity;
+        this.columns = columns;
+        this.sales = sales;
+        this.byPopularityComparator = popularityComparator(sales);
+    }
+
+    /**
+     * 주어진 상품들로 스냅샷을 생성합니다.
+     * @param version 스냅샷 버전
+     * @param items 카탈로그에 포함할 상품 목록
+     * @return 생성된 스냅샷을 반환합니다.
+     */
+    public static ItemCatalog of(long version, Collection<ItemDto> items) {
+        return of(version, items, Map.of());
+    }
+
+    /**
+     * 주어진 상품들과 판매량으로 스냅샷을 생성합니다.
+     * @param version 스냅샷 버전
+     * @param items 카탈로그에 포함할 상품 목록
+     * @param sales 상품 ID를 키로, 최근 판매량을 값으로 하는 맵
+     * @return 생성된 스냅샷을 반환합니다.
+     */
+    public static ItemCatalog of(long version, Collection<ItemDto> items, Map<Long, Long> sales) {
+        Map<Long, ItemDto> byId = new HashMap<>(items.size() * 2);
+        for (ItemDto item : items) {
+            byId.put(item.getId(), copy(item));
+        }
+        return sorted(version, byId, Map.copyOf(sales));
+    }
+
+    /**
+     * 상품이 하나도 없는 스냅샷을 생성합니다.
+     * @return 비어 있는 스냅샷을 반환합니다.
+     */
+    public static ItemCatalog empty() {
+        return of(0, List.of());
+    }
+
+    /**
+     * 스냅샷의 버전을 반환합니다. 스냅샷이 바뀔 때마다 증가합니다.
+     * @return 스냅샷 버전
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 카탈로그의 상품 수를 반환합니다.
+     * @return 상품 수
+     */
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * 인기 순 정렬에 사용하는 상품별 최근 판매량을 반환합니다.
+     * @return 상품 ID를 키로, 판매량을 값으로 하는 변경 불가능한 맵
+     */
+    public Map<Long, Long> getSales() {
+        return sales;
+    }
+
+    /**
+     * 다른 스냅샷과 비교해 추가, 삭제되었거나 내용이 바뀐 상품의 ID를 반환합니다.
+     * 전체를 다시 읽은 스냅샷에서 실제로 바뀐 상품만 골라낼 때 사용합니다.
+     * @param previous 비교할 이전 스냅샷
+     * @return 바뀐 상품 ID 집합
+     */
+    public Set<Long> changedIds(ItemCatalog previous) {
+        Set<Long> changed = new HashSet<>();
+        byId.forEach((id, item) -> {
+            if (!sameContent(item, previous.byId.get(id))) {
+                changed.add(id);
+            }
+        });
+        for (Long id : previous.byId.keySet()) {
+            if (!byId.containsKey(id)) {
+                changed.add(id);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * ID로 상품을 조회합니다.
+     * @param itemId 조회할 상품의 ID
+     * @return 상품이 있으면 복사본을, 없으면 빈 값을 반환합니다.
+     */
+    public Optional<ItemDto> get(Long itemId) {
+        return Optional.ofNullable(byId.get(itemId)).map(ItemCatalog::copy);
+    }
+
+    /**
+     * 이름에 키워드가 포함된 상품을 주어진 기준으로 정렬해 한 페이지만큼 반환합니다. 대소문자는 구분하지 않습니다.
+     * 이름이나 가격이 같으면 ID 순으로 정렬됩니다.
+     * @param sortType 정렬 기준
+     * @param keyword 검색 키워드, 비어 있으면 모든 상품을 반환합니다.
+     * @param pageable 페이지 정보 (정렬 정보는 사용하지 않습니다)
+     * @return 검색된 상품의 페이지를 반환합니다.
+     */
+    public Page<ItemDto> search(ItemSortType sortType, String keyword, Pageable pageable) {
+        ItemDto[] sorted = sortedArray(sortType);
+        Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                sortType.getSort(Sort.Direction.ASC));
+
+        if (keyword == null || keyword.isEmpty()) {
+            return page(Arrays.asList(sorted), sortedPageable);
+        }
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        List<ItemDto> matches = new ArrayList<>();
+        for (ItemDto item : sorted) {
+            if (item.getName() != null && item.getName().toLowerCase(Locale.ROOT).contains(lowerKeyword)) {
+                matches.add(item);
+            }
+        }
+        return page(matches, sortedPageable);
+    }
+
+    /**
+     * 가격, 재고 조건을 만족하는 상품을 주어진 기준으로 정렬해 한 페이지만큼 반환합니다.
+     * 열 저장소에서 조건을 만족하는 위치만 고른 뒤, 반환할 페이지의 상품만 복사합니다.
+     * @param sortType 정렬 기준
+     * @param filter 가격, 재고 조건
+     * @param pageable 페이지 정보 (정렬 정보는 사용하지 않습니다)
+     * @return 조건을 만족하는 상품의 페이지를 반환합니다.
+     */
+    public Page<ItemDto> filter(ItemSortType sortType, ItemFilter filter, Pageable pageable) {
+        Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                sortType.getSort(Sort.Direction.ASC));
+
+        int[] slots = columns.filter(sortType, filter);
+        int from = (int) Math.min(sortedPageable.getOffset(), slots.length);
+        int to = Math.min(from + sortedPageable.getPageSize(), slots.length);
+        List<ItemDto> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            content.add(copy(byName[slots[i]]));
+        }
+        return new PageImpl<>(content, sortedPageable, slots.length);
+    }
+
+    /**
+     * 후보 상품 중 이름이 조건에 맞는 상품만 주어진 기준으로 정렬해 한 페이지만큼 반환합니다.
+     * 전체 상품을 훑지 않고 후보만 확인하므로, 검색 비용이 카탈로그 크기가 아니라 후보 수에 비례합니다.
+     * 스냅샷에 없는 후보는 무시합니다.
+     * @param sortType 정렬 기준
+     * @param candidateIds 검색어를 포함할 수 있는 상품 ID 목록 ({@link NgramIndex#candidates(String)} 참고)
+     * @param nameMatcher 상품 이름이 실제로 검색어와 일치하는지 확인하는 조건
+     * @param filter 가격, 재고 조건
+     * @param pageable 페이지 정보 (정렬 정보는 사용하지 않습니다)
+     * @return 검색된 상품의 페이지를 반환합니다.
+     */
+    public Page<ItemDto> search(ItemSortType sortType, Collection<Long> candidateIds,
+                                Predicate<String> nameMatcher, ItemFilter filter, Pageable pageable) {
+        Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                sortType.getSort(Sort.Direction.ASC));
+
+        List<ItemDto> matches = matches(candidateIds, nameMatcher);
+        matches.removeIf(item -> !filter.test(item));
+        matches.sort(comparator(sortType));
+        return page(matches, sortedPageable);
+    }
+
+    /**
+     * 순위가 매겨진 후보 상품을 순위 순으로, 순위가 같으면 주어진 기준으로 정렬해 한 페이지만큼 반환합니다.
+     * 스냅샷에 없는 후보는 무시합니다.
+     * @param sortType 순위가 같을 때 사용할 정렬 기준
+     * @param rankById 상품 ID를 키로, 순위를 값으로 하는 맵 (값이 작을수록 앞에 옵니다)
+     * @param filter 가격, 재고 조건
+     * @param pageable 페이지 정보 (정렬 정보는 사용하지 않습니다)
+     * @return 검색된 상품의 페이지를 반환합니다.
+     */
+    public Page<ItemDto> searchRanked(ItemSortType sortType, Map<Long, Integer> rankById, ItemFilter filter,
+                                      Pageable pageable) {
+        Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                sortType.getSort(Sort.Direction.ASC));
+
+        List<ItemDto> matches = new ArrayList<>(rankById.size());
+        for (Long itemId : rankById.keySet()) {
+            ItemDto item = byId.get(itemId);
+            if (item != null && filter.test(item)) {
+                matches.add(item);
+            }
+        }
+        matches.sort(Comparator.<ItemDto>comparingInt(item -> rankById.get(item.getId()))
+                .thenComparing(comparator(sortType)));
+        return page(matches, sortedPageable);
+    }
+
+    /**
+     * 주어진 기준으로 정렬했을 때 {@code after} 바로 다음 상품부터 최대 {@code limit}개를 반환합니다.
+     * 미리 정렬해 둔 배열에서 이진 탐색으로 시작 위치를 찾으므로, 앞쪽 상품을 건너뛰는 비용이 없습니다.
+     * {@code after}는 정렬 기준 값과 ID만 있으면 되며, 그 상품이 이미 삭제되었어도 정렬 순서상 다음 상품부터 반환합니다.
+     * @param sortType 정렬 기준
+     * @param after 이전 페이지의 마지막 상품, null이면 처음부터 반환합니다.
+     * @param limit 반환할 최대 개수
+     * @return 상품 목록을 반환합니다.
+     */
+    public List<ItemDto> scroll(ItemSortType sortType, ItemDto after, int limit) {
+        ItemDto[] sorted = sortedArray(sortType);
+        return slice(Arrays.asList(sorted), comparator(sortType), after, limit);
+    }
+
+    /**
+     * 후보 상품 중 이름이 조건에 맞는 상품을 주어진 기준으로 정렬했을 때, {@code after} 바로 다음 상품부터 최대 {@code limit}개를 반환합니다.
+     * @param sortType 정렬 기준
+     * @param candidateIds 검색어를 포함할 수 있는 상품 ID 목록
+     * @param nameMatcher 상품 이름이 실제로 검색어와 일치하는지 확인하는 조건
+     * @param after 이전 페이지의 마지막 상품, null이면 처음부터 반환합니다.
+     * @param limit 반환할 최대 개수
+     * @return 상품 목록을 반환합니다.
+     */
+    public List<ItemDto> scroll(ItemSortType sortType, Collection<Long> candidateIds, Predicate<String> nameMatcher,
+                                ItemDto after, int limit) {
+        List<ItemDto> matches = matches(candidateIds, nameMatcher);
+        Comparator<ItemDto> comparator = comparator(sortType);
+        matches.sort(comparator);
+        return slice(matches, comparator, after, limit);
+    }
+
+    /**
+     * 후보 상품 중 이름이 조건에 맞는 상품의 수를 반환합니다.
+     * @param candidateIds 검색어를 포함할 수 있는 상품 ID 목록
+     * @param nameMatcher 상품 이름이 실제로 검색어와 일치하는지 확인하는 조건
+     * @return 상품 수
+     */
+    public int count(Collection<Long> candidateIds, Predicate<String> nameMatcher) {
+        return matches(candidateIds, nameMatcher).size();
+    }
+
+    /**
+     * 상품이 추가되거나 수정된 새 스냅샷을 반환합니다.
+     * @param items 추가하거나 수정할 상품 목록
+     * @return 변경 내용이 반영된 새 스냅샷을 반환합니다.
+     */
+    public ItemCatalog withItems(Collection<ItemDto> items) {
+        Map<Long, ItemDto> newById = new HashMap<>(byId);
+        for (ItemDto item : items) {
+            newById.put(item.getId(), copy(item));
+        }
+        return sorted(version + 1, newById, sales);
+    }
+
+    /**
+     * 상품이 삭제된 새 스냅샷을 반환합니다.
+     * @param itemId 삭제할 상품의 ID
+     * @return 상품이 삭제된 새 스냅샷을 반환합니다. 해당 상품이 없으면 현재 스냅샷을 그대로 반환합니다.
+     */
+    public ItemCatalog withoutItem(Long itemId) {
+        if (!byId.containsKey(itemId)) {
+            return this;
+        }
+        Map<Long, ItemDto> newById = new HashMap<>(byId);
+        newById.remove(itemId);
+        return sorted(version + 1, newById, sales);
+    }
+
+    /**
+     * 재고가 변경된 새 스냅샷을 반환합니다.
+     * 재고는 정렬 기준이 아니므로 다시 정렬하지 않고 기존 순서를 그대로 사용합니다.
+     * @param stocks 상품 ID를 키로, 변경 후 재고를 값으로 하는 맵
+     * @return 재고가 반영된 새 스냅샷을 반환합니다. 재고가 모두 같으면 현재 스냅샷을 그대로 반환합니다.
+     */
+    public ItemCatalog withStocks(Map<Long, Integer> stocks) {
+        Map<Long, ItemDto> newById = new HashMap<>(byId);
+        boolean changed = false;
+        for (Map.Entry<Long, Integer> stock : stocks.entrySet()) {
+            ItemDto item = byId.get(stock.getKey());
+            if (item == null || stock.getValue().equals(item.getStock())) {
+                continue;
+            }
+            ItemDto updated = copy(item);
+            updated.setStock(stock.getValue());
+            newById.put(updated.getId(), updated);
+            changed = true;
+        }
+        if (!changed) {
+            return this;
+        }
+        return new ItemCatalog(version + 1, newById, remap(byName, newById), remap(byPrice, newById),
+                remap(byPopularity, newById), columns.withStocks(stocks), sales);
+    }
+
+    /**
+     * 판매량이 변경된 새 스냅샷을 반환합니다.
+     * 상품은 그대로 두고 인기 순 정렬만 다시 계산합니다.
+     * @param newSales 상품 ID를 키로, 최근 판매량을 값으로 하는 맵
+     * @return 판매량이 반영된 새 스냅샷을 반환합니다. 판매량이 같으면 현재 스냅샷을 그대로 반환합니다.
+     */
+    public ItemCatalog withSales(Map<Long, Long> newSales) {
+        if (sales.equals(newSales)) {
+            return this;
+        }
+        Map<Long, Long> copied = Map.copyOf(newSales);
+        ItemDto[] newByPopularity = byName.clone();
+        Arrays.sort(newByPopularity, popularityComparator(copied));
+        return new ItemCatalog(version + 1, byId, byName, byPrice, newByPopularity,
+                columns.withPopularityOrder(newByPopularity), copied);
+    }
+
+    private List<ItemDto> matches(Collection<Long> candidateIds, Predicate<String> nameMatcher) {
+        List<ItemDto> matches = new ArrayList<>(candidateIds.size());
+        for (Long itemId : candidateIds) {
+            ItemDto item = byId.get(itemId);
+            if (item != null && item.getName() != null && nameMatcher.test(item.getName())) {
+                matches.add(item);
+            }
+        }
+        return matches;
+    }
+
+    private static List<ItemDto> slice(List<ItemDto> sorted, Comparator<ItemDto> comparator, ItemDto after, int limit) {
+        int from = 0;
+        if (after != null) {
+            int position = Collections.binarySearch(sorted, after, comparator);
+            from = position >= 0 ? position + 1 : -position - 1;
+        }
+        int to = Math.min(from + limit, sorted.size());
+        return sorted.subList(from, to).stream()
+                .map(ItemCatalog::copy)
+                .toList();
+    }
+
+    private static boolean sameContent(ItemDto item, ItemDto other) {
+        return other != null
+                && Objects.equals(item.getName(), other.getName())
+                && Objects.equals(item.getPrice(), other.getPrice())
+                && Objects.equals(item.getStock(), other.getStock())
+                && Objects.equals(item.getImageUri(), other.getImageUri());
+    }
+
+    private ItemDto[] sortedArray(ItemSortType sortType) {
+        return switch (sortType) {
+            case NAME -> byName;
+            case PRICE -> byPrice;
+            case POPULARITY -> byPopularity;
+        };
+    }
+
+    private Comparator<ItemDto> comparator(ItemSortType sortType) {
+        return switch (sortType) {
+            case NAME -> BY_NAME;
+            case PRICE -> BY_PRICE;
+            case POPULARITY -> byPopularityComparator;
+        };
+    }
+
+    // 판매량이 많은 순, 같으면 이름 순 (커서의 기준 상품은 ID만으로 판매량을 찾는다)
+    private static Comparator<ItemDto> popularityComparator(Map<Long, Long> sales) {
+        return Comparator.<ItemDto>comparingLong(item -> -sales.getOrDefault(item.getId(), 0L))
+                .thenComparing(BY_NAME);
+    }
+
+    private static ItemCatalog sorted(long version, Map<Long, ItemDto> byId, Map<Long, Long> sales) {
+        ItemDto[] byName = byId.values().toArray(ItemDto[]::new);
+        ItemDto[] byPrice = byName.clone();
+        Arrays.sort(byName, BY_NAME);
+        Arrays.sort(byPrice, BY_PRICE);
+        ItemDto[] byPopularity = byName.clone();
+        Arrays.sort(byPopularity, popularityComparator(sales));
+        return new ItemCatalog(version, byId, byName, byPrice, byPopularity,
+                ItemColumns.of(byName, byPrice, byPopularity), sales);
+    }
+
+    private static ItemDto[] remap(ItemDto[] sorted, Map<Long, ItemDto> byId) {
+        ItemDto[] remapped = new ItemDto[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            remapped[i] = byId.get(sorted[i].getId());
+        }
+        return remapped;
+    }
+
+    private static Page<ItemDto> page(List<ItemDto> items, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), items.size());
+        int to = Math.min(from + pageable.getPageSize(), items.size());
+        List<ItemDto> content = items.subList(from, to).stream()
+                .map(ItemCatalog::copy)
+                .toList();
+        return new PageImpl<>(content, pageable, items.size());
+    }
+
+    // 스냅샷 내부의 DTO가 외부에서 변경되지 않도록 항상 복사본을 주고받는다
+    private static ItemDto copy(ItemDto item) {
+        return new ItemDto(item.getId(), item.getName(), item.getPrice(), item.getStock(), item.getImageUri());
+    }
+}
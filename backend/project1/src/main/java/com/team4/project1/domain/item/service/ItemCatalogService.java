@@ -0,0 +1,259 @@
+package com.team4.project1.domain.item.service;
+
+import com.team4.project1.domain.item.dto.ItemDto;
+import com.team4.project1.domain.item.dto.ItemFilter;
+import com.team4.project1.domain.item.dto.ItemSuggestionDto;
+import com.team4.project1.domain.item.entity.ItemSearchMode;
+import com.team4.project1.domain.item.entity.ItemSortType;
+import com.team4.project1.domain.item.event.ItemDeletedEvent;
+import com.team4.project1.domain.item.event.ItemStockChangedEvent;
+import com.team4.project1.domain.item.event.ItemsSavedEvent;
+import com.team4.project1.domain.item.repository.ItemRepository;
+import com.team4.project1.standard.util.Ut;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 상품 카탈로그 스냅샷({@link ItemCatalog})을 보관하고 교체하는 서비스 클래스입니다.
+ * 서버 시작 시 DB에서 전체 상품을 읽어 스냅샷을 만들고, 이후에는 상품 변경 이벤트를 받아 새 스냅샷으로 교체합니다.
+ * 이벤트는 변경한 트랜잭션이 커밋된 뒤에 반영되므로, 롤백된 변경은 스냅샷에 나타나지 않습니다.
+ * 재고 변경 이벤트는 상품을 표시만 해 두고, 짧은 주기로 표시된 상품의 현재 재고를 한 번에 읽어 반영합니다.
+ * 변화량이 아니라 읽은 시점의 재고를 반영하므로 이벤트가 늦게 도착하거나 순서가 바뀌어도 재고가 어긋나지 않고,
+ * 주문마다 스냅샷을 복사하지 않습니다.
+ * 이벤트 누락 등으로 생길 수 있는 차이는 주기적으로 전체를 다시 읽어 바로잡습니다.
+ * 상품 이름 검색을 위해 이름과 이름의 초성으로 만든 n-gram 역색인({@link NgramIndex}),
+ * 오타 검색용 편집 거리 트라이({@link LevenshteinTrie}), 자동 완성용 접두사 트라이({@link PrefixTrie})도 함께 유지합니다.
+ * 스냅샷을 교체한 뒤에는 바뀐 상품의 ETag 버전({@link ItemVersions})을 올려, 캐시된 응답이 새 스냅샷보다 먼저 무효화되지 않도록 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemCatalogService {
+
+    private final ItemRepository itemRepository;
+    private final ItemVersions itemVersions;
+    private final HotItemStockRegistry hotItemStockRegistry;
+
+    /** 재고 변경 이벤트를 받았지만 아직 스냅샷에 재고를 다시 읽어 반영하지 않은 상품 ID */
+    private final Set<Long> staleStockIds = ConcurrentHashMap.newKeySet();
+
+    private volatile ItemCatalog catalog = ItemCatalog.empty();
+    // 초성 검색은 글자가 떨어져 있어도 순서대로 나타나면 일치하므로, 글자별(1-gram) 문서 목록의 교집합을 후보로 쓴다
+    private static final int CHOSEONG_GRAM_SIZE = 1;
+
+    private volatile NgramIndex nameIndex = new NgramIndex();
+    private volatile NgramIndex choseongIndex = new NgramIndex(CHOSEONG_GRAM_SIZE);
+    private volatile LevenshteinTrie fuzzyIndex = new LevenshteinTrie();
+    private volatile PrefixTrie suggestTrie = new PrefixTrie();
+
+    /**
+     * 현재 스냅샷을 반환합니다.
+     * @return 현재 카탈로그 스냅샷
+     */
+    public ItemCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * 이름이 키워드와 일치하는 상품을 주어진 기준으로 정렬해 한 페이지만큼 반환합니다.
+     * 키워드가 있으면 검색 방식에 맞는 색인에서 후보를 찾은 뒤 스냅샷에서 실제로 일치하는지 확인합니다.
+     * @param sortType 정렬 기준
+     * @param searchMode 검색 방식, {@link ItemSearchMode#CHOSUNG}이면 "ㅅㅌㅂ"처럼 초성으로 검색하고,
+     *                   {@link ItemSearchMode#FUZZY}이면 오타를 허용해 편집 거리가 가까운 순으로 검색합니다.
+     * @param keyword 검색 키워드, 비어 있으면 모든 상품을 반환합니다.
+     * @param filter 가격, 재고 조건, 키워드가 없으면 열 저장소({@link ItemColumns})에서 거릅니다.
+     * @param pageable 페이지 정보
+     * @return 검색된 상품의 페이지를 반환합니다.
+     */
+    public Page<ItemDto> search(ItemSortType sortType, ItemSearchMode searchMode, String keyword, ItemFilter filter,
+                                Pageable pageable) {
+        ItemCatalog current = catalog;
+        if (keyword == null || keyword.isEmpty()) {
+            return filter.isEmpty()
+                    ? current.search(sortType, keyword, pageable)
+                    : current.filter(sortType, filter, pageable);
+        }
+        if (searchMode == ItemSearchMode.FUZZY) {
+            return current.searchRanked(sortType, fuzzyIndex.search(keyword, LevenshteinTrie.maxDistanceFor(keyword)),
+                    filter, pageable);
+        }
+        return current.search(sortType, candidates(searchMode, keyword), nameMatcher(searchMode, keyword),
+                filter, pageable);
+    }
+
+    /**
+     * 이름이 키워드와 일치하는 상품을 주어진 기준으로 정렬했을 때, {@code after} 바로 다음 상품부터 최대 {@code limit}개를 반환합니다.
+     * @param sortType 정렬 기준
+     * @param searchMode 검색 방식, 순위가 매겨지는 {@link ItemSearchMode#FUZZY}는 지원하지 않습니다.
+     * @param keyword 검색 키워드, 비어 있으면 모든 상품을 대상으로 합니다.
+     * @param after 이전 페이지의 마지막 상품, null이면 처음부터 반환합니다.
+     * @param limit 반환할 최대 개수
+     * @return 상품 목록을 반환합니다.
+     */
+    public List<ItemDto> scroll(ItemSortType sortType, ItemSearchMode searchMode, String keyword, ItemDto after, int limit) {
+        ItemCatalog current = catalog;
+        if (keyword == null || keyword.isEmpty()) {
+            return current.scroll(sortType, after, limit);
+        }
+        return current.scroll(sortType, candidates(searchMode, keyword), nameMatcher(searchMode, keyword), after, limit);
+    }
+
+    /**
+     * 이름이 키워드와 일치하는 상품의 수를 반환합니다.
+     * @param searchMode 검색 방식, {@link ItemSearchMode#FUZZY}는 지원하지 않습니다.
+     * @param keyword 검색 키워드, 비어 있으면 모든 상품의 수를 반환합니다.
+     * @return 상품 수
+     */
+    public int count(ItemSearchMode searchMode, String keyword) {
+        ItemCatalog current = catalog;
+        if (keyword == null || keyword.isEmpty()) {
+            return current.size();
+        }
+        return current.count(candidates(searchMode, keyword), nameMatcher(searchMode, keyword));
+    }
+
+    /**
+     * 접두사로 시작하는 상품 이름을 이름 순으로 반환합니다.
+     * @param prefix 접두사
+     * @param limit 반환할 최대 개수
+     * @return 자동 완성 결과 목록을 반환합니다.
+     */
+    public List<ItemSuggestionDto> suggest(String prefix, int limit) {
+        return suggestTrie.suggest(prefix, limit);
+    }
+
+    /**
+     * DB에서 전체 상품을 다시 읽어 스냅샷과 이름 색인, 접두사 트라이를 교체합니다.
+     * 이전 스냅샷과 내용이 다른 상품이 있을 때만 ETag 버전을 올립니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${item.catalog.reload-interval-ms:60000}",
+            initialDelayString = "${item.catalog.reload-interval-ms:60000}")
+    public synchronized void reload() {
+        long version = catalog.getVersion() + 1;
+        List<ItemDto> items = itemRepository.findAll().stream().map(ItemDto::from).toList();
+        NgramIndex newNameIndex = new NgramIndex();
+        NgramIndex newChoseongIndex = new NgramIndex(CHOSEONG_GRAM_SIZE);
+        LevenshteinTrie newFuzzyIndex = new LevenshteinTrie();
+        PrefixTrie newTrie = new PrefixTrie();
+        for (ItemDto item : items) {
+            newNameIndex.put(item.getId(), item.getName());
+            newChoseongIndex.put(item.getId(), choseongOf(item));
+            newFuzzyIndex.put(item.getId(), item.getName());
+            newTrie.put(item.getId(), item.getName());
+        }
+        ItemCatalog previous = catalog;
+        catalog = ItemCatalog.of(version, items, previous.getSales());
+        nameIndex = newNameIndex;
+        choseongIndex = newChoseongIndex;
+        fuzzyIndex = newFuzzyIndex;
+        suggestTrie = newTrie;
+        Set<Long> changedIds = catalog.changedIds(previous);
+        if (!changedIds.isEmpty()) {
+            itemVersions.bump(changedIds);
+        }
+        log.debug("상품 카탈로그 다시 읽음 (버전: {}, 상품 수: {})", version, catalog.size());
+    }
+
+    /**
+     * 인기 순 정렬에 사용할 상품별 판매량을 교체합니다.
+     * 판매량이 바뀌어 인기 순이 달라질 수 있으면 목록 응답의 ETag 버전을 올립니다. 상품 자체는 바뀌지 않으므로 상품 버전은 그대로 둡니다.
+     * @param sales 상품 ID를 키로, 최근 판매량을 값으로 하는 맵
+     */
+    public synchronized void updateSales(Map<Long, Long> sales) {
+        ItemCatalog updated = catalog.withSales(sales);
+        if (updated == catalog) {
+            return;
+        }
+        catalog = updated;
+        itemVersions.bump(List.of());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onItemsSaved(ItemsSavedEvent event) {
+        catalog = catalog.withItems(event.items());
+        for (ItemDto item : event.items()) {
+            nameIndex.put(item.getId(), item.getName());
+            choseongIndex.put(item.getId(), choseongOf(item));
+            fuzzyIndex.put(item.getId(), item.getName());
+            suggestTrie.put(item.getId(), item.getName());
+        }
+        itemVersions.bump(event.items().stream().map(ItemDto::getId).toList());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onItemDeleted(ItemDeletedEvent event) {
+        catalog = catalog.withoutItem(event.itemId());
+        nameIndex.remove(event.itemId());
+        choseongIndex.remove(event.itemId());
+        fuzzyIndex.remove(event.itemId());
+        suggestTrie.remove(event.itemId());
+        itemVersions.bump(List.of(event.itemId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemStockChanged(ItemStockChangedEvent event) {
+        staleStockIds.addAll(event.itemIds());
+    }
+
+    /**
+     * 재고 변경 이벤트로 표시된 상품의 현재 재고를 한 번에 읽어 스냅샷에 반영합니다.
+     * 핫 아이템은 DB 대신 분할 재고의 합계를 사용합니다.
+     * 표시를 지운 뒤에 재고를 읽으므로, 그 사이 커밋된 변경은 이번에 읽히거나 다시 표시되어 다음 주기에 반영됩니다.
+     */
+    @Scheduled(fixedDelayString = "${item.catalog.stock-refresh-interval-ms:200}")
+    public synchronized void refreshStocks() {
+        if (staleStockIds.isEmpty()) {
+            return;
+        }
+        List<Long> itemIds = new ArrayList<>(staleStockIds);
+        staleStockIds.removeAll(itemIds);
+        Map<Long, Integer> stocks = new HashMap<>(itemRepository.findStocks(itemIds));
+        for (Long itemId : itemIds) {
+            hotItemStockRegistry.getStock(itemId).ifPresent(stock -> stocks.put(itemId, stock));
+        }
+        ItemCatalog updated = catalog.withStocks(stocks);
+        if (updated == catalog) {
+            return;
+        }
+        catalog = updated;
+        itemVersions.bump(stocks.keySet());
+    }
+
+    private Set<Long> candidates(ItemSearchMode searchMode, String keyword) {
+        return switch (searchMode) {
+            case NAME -> nameIndex.candidates(keyword);
+            case CHOSUNG -> choseongIndex.candidates(Ut.Hangul.toChoseong(keyword));
+            case FUZZY -> throw new IllegalArgumentException("오타 검색은 커서 조회를 지원하지 않습니다.");
+        };
+    }
+
+    private static Predicate<String> nameMatcher(ItemSearchMode searchMode, String keyword) {
+        if (searchMode == ItemSearchMode.CHOSUNG) {
+            return name -> Ut.Hangul.containsChoseong(name, keyword);
+        }
+        // 이름 색인이 대소문자를 구분하지 않으므로 확인도 대소문자를 구분하지 않는다
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        return name -> name.toLowerCase(Locale.ROOT).contains(lowerKeyword);
+    }
+
+    private static String choseongOf(ItemDto item) {
+        return item.getName() == null ? null : Ut.Hangul.toChoseong(item.getName());
+    }
+}
@@ -0,0 +1,206 @@
+package com.team4.project1.domain.item.service;
+
+import com.team4.project1.domain.item.dto.ItemDto;
+import com.team4.project1.domain.item.dto.ItemFilter;
+import com.team4.project1.domain.item.entity.ItemSortType;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 카탈로그 스냅샷의 가격, 재고를 기본형 배열로 담은 열 저장소입니다. 가격, 재고 조건으로 상품을 거를 때 사용합니다.
+ * 상품은 이름 순 위치(slot)에 저장되며, 가격 순, 인기 순 위치 목록을 미리 계산해 둡니다.
+ * 가격 범위는 가격 순 위치 목록에서 이진 탐색으로 찾고, 재고 조건은 재고가 있는 위치의 비트셋으로 확인하므로
+ * 상품 객체를 만들지 않고 결과 위치만 담은 int 배열 하나로 거를 수 있습니다.
+ * 스냅샷과 마찬가지로 변경할 수 없으며, 재고가 바뀌면 재고 배열만 복사한 새 저장소를 만듭니다.
+ */
+final class ItemColumns {
+
+    // 가격이 없는 상품은 가격 순 정렬에서 맨 뒤에 온다
+    private static final int NO_PRICE = Integer.MAX_VALUE;
+
+    private final long[] ids;
+    private final int[] prices;
+    private final int[] stocks;
+    private final int[] priceOrder;
+    private final int[] popularityOrder;
+    private final int[] idOrder;
+    private final BitSet priced;
+    private final BitSet inStock;
+
+    private ItemColumns(long[] ids, int[] prices, int[] stocks, int[] priceOrder, int[] popularityOrder,
+                        int[] idOrder, BitSet priced, BitSet inStock) {
+        this.ids = ids;
+        this.prices = prices;
+        this.stocks = stocks;
+        this.priceOrder = priceOrder;
+        this.popularityOrder = popularityOrder;
+        this.idOrder = idOrder;
+        this.priced = priced;
+        this.inStock = inStock;
+    }
+
+    /**
+     * 이름 순, 가격 순, 인기 순으로 정렬된 상품 배열로 열 저장소를 만듭니다.
+     * @param byName 이름 순으로 정렬된 상품, 이 순서가 곧 위치가 됩니다.
+     * @param byPrice 가격 순으로 정렬된 같은 상품들
+     * @param byPopularity 인기 순으로 정렬된 같은 상품들
+     * @return 생성된 열 저장소를 반환합니다.
+     */
+    static ItemColumns of(ItemDto[] byName, ItemDto[] byPrice, ItemDto[] byPopularity) {
+        int size = byName.length;
+        long[] ids = new long[size];
+        int[] prices = new int[size];
+        int[] stocks = new int[size];
+        BitSet priced = new BitSet(size);
+        BitSet inStock = new BitSet(size);
+        Map<Long, Integer> slotById = new HashMap<>(size * 2);
+        for (int slot = 0; slot < size; slot++) {
+            ItemDto item = byName[slot];
+            ids[slot] = item.getId();
+            prices[slot] = item.getPrice() == null ? NO_PRICE : item.getPrice();
+            stocks[slot] = item.getStock() == null ? 0 : item.getStock();
+            priced.set(slot, item.getPrice() != null);
+            inStock.set(slot, stocks[slot] > 0);
+            slotById.put(item.getId(), slot);
+        }
+
+        int[] priceOrder = new int[size];
+        int[] popularityOrder = new int[size];
+        for (int i = 0; i < size; i++) {
+            priceOrder[i] = slotById.get(byPrice[i].getId());
+            popularityOrder[i] = slotById.get(byPopularity[i].getId());
+        }
+        int[] idOrder = slotById.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .mapToInt(Map.Entry::getValue)
+                .toArray();
+        return new ItemColumns(ids, prices, stocks, priceOrder, popularityOrder, idOrder, priced, inStock);
+    }
+
+    /**
+     * 인기 순 위치 목록만 바뀐 새 열 저장소를 반환합니다. 나머지 배열은 공유합니다.
+     * @param byPopularity 인기 순으로 다시 정렬된 같은 상품들
+     * @return 인기 순이 반영된 새 열 저장소를 반환합니다.
+     */
+    ItemColumns withPopularityOrder(ItemDto[] byPopularity) {
+        int[] newPopularityOrder = new int[byPopularity.length];
+        for (int i = 0; i < byPopularity.length; i++) {
+            newPopularityOrder[i] = slotOf(byPopularity[i].getId());
+        }
+        return new ItemColumns(ids, prices, stocks, priceOrder, newPopularityOrder, idOrder, priced, inStock);
+    }
+
+    /**
+     * 재고가 변경된 새 열 저장소를 반환합니다. 재고 배열과 재고 비트셋만 복사하고 나머지는 공유합니다.
+     * @param newStockValues 상품 ID를 키로, 변경 후 재고를 값으로 하는 맵
+     * @return 재고가 반영된 새 열 저장소를 반환합니다.
+     */
+    ItemColumns withStocks(Map<Long, Integer> newStockValues) {
+        int[] newStocks = stocks.clone();
+        BitSet newInStock = (BitSet) inStock.clone();
+        for (Map.Entry<Long, Integer> stock : newStockValues.entrySet()) {
+            int slot = slotOf(stock.getKey());
+            if (slot < 0) {
+                continue;
+            }
+            newStocks[slot] = stock.getValue();
+            newInStock.set(slot, newStocks[slot] > 0);
+        }
+        return new ItemColumns(ids, prices, newStocks, priceOrder, popularityOrder, idOrder, priced, newInStock);
+    }
+
+    /**
+     * 조건을 만족하는 상품의 위치를 주어진 기준의 정렬 순서대로 반환합니다.
+     * 가격 순이면 가격 범위에 해당하는 구간만 훑고, 이름 순이면 구간의 위치를 비트셋에 표시한 뒤 위치 순으로 꺼냅니다.
+     * 인기 순이면 같은 비트셋을 만든 뒤 인기 순 위치 목록을 따라 표시된 위치만 꺼냅니다.
+     * @param sortType 정렬 기준
+     * @param filter 가격, 재고 조건
+     * @return 조건을 만족하는 상품의 위치 배열을 반환합니다.
+     */
+    int[] filter(ItemSortType sortType, ItemFilter filter) {
+        int from = 0;
+        int to = priceOrder.length;
+        if (filter.hasPriceRange()) {
+            from = filter.minPrice() == null ? 0 : lowerBound(filter.minPrice());
+            to = filter.maxPrice() == null ? lowerBound(NO_PRICE) : lowerBound((long) filter.maxPrice() + 1);
+        }
+
+        if (sortType == ItemSortType.PRICE) {
+            int[] result = new int[Math.max(to - from, 0)];
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                int slot = priceOrder[i];
+                if (matchesFlags(slot, filter)) {
+                    result[count++] = slot;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        BitSet matched = new BitSet(ids.length);
+        for (int i = from; i < to; i++) {
+            matched.set(priceOrder[i]);
+        }
+        if (filter.hasPriceRange()) {
+            matched.and(priced);
+        }
+        if (filter.inStock()) {
+            matched.and(inStock);
+        }
+        if (sortType == ItemSortType.POPULARITY) {
+            int[] result = new int[matched.cardinality()];
+            int count = 0;
+            for (int slot : popularityOrder) {
+                if (matched.get(slot)) {
+                    result[count++] = slot;
+                }
+            }
+            return result;
+        }
+        return matched.stream().toArray();
+    }
+
+    /**
+     * 상품 ID의 위치를 찾습니다.
+     * @param id 상품 ID
+     * @return 위치를 반환합니다. 상품이 없으면 음수를 반환합니다.
+     */
+    int slotOf(long id) {
+        int low = 0;
+        int high = idOrder.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = ids[idOrder[mid]];
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return idOrder[mid];
+            }
+        }
+        return -1;
+    }
+
+    private boolean matchesFlags(int slot, ItemFilter filter) {
+        return (!filter.hasPriceRange() || priced.get(slot)) && (!filter.inStock() || inStock.get(slot));
+    }
+
+    // 가격이 price 이상인 첫 번째 가격 순 위치
+    private int lowerBound(long price) {
+        int low = 0;
+        int high = priceOrder.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[priceOrder[mid]] < price) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
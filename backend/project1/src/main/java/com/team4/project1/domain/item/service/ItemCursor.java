@@ -0,0 +1,60 @@
+package com.team4.project1.domain.item.service;
+
+import com.team4.project1.domain.item.dto.ItemDto;
+import com.team4.project1.domain.item.entity.ItemSortType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 상품 커서 조회에 사용하는 커서를 만들고 해석하는 클래스입니다.
+ * 커서는 정렬 기준, 이전 페이지 마지막 상품의 ID와 정렬 기준 값을 "NAME,42,커피"처럼 이어 붙인 뒤 URL-safe Base64로 인코딩한 문자열입니다.
+ * 정렬 기준 값이 없으면(null) 값 부분을 생략합니다.
+ * 인기 순은 판매량이 자주 바뀌므로 판매량 대신 이름을 담고, 판매량은 현재 스냅샷에서 ID로 찾습니다.
+ */
+final class ItemCursor {
+
+    private ItemCursor() {
+    }
+
+    /**
+     * 상품을 가리키는 커서를 만듭니다.
+     * @param sortType 정렬 기준
+     * @param item 이전 페이지의 마지막 상품
+     * @return 인코딩된 커서를 반환합니다.
+     */
+    static String encode(ItemSortType sortType, ItemDto item) {
+        Object value = sortType == ItemSortType.PRICE ? item.getPrice() : item.getName();
+        String raw = sortType.name() + "," + item.getId() + (value == null ? "" : "," + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 해석해 정렬 기준 값과 ID만 채운 상품을 만듭니다. 이 상품은 정렬된 목록에서 시작 위치를 찾는 데 사용합니다.
+     * @param sortType 현재 요청의 정렬 기준
+     * @param cursor 인코딩된 커서
+     * @return 정렬 기준 값과 ID가 채워진 상품을 반환합니다.
+     * @throws IllegalArgumentException 커서 형식이 잘못되었거나 정렬 기준이 다른 경우 예외 발생
+     */
+    static ItemDto decode(ItemSortType sortType, String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(",", 3);
+            if (!parts[0].equals(sortType.name())) {
+                throw new IllegalArgumentException("정렬 기준이 다른 커서입니다.");
+            }
+            ItemDto item = new ItemDto();
+            item.setId(Long.parseLong(parts[1]));
+            if (parts.length == 3) {
+                if (sortType == ItemSortType.PRICE) {
+                    item.setPrice(Integer.parseInt(parts[2]));
+                } else {
+                    item.setName(parts[2]);
+                }
+            }
+            return item;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.team4.project1.domain.item.service;
+
+import com.team4.project1.domain.item.entity.ItemImageSize;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 이미지의 크기 변형({@link ItemImageSize})을 백그라운드에서 만드는 클래스입니다.
+ * 업로드 요청은 원본만 저장하고 변형 작업을 크기가 제한된 스레드 풀에 넣은 뒤 바로 응답합니다.
+ * 큐가 가득 차면 작업을 버리며, 이후 그 변형이 요청될 때 다시 작업을 넣습니다. 변형이 준비되기 전에는 원본을 대신 사용합니다.
+ * 변형 파일은 임시 파일에 쓴 뒤 이름을 바꿔 저장하므로, 조회하는 쪽에서 쓰다 만 파일을 읽지 않습니다.
+ */
+@Slf4j
+@Component
+public class ItemImageResizer {
+
+    /** 큰 변형부터 만들고, 작은 변형은 바로 앞 변형을 줄여 만듭니다. */
+    private static final List<ItemImageSize> VARIANTS =
+            List.of(ItemImageSize.DETAIL, ItemImageSize.LIST, ItemImageSize.THUMB);
+
+    /** 디코딩할 최대 픽셀 수, 파일은 작지만 해상도가 매우 큰 이미지로 메모리가 고갈되지 않도록 합니다. */
+    private static final long MAX_PIXELS = 40_000_000L;
+
+    private final Path imageDir;
+    private final ThreadPoolExecutor executor;
+
+    /** 작업이 큐에 있거나 실행 중인 이미지, 같은 이미지의 작업이 중복으로 들어가지 않도록 합니다. */
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ItemImageResizer(
+            @Value("${file.upload-dir}") String imageDir,
+            @Value("${item.image.resize-threads:2}") int threads,
+            @Value("${item.image.resize-queue-capacity:100}") int queueCapacity
+    ) {
+        this.imageDir = Paths.get(imageDir);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("item-image-resize-", 0).daemon().factory());
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 이미지의 변형 작업을 큐에 넣습니다. 이미 작업 중이거나 큐가 가득 차면 아무것도 하지 않습니다.
+     * @param imageUuid 원본 이미지의 UUID
+     */
+    public void enqueue(UUID imageUuid) {
+        if (!inFlight.add(imageUuid)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    createVariants(imageUuid);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("이미지 변형 생성 실패 (이미지: {}): {}", imageUuid, e.getMessage());
+                } finally {
+                    inFlight.remove(imageUuid);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(imageUuid);
+            log.debug("이미지 변형 작업 큐가 가득 차 작업을 버림 (이미지: {})", imageUuid);
+        }
+    }
+
+    /**
+     * 요청한 크기의 이미지 파일 경로를 반환합니다.
+     * 변형이 아직 없으면 변형 작업을 큐에 넣고 원본 경로를 반환합니다.
+     * @param imageUuid 원본 이미지의 UUID
+     * @param size 이미지 크기
+     * @return 파일 경로를 반환합니다. 원본 파일도 없으면 null을 반환합니다.
+     */
+    public Path resolve(UUID imageUuid, ItemImageSize size) {
+        Path original = imageDir.resolve(ItemImageSize.ORIGINAL.fileNameOf(imageUuid));
+        if (size != ItemImageSize.ORIGINAL) {
+            Path variant = imageDir.resolve(size.fileNameOf(imageUuid));
+            if (Files.isRegularFile(variant)) {
+                return variant;
+            }
+            if (Files.isRegularFile(original)) {
+                enqueue(imageUuid);
+            }
+        }
+        return Files.isRegularFile(original) ? original : null;
+    }
+
+    /**
+     * 이미지의 모든 변형 파일을 삭제합니다.
+     * @param imageUuid 원본 이미지의 UUID
+     */
+    public void deleteVariants(UUID imageUuid) {
+        for (ItemImageSize size : VARIANTS) {
+            try {
+                Files.deleteIfExists(imageDir.resolve(size.fileNameOf(imageUuid)));
+            } catch (IOException e) {
+                log.warn("이미지 변형 삭제 실패 (이미지: {}, 크기: {}): {}", imageUuid, size, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 없는 변형 파일을 만듭니다.
+     * 원본을 읽을 수 없거나 원본의 가로가 변형의 최대 가로 이하이면 원본을 그대로 복사해, 다시 작업하지 않도록 합니다.
+     * @param imageUuid 원본 이미지의 UUID
+     * @throws IOException 파일을 읽거나 쓰지 못한 경우 예외 발생
+     */
+    void createVariants(UUID imageUuid) throws IOException {
+        Path original = imageDir.resolve(ItemImageSize.ORIGINAL.fileNameOf(imageUuid));
+        if (!Files.isRegularFile(original)) {
+            return;
+        }
+        BufferedImage source;
+        try {
+            source = read(original);
+        } catch (IIOException e) {
+            // CMYK JPEG 등 ImageIO가 디코딩하지 못하는 이미지는 원본을 그대로 사용한다
+            source = null;
+        }
+
+        for (ItemImageSize size : VARIANTS) {
+            Path target = imageDir.resolve(size.fileNameOf(imageUuid));
+            if (Files.exists(target)) {
+                continue;
+            }
+            Path temp = Files.createTempFile(imageDir, ".resize-", ".tmp");
+            try {
+                if (source == null || source.getWidth() <= size.getMaxWidth()) {
+                    Files.copy(original, temp, StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    source = scale(source, size.getMaxWidth());
+                    writeJpeg(source, size.getQuality(), temp);
+                }
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+        // 작업 중에 이미지가 교체되어 원본이 삭제되었다면 방금 만든 변형도 지운다
+        if (!Files.exists(original)) {
+            deleteVariants(imageUuid);
+        }
+    }
+
+    /**
+     * 가로가 주어진 길이가 되도록 비율을 유지해 이미지를 줄입니다.
+     * 한 번에 크게 줄이면 쌍선형 보간이 픽셀을 건너뛰어 계단 현상이 생기므로 절반씩 나누어 줄입니다.
+     * @param source 줄일 이미지
+     * @param width 줄인 뒤의 가로 길이
+     * @return 줄인 이미지를 반환합니다.
+     */
+    static BufferedImage scale(BufferedImage source, int width) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(currentWidth / 2, width);
+            currentHeight = Math.max(currentHeight / 2, targetHeight);
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (currentWidth != width || currentHeight != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage read(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static void writeJpeg(BufferedImage image, float quality, Path file) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(file.toFile())) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
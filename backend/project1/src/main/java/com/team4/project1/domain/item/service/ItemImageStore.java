@@ -0,0 +1,216 @@
+package com.team4.project1.domain.item.service;
+
+import com.team4.project1.domain.item.entity.ImageBlob;
+import com.team4.project1.domain.item.entity.ItemImageSize;
+import com.team4.project1.domain.item.repository.ImageBlobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 상품 이미지를 내용 주소 방식으로 저장하는 클래스입니다.
+ * 업로드를 임시 파일로 복사하는 동안 SHA-256 해시를 함께 계산하고, 해시로 만든 UUID를 파일 이름으로 사용합니다.
+ * 같은 상품 사진을 여러 상품에 올리거나 다시 올려도 파일은 하나만 남으며, 몇 개의 상품이 사용하는지는 {@link ImageBlob}의 참조 수로 관리합니다.
+ * 같은 UUID의 내용은 항상 같으므로 이미지 URL과 크기 변형은 그대로 오래 캐시할 수 있습니다.
+ * 참조 수가 0이 된 이미지는 바로 지우지 않고, 유예 시간 동안 다시 참조되지 않으면 정리 작업({@link #sweep()})이 행을 잠근 채로 파일을 삭제합니다.
+ * 참조 수를 늘리는 요청은 같은 행의 잠금을 기다리므로, 삭제 중인 이미지를 다시 등록하면 삭제가 끝난 뒤 파일이 남아 있는지 확인합니다.
+ */
+@Slf4j
+@Component
+public class ItemImageStore {
+
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final Path imageDir;
+    private final ImageBlobRepository imageBlobRepository;
+    private final ItemImageResizer itemImageResizer;
+    private final TransactionTemplate requiresNew;
+    private final Duration gracePeriod;
+
+    /**
+     * 저장된 이미지 정보입니다.
+     * @param imageUuid 내용의 해시로 만든 이미지 UUID
+     * @param sha256 내용의 SHA-256 해시 (16진수)
+     * @param size 파일 크기 (바이트)
+     * @param created 새 파일을 만들었으면 true, 같은 내용의 파일이 이미 있었으면 false
+     */
+    public record StoredImage(UUID imageUuid, String sha256, long size, boolean created) {
+    }
+
+    public ItemImageStore(
+            @Value("${file.upload-dir}") String imageDir,
+            @Value("${item.image.unreferenced-grace-minutes:60}") long gracePeriodMinutes,
+            ImageBlobRepository imageBlobRepository,
+            ItemImageResizer itemImageResizer,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.imageDir = Paths.get(imageDir);
+        this.gracePeriod = Duration.ofMinutes(gracePeriodMinutes);
+        this.imageBlobRepository = imageBlobRepository;
+        this.itemImageResizer = itemImageResizer;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 이미지를 저장합니다. 같은 내용의 파일이 이미 있으면 새로 쓰지 않습니다.
+     * 참조 수는 바꾸지 않으므로, 상품에 연결하려면 {@link #acquire(StoredImage)}를 호출해야 합니다.
+     * @param content 이미지 내용
+     * @return 저장된 이미지 정보를 반환합니다.
+     * @throws IOException 파일을 읽거나 쓰지 못한 경우 예외 발생
+     */
+    public StoredImage store(InputStream content) throws IOException {
+        Files.createDirectories(imageDir);
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(imageDir, ".upload-", ".tmp");
+        try {
+            long size;
+            try (InputStream in = new DigestInputStream(content, digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                size = in.transferTo(out);
+            }
+            byte[] hash = digest.digest();
+            UUID imageUuid = uuidOf(hash);
+            Path target = imageDir.resolve(ItemImageSize.ORIGINAL.fileNameOf(imageUuid));
+            boolean created = !Files.exists(target);
+            if (created) {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return new StoredImage(imageUuid, HexFormat.of().formatHex(hash), size, created);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 저장된 이미지의 참조 수를 1 늘립니다. 처음 참조되는 이미지면 별도 트랜잭션에서 참조 수 0으로 등록한 뒤 늘리므로,
+     * 같은 이미지를 동시에 처음 올려도 한쪽이 실패하지 않습니다. 현재 트랜잭션이 롤백되면 등록만 남고 정리 작업이 지웁니다.
+     * 참조 수를 늘린 행은 현재 트랜잭션이 끝날 때까지 잠겨 있어 정리 작업이 파일을 지울 수 없습니다.
+     * @param image {@link #store(InputStream)}로 저장한 이미지
+     * @return 원본 파일이 남아 있으면 true, 등록하는 사이 정리 작업이 파일을 지웠으면 false를 반환합니다.
+     *         false이면 같은 내용을 다시 {@link #store(InputStream)}해야 합니다.
+     */
+    public boolean acquire(StoredImage image) {
+        UUID imageUuid = image.imageUuid();
+        if (imageBlobRepository.increaseRefCount(imageUuid) == 0) {
+            try {
+                requiresNew.executeWithoutResult(status -> imageBlobRepository.insertUnreferenced(
+                        imageUuid, image.sha256(), image.size(), LocalDateTime.now()));
+            } catch (DataIntegrityViolationException e) {
+                // 같은 이미지를 동시에 올린 다른 요청이 먼저 등록했다
+            }
+            if (imageBlobRepository.increaseRefCount(imageUuid) == 0) {
+                throw new IllegalStateException("이미지를 등록하지 못했습니다. (이미지: " + imageUuid + ")");
+            }
+        }
+        return Files.isRegularFile(imageDir.resolve(ItemImageSize.ORIGINAL.fileNameOf(imageUuid)));
+    }
+
+    /**
+     * 이미지의 참조 수를 1 줄입니다. 참조 수가 0이 되어도 파일은 정리 작업이 유예 시간이 지난 뒤 삭제합니다.
+     * 참조 수가 없는 이전 방식(임의 UUID)의 이미지는 다른 상품과 공유되지 않으므로, 현재 트랜잭션이 커밋된 뒤 바로 삭제합니다.
+     * @param imageUuid 이미지 UUID
+     */
+    public void release(UUID imageUuid) {
+        if (imageBlobRepository.decreaseRefCount(imageUuid, LocalDateTime.now()) > 0 || isContentAddressed(imageUuid)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteFiles(imageUuid);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteFiles(imageUuid);
+            }
+        });
+    }
+
+    /**
+     * 유예 시간이 지나도록 참조하는 상품이 없는 이미지의 등록과 파일을 주기적으로 삭제합니다.
+     * 이미지마다 별도 트랜잭션에서 행을 삭제해 잠근 채로 파일을 지우므로, 그 사이 같은 이미지를 등록하려는 요청은 삭제가 끝나기를 기다립니다.
+     */
+    @Scheduled(fixedDelayString = "${item.image.sweep-interval-ms:600000}",
+            initialDelayString = "${item.image.sweep-interval-ms:600000}")
+    public void sweep() {
+        LocalDateTime before = LocalDateTime.now().minus(gracePeriod);
+        List<UUID> imageUuids = imageBlobRepository.findUnreferencedIds(before, PageRequest.of(0, SWEEP_BATCH_SIZE));
+        int deleted = 0;
+        for (UUID imageUuid : imageUuids) {
+            Boolean removed = requiresNew.execute(status -> {
+                if (imageBlobRepository.deleteUnreferenced(imageUuid, before) == 0) {
+                    return false;
+                }
+                deleteFiles(imageUuid);
+                return true;
+            });
+            if (Boolean.TRUE.equals(removed)) {
+                deleted++;
+            }
+        }
+        if (deleted > 0) {
+            log.info("참조하지 않는 이미지 {}개 삭제", deleted);
+        }
+    }
+
+    /**
+     * SHA-256 해시로 이미지 UUID를 만듭니다.
+     * 해시의 앞 16바이트에 버전(8, 사용자 정의)과 변형 비트를 설정하므로, 이전 방식의 임의 UUID(버전 4)와 겹치지 않습니다.
+     * @param hash SHA-256 해시
+     * @return 이미지 UUID
+     */
+    static UUID uuidOf(byte[] hash) {
+        byte[] bytes = hash.clone();
+        bytes[6] = (byte) ((bytes[6] & 0x0f) | 0x80);
+        bytes[8] = (byte) ((bytes[8] & 0x3f) | 0x80);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, 16);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static boolean isContentAddressed(UUID imageUuid) {
+        return imageUuid.version() == 8;
+    }
+
+    private void deleteFiles(UUID imageUuid) {
+        try {
+            Files.deleteIfExists(imageDir.resolve(ItemImageSize.ORIGINAL.fileNameOf(imageUuid)));
+        } catch (IOException e) {
+            log.warn("이미지 삭제 실패 (이미지: {}): {}", imageUuid, e.getMessage());
+        }
+        itemImageResizer.deleteVariants(imageUuid);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.team4.project1.domain.item.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 상품 대량 등록 요청 본문을 한 줄씩 읽어 상품 행으로 변환하는 클래스입니다.
+ * 본문 전체를 메모리에 올리지 않고 {@link #next()}를 호출할 때마다 다음 한 줄만 읽습니다.
+ * CSV는 첫 줄을 헤더로 읽어 name, price, stock 열의 위치를 찾고, NDJSON은 한 줄에 JSON 객체 하나를 읽습니다.
+ * 형식이나 값이 올바르지 않은 행은 예외를 던지지 않고 오류 메시지를 담은 행으로 반환합니다.
+ */
+final class ItemImportReader {
+
+    /** 상품 이름의 최대 길이 (name 컬럼의 길이) */
+    static final int MAX_NAME_LENGTH = 255;
+
+    enum Format { CSV, NDJSON }
+
+    /**
+     * 본문의 한 행입니다. {@code error}가 null이면 등록할 수 있는 행입니다.
+     * @param line 본문에서의 줄 번호 (1부터 시작)
+     */
+    record Row(int line, String name, Integer price, Integer stock, String error) {
+
+        static Row invalid(int line, String error) {
+            return new Row(line, null, null, null, error);
+        }
+
+        boolean isValid() {
+            return error == null;
+        }
+    }
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private int line = 0;
+    private int nameColumn = -1;
+    private int priceColumn = -1;
+    private int stockColumn = -1;
+    private int columnCount;
+
+    ItemImportReader(BufferedReader reader, Format format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 다음 행을 읽습니다. 빈 줄은 건너뜁니다.
+     * @return 다음 행, 본문이 끝났으면 null을 반환합니다.
+     * @throws IllegalArgumentException CSV 헤더에 name, price, stock 열이 모두 있지 않은 경우 예외 발생
+     */
+    Row next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (line == 1 && !text.isEmpty() && text.charAt(0) == '\uFEFF') {
+                text = text.substring(1);
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && columnCount == 0) {
+                readHeader(text);
+                continue;
+            }
+            return format == Format.CSV ? parseCsv(text) : parseJson(text);
+        }
+        return null;
+    }
+
+    private void readHeader(String text) {
+        List<String> columns = splitCsv(text);
+        if (columns == null) {
+            throw new IllegalArgumentException("CSV 헤더의 따옴표가 닫히지 않았습니다.");
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "name" -> nameColumn = i;
+                case "price" -> priceColumn = i;
+                case "stock" -> stockColumn = i;
+                default -> { }
+            }
+        }
+        if (nameColumn < 0 || priceColumn < 0 || stockColumn < 0) {
+            throw new IllegalArgumentException("CSV 헤더에 name, price, stock 열이 모두 있어야 합니다.");
+        }
+        columnCount = columns.size();
+    }
+
+    private Row parseCsv(String text) {
+        List<String> fields = splitCsv(text);
+        if (fields == null) {
+            return Row.invalid(line, "따옴표가 닫히지 않았습니다.");
+        }
+        if (fields.size() != columnCount) {
+            return Row.invalid(line, "열 개수가 헤더와 다릅니다. (헤더: %d, 행: %d)".formatted(columnCount, fields.size()));
+        }
+        String price = fields.get(priceColumn).trim();
+        String stock = fields.get(stockColumn).trim();
+        if (!isInteger(price)) {
+            return Row.invalid(line, "가격은 정수여야 합니다: %s".formatted(price));
+        }
+        if (!isInteger(stock)) {
+            return Row.invalid(line, "재고는 정수여야 합니다: %s".formatted(stock));
+        }
+        return validate(fields.get(nameColumn).trim(), Integer.parseInt(price), Integer.parseInt(stock));
+    }
+
+    private Row parseJson(String text) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            return Row.invalid(line, "JSON 형식이 올바르지 않습니다.");
+        }
+        if (node == null || !node.isObject()) {
+            return Row.invalid(line, "한 줄에 JSON 객체 하나가 있어야 합니다.");
+        }
+        JsonNode name = node.get("name");
+        JsonNode price = node.get("price");
+        JsonNode stock = node.get("stock");
+        if (name == null || !name.isTextual()) {
+            return Row.invalid(line, "name은 문자열이어야 합니다.");
+        }
+        if (price == null || !price.isIntegralNumber() || !price.canConvertToInt()) {
+            return Row.invalid(line, "가격은 정수여야 합니다: %s".formatted(price));
+        }
+        if (stock == null || !stock.isIntegralNumber() || !stock.canConvertToInt()) {
+            return Row.invalid(line, "재고는 정수여야 합니다: %s".formatted(stock));
+        }
+        return validate(name.asText().trim(), price.intValue(), stock.intValue());
+    }
+
+    private Row validate(String name, int price, int stock) {
+        if (name.isEmpty()) {
+            return Row.invalid(line, "상품 이름이 비어 있습니다.");
+        }
+        if (name.length() > MAX_NAME_LENGTH) {
+            return Row.invalid(line, "상품 이름은 %d자 이하여야 합니다.".formatted(MAX_NAME_LENGTH));
+        }
+        if (price < 0) {
+            return Row.invalid(line, "가격은 0 이상이어야 합니다.");
+        }
+        if (stock < 0) {
+            return Row.invalid(line, "재고는 0 이상이어야 합니다.");
+        }
+        return new Row(line, name, price, stock, null);
+    }
+
+    private static boolean isInteger(String value) {
+        if (value.isEmpty() || value.length() > 10) {
+            return false;
+        }
+        try {
+            Integer.parseInt(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * CSV 한 줄을 열로 나눕니다. 따옴표로 감싼 열 안의 쉼표와 두 번 쓴 따옴표("")를 처리합니다.
+     * 한 행이 여러 줄에 걸치는 것은 지원하지 않습니다.
+     * @return 열 목록, 따옴표가 닫히지 않았으면 null을 반환합니다.
+     */
+    static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
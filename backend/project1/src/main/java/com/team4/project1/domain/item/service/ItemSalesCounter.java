@@ -0,0 +1,101 @@
+package com.team4.project1.domain.item.service;
+
+import com.team4.project1.domain.item.entity.ItemDailySales;
+import com.team4.project1.domain.item.repository.ItemDailySalesRepository;
+import com.team4.project1.domain.order.event.OrderConfirmedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 인기순 정렬에 사용하는 상품별 최근 판매량을 집계하는 클래스입니다.
+ * 주문이 접수되면 메모리의 일별 버킷({@link SalesWindow})에 수량을 더하고,
+ * 일정 주기마다 모인 수량을 일별 판매 요약 테이블({@link ItemDailySales})에 기록(write-behind)한 뒤
+ * 기간 합계로 카탈로그의 인기 순 정렬을 다시 계산합니다.
+ * 조회 시에는 미리 정렬된 스냅샷만 읽으므로 주문 항목 테이블을 집계하지 않으며,
+ * 서버 시작 시에도 요약 테이블의 최근 기간 행만 읽습니다.
+ * 판매량이 메모리에 있으므로 서버가 하나인 환경을 전제로 하며,
+ * 서버가 비정상 종료되면 마지막 기록 이후의 판매 수량은 요약 테이블에 반영되지 않습니다.
+ */
+@Slf4j
+@Component
+public class ItemSalesCounter {
+
+    private final ItemDailySalesRepository itemDailySalesRepository;
+    private final ItemCatalogService itemCatalogService;
+    private final TransactionTemplate transactionTemplate;
+    private final SalesWindow window;
+
+    public ItemSalesCounter(
+            ItemDailySalesRepository itemDailySalesRepository,
+            ItemCatalogService itemCatalogService,
+            PlatformTransactionManager transactionManager,
+            @Value("${item.popularity.window-days:7}") int windowDays
+    ) {
+        this.itemDailySalesRepository = itemDailySalesRepository;
+        this.itemCatalogService = itemCatalogService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.window = new SalesWindow(windowDays);
+    }
+
+    /**
+     * 서버 시작 시 요약 테이블에서 집계 기간의 판매 수량을 읽어 인기 순 정렬을 계산합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDate today = LocalDate.now();
+        for (ItemDailySales sales : itemDailySalesRepository.findAllBySalesDateGreaterThanEqual(window.startOf(today))) {
+            window.load(sales.getSalesDate(), sales.getItemId(), sales.getQuantity());
+        }
+        itemCatalogService.updateSales(window.totals());
+    }
+
+    /**
+     * 접수된 주문의 수량을 오늘의 판매량에 더합니다. 주문 접수가 커밋된 뒤에 반영됩니다.
+     * @param event 주문 접수 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderConfirmed(OrderConfirmedEvent event) {
+        window.record(LocalDate.now(), event.quantities());
+    }
+
+    /**
+     * 모인 판매 수량을 요약 테이블에 기록하고, 기간이 지난 판매량을 버린 뒤 인기 순 정렬을 다시 계산합니다.
+     * 기록에 실패한 수량은 다음 주기에 다시 기록합니다.
+     */
+    @Scheduled(fixedDelayString = "${item.popularity.flush-interval-ms:10000}")
+    @PreDestroy
+    public synchronized void flush() {
+        Map<LocalDate, Map<Long, Long>> pending = window.drainPending();
+        if (!pending.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        pending.forEach(itemDailySalesRepository::addQuantities));
+            } catch (RuntimeException e) {
+                window.restorePending(pending);
+                log.warn("판매량 기록 실패: {}", e.getMessage());
+            }
+        }
+
+        LocalDate today = LocalDate.now();
+        if (window.advance(today)) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        itemDailySalesRepository.deleteBySalesDateBefore(window.startOf(today)));
+            } catch (RuntimeException e) {
+                log.warn("지난 판매량 삭제 실패: {}", e.getMessage());
+            }
+        }
+        itemCatalogService.updateSales(window.totals());
+    }
+}
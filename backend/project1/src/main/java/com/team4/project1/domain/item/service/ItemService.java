@@ -1,30 +1,45 @@
 package com.team4.project1.domain.item.service;
 
+import com.team4.project1.domain.item.dto.ItemBatchUpdateDto;
 import com.team4.project1.domain.item.dto.ItemDto;
+import com.team4.project1.domain.item.dto.ItemFilter;
+import com.team4.project1.domain.item.dto.ItemLookupDto;
+import com.team4.project1.domain.item.dto.ItemSuggestionDto;
+import com.team4.project1.domain.item.dto.ItemVersionedDto;
 import com.team4.project1.domain.item.entity.Item;
+import com.team4.project1.domain.item.entity.ItemImageSize;
+import com.team4.project1.domain.item.entity.ItemSearchMode;
 import com.team4.project1.domain.item.entity.ItemSortType;
+import com.team4.project1.domain.item.event.ItemDeletedEvent;
+import com.team4.project1.domain.item.event.ItemStockChangedEvent;
+import com.team4.project1.domain.item.event.ItemsSavedEvent;
 import com.team4.project1.domain.item.repository.ItemRepository;
+import com.team4.project1.global.dto.CursorPageDto;
 import com.team4.project1.global.exception.InsufficientStockException;
 import com.team4.project1.global.exception.ItemNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.nio.file.Files;
+import java.io.InputStream;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -35,13 +50,25 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ItemService {
 
-    @Value("${file.upload-dir}")
-    private String imageDir;
+    private static final int MAX_SCROLL_SIZE = 100;
+
+    /** 한 번에 변경할 수 있는 최대 상품 수 */
+    public static final int MAX_BATCH_UPDATE_SIZE = 1000;
+
+    /** 한 번에 조회할 수 있는 최대 상품 ID 수 */
+    public static final int MAX_LOOKUP_SIZE = 1000;
 
     private final ItemRepository itemRepository;
+    private final HotItemStockRegistry hotItemStockRegistry;
+    private final ItemCatalogService itemCatalogService;
+    private final ItemVersions itemVersions;
+    private final ItemImageResizer itemImageResizer;
+    private final ItemImageStore itemImageStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 상품의 재고를 차감하는 메서드입니다.
+     * 재고 확인과 차감을 하나의 조건부 UPDATE 문장으로 처리하므로 동시에 주문이 들어와도 차감이 유실되지 않습니다.
      * 상품이 존재하지 않으면 {@Link ItemNotFoundException}이 발생합니다.
      * * 주어진 수량만큼 재고가 차감되고, 재고가 부족할 경우 {@Link InsufficientStockException}이 발생합니다.
      * @param itemId 차감할 상품의 ID
@@ -49,34 +76,262 @@ public class ItemService {
      * @throws ItemNotFoundException 상품을 찾을 수 없는 경우 예외 발생
      * @throws InsufficientStockException 재고가 부족한 경우 예외 발생
      */
+    @Transactional
     public void reduceStock(Long itemId, int quantity) {
-        Item item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new ItemNotFoundException(itemId)); // 아이템이 없으면 예외 던짐
+        validateQuantity(itemId, quantity);
+        if (reduceHotStock(itemId, quantity) || itemRepository.decreaseStock(itemId, quantity) > 0) {
+            eventPublisher.publishEvent(new ItemStockChangedEvent(Set.of(itemId)));
+            return;
+        }
+
+        // 차감에 실패한 경우에만 원인을 확인하기 위해 현재 재고를 조회한다
+        Integer stock = itemRepository.findStocks(List.of(itemId)).get(itemId);
+        if (stock == null) {
+            throw new ItemNotFoundException(itemId);
+        }
+        throw new InsufficientStockException(itemId, stock);
+    }
+
+    /**
+     * 여러 상품의 재고를 한 번의 배치 UPDATE로 차감하는 메서드입니다.
+     * 각 상품은 재고가 충분한 경우에만 차감되며, 하나라도 차감에 실패하면 예외가 발생하고 트랜잭션이 롤백됩니다.
+     * 예외에는 재고가 부족했던 모든 상품과 현재 재고가 담깁니다.
+     * 핫 아이템은 DB 대신 분할 재고에서 차감되며, 트랜잭션이 롤백되면 차감한 수량이 되돌려집니다.
+     * @param quantities 상품 ID를 키로, 차감할 수량을 값으로 하는 맵
+     * @throws ItemNotFoundException 상품을 찾을 수 없는 경우 예외 발생
+     * @throws InsufficientStockException 하나 이상의 상품의 재고가 부족한 경우 예외 발생
+     */
+    @Transactional
+    public void reduceStocks(Map<Long, Integer> quantities) {
+        Map<Long, Integer> shortages = tryReduceStocks(quantities);
+        if (!shortages.isEmpty()) {
+            throw new InsufficientStockException(shortages);
+        }
+    }
+
+    /**
+     * 여러 상품의 재고를 모두 차감하거나, 하나도 차감하지 않는 메서드입니다.
+     * 일부 상품의 재고가 부족하면 이미 차감한 수량을 즉시 되돌리고 부족한 상품을 반환하므로,
+     * 여러 주문을 하나의 트랜잭션에서 처리할 때 한 주문의 실패가 트랜잭션 전체를 롤백시키지 않습니다.
+     * 호출한 쪽의 트랜잭션 안에서 호출해야 합니다.
+     * @param quantities 상품 ID를 키로, 차감할 수량을 값으로 하는 맵
+     * @return 재고가 부족한 상품 ID를 키로, 현재 재고를 값으로 하는 맵을 반환합니다. 모두 차감되었으면 빈 맵을 반환합니다.
+     * @throws ItemNotFoundException 상품을 찾을 수 없는 경우 예외 발생 (차감한 수량은 되돌린 뒤 발생합니다)
+     */
+    public Map<Long, Integer> tryReduceStocks(Map<Long, Integer> quantities) {
+        quantities.forEach(this::validateQuantity);
+
+        Map<Long, Integer> hotQuantities = new HashMap<>();
+        Map<Long, Integer> coldQuantities = new TreeMap<>();
+        List<Long> shortItemIds = new ArrayList<>();
+        quantities.forEach((itemId, quantity) -> {
+            switch (hotItemStockRegistry.tryReduce(itemId, quantity)) {
+                case REDUCED -> hotQuantities.put(itemId, quantity);
+                case INSUFFICIENT -> shortItemIds.add(itemId);
+                case NOT_HOT -> coldQuantities.put(itemId, quantity);
+            }
+        });
+
+        if (!coldQuantities.isEmpty()) {
+            shortItemIds.addAll(itemRepository.decreaseStocks(coldQuantities));
+        }
+        if (shortItemIds.isEmpty()) {
+            hotItemStockRegistry.restoreOnRollback(hotQuantities);
+            eventPublisher.publishEvent(new ItemStockChangedEvent(Set.copyOf(quantities.keySet())));
+            return Map.of();
+        }
+
+        // 차감에 성공한 상품의 수량을 되돌린다
+        hotQuantities.forEach(hotItemStockRegistry::restore);
+        Map<Long, Integer> reducedColdQuantities = new TreeMap<>(coldQuantities);
+        shortItemIds.forEach(reducedColdQuantities::remove);
+        if (!reducedColdQuantities.isEmpty()) {
+            itemRepository.increaseStocks(reducedColdQuantities);
+        }
+
+        Map<Long, Integer> stocks = itemRepository.findStocks(shortItemIds);
+        Map<Long, Integer> shortages = new TreeMap<>();
+        for (Long itemId : shortItemIds) {
+            OptionalInt hotStock = hotItemStockRegistry.getStock(itemId);
+            Integer stock = hotStock.isPresent() ? Integer.valueOf(hotStock.getAsInt()) : stocks.get(itemId);
+            if (stock == null) {
+                throw new ItemNotFoundException(itemId);
+            }
+            shortages.put(itemId, stock);
+        }
+        return shortages;
+    }
 
-        if (item.getStock() < quantity) {
-            // 재고 부족 시 예외 던짐
-            throw new InsufficientStockException(itemId, item.getStock());
+    /**
+     * 핫 아이템이면 분할 재고에서 재고를 차감합니다.
+     * @param itemId 차감할 상품의 ID
+     * @param quantity 차감할 수량
+     * @return 분할 재고에서 차감했으면 true, 핫 아이템이 아니면 false를 반환합니다.
+     * @throws InsufficientStockException 분할 재고가 부족한 경우 예외 발생
+     */
+    private boolean reduceHotStock(Long itemId, int quantity) {
+        switch (hotItemStockRegistry.tryReduce(itemId, quantity)) {
+            case REDUCED -> {
+                hotItemStockRegistry.restoreOnRollback(Map.of(itemId, quantity));
+                return true;
+            }
+            case INSUFFICIENT -> throw new InsufficientStockException(itemId,
+                    hotItemStockRegistry.getStock(itemId).orElse(0));
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 상품을 핫 아이템으로 지정해 재고를 여러 버킷으로 나누어 관리하도록 합니다.
+     * 재고를 읽는 동안 행 잠금을 걸어, 진행 중인 DB 차감이 끝난 뒤의 재고로 버킷을 구성합니다.
+     * @param id 핫 아이템으로 지정할 상품의 ID
+     * @param stripes 재고를 나눌 버킷 수
+     * @return 지정된 상품의 DTO를 반환합니다.
+     * @throws ItemNotFoundException 상품을 찾을 수 없는 경우 예외 발생
+     * @throws IllegalStateException 이미 핫 아이템인 경우 예외 발생
+     */
+    @Transactional
+    public ItemDto enableHotStock(Long id, int stripes) {
+        Item item = itemRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new ItemNotFoundException(id));
+        hotItemStockRegistry.register(id, item.getStock(), stripes);
+        return toDto(item);
+    }
+
+    /**
+     * 핫 아이템 지정을 해제하고 남은 재고를 DB에 기록합니다.
+     * @param id 지정을 해제할 상품의 ID
+     * @return 해제된 상품의 DTO를 반환합니다.
+     * @throws ItemNotFoundException 상품을 찾을 수 없는 경우 예외 발생
+     * @throws IllegalStateException 핫 아이템이 아닌 경우 예외 발생
+     */
+    public ItemDto disableHotStock(Long id) {
+        if (!itemRepository.existsById(id)) {
+            throw new ItemNotFoundException(id);
         }
+        hotItemStockRegistry.unregister(id);
+        return getItemById(id);
+    }
 
-        item.setStock(item.getStock() - quantity); // 재고 차감
-        itemRepository.save(item); // 변경된 아이템 저장
+    /**
+     * 상품 엔티티를 DTO로 변환합니다.
+     * 핫 아이템이면 DB 값 대신 분할 재고의 합계를 재고로 사용합니다.
+     * @param item 변환할 상품 엔티티
+     * @return 변환된 상품 DTO를 반환합니다.
+     */
+    private ItemDto toDto(Item item) {
+        return withHotStock(ItemDto.from(item));
+    }
+
+    /**
+     * 핫 아이템이면 DTO의 재고를 분할 재고의 합계로 바꿉니다.
+     * @param itemDto 상품 DTO
+     * @return 재고가 반영된 상품 DTO를 반환합니다.
+     */
+    private ItemDto withHotStock(ItemDto itemDto) {
+        hotItemStockRegistry.getStock(itemDto.getId()).ifPresent(itemDto::setStock);
+        return itemDto;
+    }
+
+    /**
+     * 차감할 수량이 1 이상인지 확인합니다.
+     * 음수 수량으로 재고가 늘어나는 것을 막습니다.
+     * @param itemId 상품 ID
+     * @param quantity 차감할 수량
+     * @throws IllegalArgumentException 수량이 1 미만인 경우 예외 발생
+     */
+    private void validateQuantity(Long itemId, Integer quantity) {
+        if (quantity == null || quantity < 1) {
+            throw new IllegalArgumentException("차감할 수량은 1 이상이어야 합니다. (상품 ID: " + itemId + ")");
+        }
     }
 
     /**
      * 주어진 키워드로 상품을 검색하고, 주어진 정렬 기준에 따라서 상품을 정렬하여 반환합니다.
+     * DB를 조회하지 않고 메모리의 카탈로그 스냅샷({@link ItemCatalog})과 이름 색인({@link NgramIndex})에서 검색합니다.
      * @param sortType 정렬 기준 ({@link ItemSortType} 사용 가능)
      * @param keyword 검색할 키워드
      * @return 검색된 상품의 DTO 목록을 반환합니다.
      */
     public Page<ItemDto> searchAllItemsSortedBy(String sortType, String keyword, Pageable pageable) {
-        Sort sort = ItemSortType.fromString(sortType).getSort(Sort.Direction.ASC);
-        Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+        return searchAllItemsSortedBy(sortType, ItemSearchMode.NAME.name(), keyword, pageable);
+    }
+
+    /**
+     * 주어진 키워드와 검색 방식으로 상품을 검색하고, 주어진 정렬 기준에 따라서 상품을 정렬하여 반환합니다.
+     * 초성 검색은 상품 이름의 초성으로 만든 색인을 사용하므로, 상품 수가 늘어도 DB나 전체 상품을 훑지 않습니다.
+     * @param sortType 정렬 기준 ({@link ItemSortType} 사용 가능)
+     * @param searchMode 검색 방식 ({@link ItemSearchMode} 사용 가능)
+     * @param keyword 검색할 키워드
+     * @return 검색된 상품의 DTO 목록을 반환합니다.
+     */
+    public Page<ItemDto> searchAllItemsSortedBy(String sortType, String searchMode, String keyword, Pageable pageable) {
+        return searchAllItemsSortedBy(sortType, searchMode, keyword, ItemFilter.NONE, pageable);
+    }
 
-        return itemRepository.findAllByNameContaining(keyword, sortedPageable)
-                .map(ItemDto::from);
+    /**
+     * 주어진 키워드와 검색 방식, 가격, 재고 조건으로 상품을 검색하고, 주어진 정렬 기준에 따라서 상품을 정렬하여 반환합니다.
+     * 키워드 없이 조건만 있으면 카탈로그의 열 저장소({@link ItemColumns})에서 가격 범위를 이진 탐색해 거릅니다.
+     * 재고 조건은 카탈로그의 재고를 기준으로 하므로, 핫 아이템의 분할 재고는 DB에 기록된 뒤에 반영됩니다.
+     * @param sortType 정렬 기준 ({@link ItemSortType} 사용 가능)
+     * @param searchMode 검색 방식 ({@link ItemSearchMode} 사용 가능)
+     * @param keyword 검색할 키워드
+     * @param filter 가격, 재고 조건
+     * @return 검색된 상품의 DTO 목록을 반환합니다.
+     */
+    public Page<ItemDto> searchAllItemsSortedBy(String sortType, String searchMode, String keyword, ItemFilter filter,
+                                                Pageable pageable) {
+        return itemCatalogService.search(ItemSortType.fromString(sortType), ItemSearchMode.fromString(searchMode),
+                        keyword, filter, pageable)
+                .map(this::withHotStock);
     }
 
 
+    /**
+     * 상품을 커서 방식으로 조회합니다. 무한 스크롤처럼 이전 페이지 다음부터 이어서 조회할 때 사용합니다.
+     * 정렬 기준 값과 ID로 만든 커서에서 바로 시작하므로, 페이지 번호 방식과 달리 앞쪽 상품을 건너뛰거나 전체 개수를 세지 않습니다.
+     * @param sortType 정렬 기준 ({@link ItemSortType} 사용 가능)
+     * @param searchMode 검색 방식 ({@link ItemSearchMode} 사용 가능, fuzzy는 지원하지 않습니다)
+     * @param keyword 검색할 키워드
+     * @param after 이전 페이지 응답의 nextCursor, 없으면 처음부터 조회합니다.
+     * @param size 조회할 상품 수 (1 ~ 100)
+     * @param withTotal 전체 상품 수를 함께 반환할지 여부
+     * @return 상품 목록과 다음 페이지 커서를 반환합니다.
+     * @throws IllegalArgumentException 조회할 상품 수가 범위를 벗어나거나 커서가 잘못된 경우 예외 발생
+     */
+    public CursorPageDto<ItemDto> scrollItems(String sortType, String searchMode, String keyword,
+                                              String after, int size, boolean withTotal) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new IllegalArgumentException("조회할 상품 수는 1 이상 %d 이하여야 합니다.".formatted(MAX_SCROLL_SIZE));
+        }
+        ItemSortType itemSortType = ItemSortType.fromString(sortType);
+        ItemSearchMode itemSearchMode = ItemSearchMode.fromString(searchMode);
+        ItemDto afterItem = after == null || after.isBlank() ? null : ItemCursor.decode(itemSortType, after);
+
+        // 다음 페이지가 있는지 확인하기 위해 하나 더 조회한다
+        List<ItemDto> items = itemCatalogService.scroll(itemSortType, itemSearchMode, keyword, afterItem, size + 1);
+        String nextCursor = null;
+        if (items.size() > size) {
+            items = items.subList(0, size);
+            nextCursor = ItemCursor.encode(itemSortType, items.get(size - 1));
+        }
+        Long total = withTotal ? (long) itemCatalogService.count(itemSearchMode, keyword) : null;
+        return new CursorPageDto<>(items.stream().map(this::withHotStock).toList(), nextCursor, total);
+    }
+
+    /**
+     * 접두사로 시작하는 상품 이름을 반환합니다. 검색창의 자동 완성에 사용합니다.
+     * 상품이 변경될 때마다 갱신되는 접두사 트라이({@link PrefixTrie})에서 조회하므로 DB를 조회하지 않습니다.
+     * @param prefix 접두사
+     * @param limit 반환할 최대 개수
+     * @return 자동 완성 결과 목록을 반환합니다.
+     */
+    public List<ItemSuggestionDto> suggestItems(String prefix, int limit) {
+        return itemCatalogService.suggest(prefix, limit);
+    }
+
     // TODO: 메소드 삭제 및 관련 코드 리팩토링
     /**
      * 모든 상품을 조회하여 반환하는 메서드입니다.
@@ -85,10 +340,28 @@ public class ItemService {
     @Deprecated
     public List<ItemDto> getAllItems() {
         return itemRepository.findAll().stream()
-                .map(ItemDto::from)
+                .map(this::toDto)
                 .collect(Collectors.toList());
     }
   
+    /**
+     * 상품 목록 응답의 ETag를 반환합니다. 상품이 하나라도 변경되면 값이 바뀝니다.
+     * 버전만 읽으므로 조회 전에 호출해 변경되지 않은 요청에 304로 응답하는 데 사용합니다.
+     * @return 따옴표로 감싼 강한 ETag
+     */
+    public String getCatalogETag() {
+        return itemVersions.catalogETag();
+    }
+
+    /**
+     * 상품 상세, 이미지 응답의 ETag를 반환합니다. 해당 상품이 변경되었을 때만 값이 바뀝니다.
+     * @param itemId 상품 ID
+     * @return 따옴표로 감싼 강한 ETag
+     */
+    public String getItemETag(Long itemId) {
+        return itemVersions.itemETag(itemId);
+    }
+
     /**
      * 주어진 ID로 상품을 조회하여 DTO 형태로 반환합니다.
      * @param itemId 조회할 상품의 ID
@@ -96,7 +369,58 @@ public class ItemService {
      * @throws ItemNotFoundException 상품을 찾을 수 없는 경우 예외가 발생합니다.
      */
     public ItemDto getItemById(Long itemId) {
-        return ItemDto.from(itemRepository.findById(itemId).orElseThrow(() -> new ItemNotFoundException(itemId)));
+        return toDto(itemRepository.findById(itemId).orElseThrow(() -> new ItemNotFoundException(itemId)));
+    }
+
+    /**
+     * 주어진 ID 목록에 해당하는 상품들을 한 번의 쿼리로 조회합니다.
+     * 같은 ID가 여러 번 포함되어 있어도 한 번만 조회됩니다.
+     * @param itemIds 조회할 상품 ID 목록
+     * @return 상품 ID를 키로 하는 상품 엔티티 맵을 반환합니다.
+     * @throws ItemNotFoundException 존재하지 않는 상품 ID가 포함된 경우 예외가 발생합니다.
+     */
+    public Map<Long, Item> getItemsByIds(Collection<Long> itemIds) {
+        Map<Long, Item> items = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        for (Long itemId : itemIds) {
+            if (!items.containsKey(itemId)) {
+                throw new ItemNotFoundException(itemId);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * 여러 상품을 한 번의 쿼리로 조회해 요청한 ID 순서대로 반환합니다.
+     * 상품마다 단건 조회를 반복하지 않도록 장바구니, 주문 항목 등에서 사용합니다.
+     * 존재하지 않는 상품은 예외를 던지지 않고 결과의 해당 자리를 null로 두고 missingIds에 담습니다.
+     * @param itemIds 조회할 상품 ID 목록 (중복 가능)
+     * @return 요청 순서대로 정렬된 상품과 존재하지 않는 상품 ID를 담은 DTO를 반환합니다.
+     * @throws IllegalArgumentException ID 목록이 비어 있거나 너무 많은 경우, null이 포함된 경우 예외 발생
+     */
+    public ItemLookupDto lookupItems(List<Long> itemIds) {
+        if (itemIds == null || itemIds.isEmpty()) {
+            throw new IllegalArgumentException("조회할 상품 ID가 없습니다.");
+        }
+        if (itemIds.size() > MAX_LOOKUP_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 상품은 최대 %d개입니다.".formatted(MAX_LOOKUP_SIZE));
+        }
+        if (itemIds.contains(null)) {
+            throw new IllegalArgumentException("상품 ID에 빈 값이 포함되어 있습니다.");
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(itemIds);
+        Map<Long, ItemDto> found = itemRepository.findAllById(distinctIds).stream()
+                .collect(Collectors.toMap(Item::getId, this::toDto));
+        List<ItemDto> items = new ArrayList<>(itemIds.size());
+        for (Long itemId : itemIds) {
+            items.add(found.get(itemId));
+        }
+        List<Long> missingIds = distinctIds.stream()
+                .filter(itemId -> !found.containsKey(itemId))
+                .toList();
+        return new ItemLookupDto(items, missingIds);
     }
 
     /**
@@ -121,7 +445,9 @@ public class ItemService {
                 .stock(stock)
                 .build();
 
-        return itemRepository.save(item);
+        Item savedItem = itemRepository.save(item);
+        eventPublisher.publishEvent(new ItemsSavedEvent(List.of(ItemDto.from(savedItem))));
+        return savedItem;
     }
     /**
      * 주어진 Id에 해당하는 상품을 업데이트하는 메서드입니다.
@@ -138,81 +464,223 @@ public class ItemService {
         item.setPrice(itemDto.getPrice());
 
         Item updatedItem = itemRepository.save(item);
-        return ItemDto.from(updatedItem);  // 수정된 아이템을 반환
+        eventPublisher.publishEvent(new ItemsSavedEvent(List.of(ItemDto.from(updatedItem))));
+        return toDto(updatedItem);  // 수정된 아이템을 반환
+    }
+
+    /**
+     * 여러 상품의 재고와 가격을 하나의 트랜잭션에서 변경하는 메서드입니다.
+     * 상품마다 UPDATE 문장을 보내지 않고, 같은 재고 변화량이나 같은 새 가격을 가진 상품끼리 묶어
+     * 묶음마다 하나의 UPDATE 문장으로 변경합니다. 하나라도 실패하면 모든 변경이 롤백됩니다.
+     * 핫 아이템의 재고는 분할 재고에서 변경하며, 입고 수량은 커밋된 뒤에 반영됩니다.
+     * 카탈로그 갱신 이벤트는 상품마다가 아니라 배치 전체에 대해 한 번만 발행합니다.
+     * @param changes 상품별 변경 내용
+     * @return 변경된 상품의 DTO 목록을 요청 순서대로 반환합니다. ETag는 커밋된 뒤 {@link #withETags(List)}로 얻습니다.
+     * @throws IllegalArgumentException 요청이 비어 있거나 너무 많은 경우, 같은 상품이 중복된 경우, 변경 내용이 올바르지 않은 경우 예외 발생
+     * @throws ItemNotFoundException 상품을 찾을 수 없는 경우 예외 발생
+     * @throws InsufficientStockException 차감 후 재고가 음수가 되는 상품이 있는 경우 예외 발생
+     */
+    @Transactional
+    public List<ItemDto> updateItems(List<ItemBatchUpdateDto.Change> changes) {
+        validateChanges(changes);
+        List<Long> ids = changes.stream().map(ItemBatchUpdateDto.Change::getId).toList();
+        Map<Long, Integer> stocks = itemRepository.findStocks(ids);
+        for (Long id : ids) {
+            if (!stocks.containsKey(id)) {
+                throw new ItemNotFoundException(id);
+            }
+        }
+
+        Map<Integer, List<Long>> idsByDelta = new TreeMap<>();
+        Map<Integer, List<Long>> idsByPrice = new TreeMap<>();
+        Map<Long, Integer> hotAdded = new HashMap<>();
+        Map<Long, Integer> hotReduced = new HashMap<>();
+        Map<Long, Integer> shortages = new TreeMap<>();
+        for (ItemBatchUpdateDto.Change change : changes) {
+            Long id = change.getId();
+            if (change.getPrice() != null) {
+                idsByPrice.computeIfAbsent(change.getPrice(), price -> new ArrayList<>()).add(id);
+            }
+            int delta = change.getStockDelta() == null ? 0 : change.getStockDelta();
+            if (delta > 0 && hotItemStockRegistry.isHot(id)) {
+                hotAdded.put(id, delta);
+                continue;
+            }
+            if (delta < 0) {
+                HotItemStockRegistry.Result result = hotItemStockRegistry.tryReduce(id, -delta);
+                if (result == HotItemStockRegistry.Result.REDUCED) {
+                    hotReduced.put(id, -delta);
+                    continue;
+                }
+                if (result == HotItemStockRegistry.Result.INSUFFICIENT) {
+                    shortages.put(id, hotItemStockRegistry.getStock(id).orElse(0));
+                    continue;
+                }
+                if (stocks.get(id) + delta < 0) {
+                    shortages.put(id, stocks.get(id));
+                    continue;
+                }
+            }
+            if (delta != 0) {
+                idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(id);
+            }
+        }
+        hotItemStockRegistry.restoreOnRollback(hotReduced);
+        if (!shortages.isEmpty()) {
+            throw new InsufficientStockException(shortages);
+        }
+
+        idsByDelta.forEach((delta, deltaIds) -> {
+            if (itemRepository.addStocks(deltaIds, delta) < deltaIds.size()) {
+                // 조회한 뒤 다른 주문이 재고를 차감해 조건을 만족하지 못한 상품이 있다
+                Map<Long, Integer> current = new TreeMap<>(itemRepository.findStocks(deltaIds));
+                current.values().removeIf(stock -> stock + delta >= 0);
+                throw new InsufficientStockException(current);
+            }
+        });
+        idsByPrice.forEach((price, priceIds) -> itemRepository.updatePrices(priceIds, price));
+        hotItemStockRegistry.addOnCommit(hotAdded);
+
+        Map<Long, Item> updatedItems = itemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        List<ItemDto> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            // 핫 아이템의 재고는 DB가 아닌 분할 재고의 합계이고, 입고 수량은 커밋된 뒤에 더해지므로 미리 더해 둔다
+            ItemDto itemDto = toDto(updatedItems.get(id));
+            itemDto.setStock(itemDto.getStock() + hotAdded.getOrDefault(id, 0));
+            result.add(itemDto);
+        }
+        eventPublisher.publishEvent(new ItemsSavedEvent(result));
+        return result;
+    }
+
+    /**
+     * 일괄 변경한 상품을 상품별 ETag와 함께 반환합니다. 변경한 트랜잭션이 커밋되어 상품 버전이 오른 뒤에 호출해야 합니다.
+     * ETag를 먼저 읽고 카탈로그에서 상품을 읽으므로, 그 사이 다른 변경이 커밋되어도 응답한 ETag가 응답한 내용보다 새롭지 않습니다.
+     * @param items 일괄 변경한 상품 목록, 카탈로그에서 사라진 상품은 이 내용을 그대로 사용합니다.
+     * @return 상품과 ETag 목록을 요청 순서대로 반환합니다.
+     */
+    public List<ItemVersionedDto> withETags(List<ItemDto> items) {
+        List<ItemVersionedDto> result = new ArrayList<>(items.size());
+        for (ItemDto item : items) {
+            String eTag = itemVersions.itemETag(item.getId());
+            ItemDto current = itemCatalogService.getCatalog().get(item.getId())
+                    .map(this::withHotStock)
+                    .orElse(item);
+            result.add(new ItemVersionedDto(current, eTag));
+        }
+        return result;
+    }
+
+    /**
+     * 일괄 변경 요청이 올바른지 확인합니다.
+     * @param changes 상품별 변경 내용
+     * @throws IllegalArgumentException 요청이 올바르지 않은 경우 예외 발생
+     */
+    private void validateChanges(List<ItemBatchUpdateDto.Change> changes) {
+        if (changes == null || changes.isEmpty()) {
+            throw new IllegalArgumentException("변경할 상품이 없습니다.");
+        }
+        if (changes.size() > MAX_BATCH_UPDATE_SIZE) {
+            throw new IllegalArgumentException("한 번에 변경할 수 있는 상품은 최대 %d개입니다.".formatted(MAX_BATCH_UPDATE_SIZE));
+        }
+        Set<Long> ids = new HashSet<>();
+        for (ItemBatchUpdateDto.Change change : changes) {
+            if (change.getId() == null) {
+                throw new IllegalArgumentException("상품 ID가 없습니다.");
+            }
+            if (!ids.add(change.getId())) {
+                throw new IllegalArgumentException("같은 상품이 여러 번 포함되어 있습니다. (상품 ID: " + change.getId() + ")");
+            }
+            if (change.getStockDelta() == null && change.getPrice() == null) {
+                throw new IllegalArgumentException("재고 변화량이나 가격 중 하나는 지정해야 합니다. (상품 ID: " + change.getId() + ")");
+            }
+            if (change.getPrice() != null && change.getPrice() < 0) {
+                throw new IllegalArgumentException("가격은 0 이상이어야 합니다. (상품 ID: " + change.getId() + ")");
+            }
+        }
     }
 
     /**
      * 주어진 ID에 해당하는 상품을 삭제하는 메서드입니다.
+     * 상품의 이미지는 참조 수를 줄이고, 더 이상 사용하는 상품이 없으면 유예 시간이 지난 뒤 정리됩니다.
      *
      * @param id 삭제할 상품의 ID
      * @throws ItemNotFoundException 아이템을 찾을 수 없는 경우 예외가 발생합니다.
      */
+    @Transactional
     public void deleteItem(Long id) {
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new ItemNotFoundException(id));
+        if (item.getImageUuid() != null) {
+            itemImageStore.release(item.getImageUuid());
+        }
         itemRepository.delete(item);
+        eventPublisher.publishEvent(new ItemDeletedEvent(id));
     }
 
-    public Resource getItemImage(Long id) {
+    /**
+     * 상품 이미지의 UUID를 반환합니다.
+     * @param id 상품 ID
+     * @return 이미지 UUID를 반환합니다. 이미지가 없으면 null을 반환합니다.
+     * @throws ItemNotFoundException 아이템을 찾을 수 없는 경우 예외가 발생합니다.
+     */
+    public UUID getItemImageUuid(Long id) {
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new ItemNotFoundException(id));
-        if(item.getImageUuid() == null) {
-            return null;
-        }
-        try {
-            Path filePath = Paths.get(imageDir).resolve(item.getImageUuidAsUri());
-            Resource resource = new UrlResource(filePath.toUri());
-            if (resource.exists()) {
-                return resource;
-            }
-        }
-        catch (MalformedURLException e) {
-            throw new RuntimeException(e);
-        }
-        return null;
+        return item.getImageUuid();
     }
 
+    /**
+     * 이미지 UUID에 해당하는 이미지 파일의 경로를 반환합니다.
+     * 이미지 UUID는 파일 내용의 해시로 만들므로, 같은 UUID의 내용은 항상 같습니다.
+     * 요청한 크기의 변형이 아직 만들어지지 않았으면 원본 경로를 반환합니다.
+     * @param imageUuid 이미지 UUID
+     * @param size 이미지 크기
+     * @return 파일 경로를 반환합니다. 파일이 없으면 null을 반환합니다.
+     */
+    public Path getImageFile(UUID imageUuid, ItemImageSize size) {
+        return itemImageResizer.resolve(imageUuid, size);
+    }
+
+    /**
+     * 상품의 이미지를 등록하거나 교체합니다.
+     * 이미지는 내용의 해시로 저장되므로, 같은 내용의 이미지가 이미 있으면 파일을 새로 쓰지 않고 그 파일을 함께 사용합니다.
+     * 이전 이미지는 참조 수를 줄이고, 더 이상 사용하는 상품이 없으면 유예 시간이 지난 뒤 정리됩니다.
+     * @param id 상품 ID
+     * @param image 업로드한 이미지 파일
+     * @return 저장된 이미지 파일 이름을 반환합니다.
+     * @throws ItemNotFoundException 아이템을 찾을 수 없는 경우 예외가 발생합니다.
+     */
+    @Transactional
     public String addImageToItem(Long id, MultipartFile image) {
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new ItemNotFoundException(id));
-        // 이미 존재하는 이미지를 삭제한다
-        if (item.getImageUuid() != null) {
-            deleteImageFromItem(item);
-            item.setImageUuid(null);
-        }
-        UUID newUuid = UUID.randomUUID();
-        String newImageName = newUuid + ".jpg";
-        saveImageAs(image, newImageName);
-        item.setImageUuid(newUuid);
-        itemRepository.save(item);
-        return newImageName;
-    }
-
-    private void deleteImageFromItem(Item item) {
-        Path uploadPath = Paths.get(imageDir);
-        Path filePath = uploadPath.resolve(item.getImageUuidAsUri());
-        if (!Files.exists(filePath)) {
-            throw new RuntimeException("파일이 존재하지 않습니다. (상품: %d, 경로: %s)"
-                    .formatted(item.getId(), filePath.toString()));
-        }
-        try {
-            Files.delete(filePath);
+        ItemImageStore.StoredImage stored = storeImage(image);
+        UUID previousUuid = item.getImageUuid();
+        if (!stored.imageUuid().equals(previousUuid)) {
+            if (!itemImageStore.acquire(stored)) {
+                // 등록하는 사이 정리된 이미지면 참조를 잡은 채로 파일을 다시 쓴다
+                stored = storeImage(image);
+            }
+            if (previousUuid != null) {
+                itemImageStore.release(previousUuid);
+            }
+            item.setImageUuid(stored.imageUuid());
+            itemRepository.save(item);
+            eventPublisher.publishEvent(new ItemsSavedEvent(List.of(ItemDto.from(item))));
         }
-        catch (IOException e) {
-            throw new RuntimeException(e);
+        if (stored.created()) {
+            // 목록, 썸네일, 상세용 변형은 백그라운드에서 만들고, 준비되기 전에는 원본을 사용한다
+            itemImageResizer.enqueue(stored.imageUuid());
         }
+        return ItemImageSize.ORIGINAL.fileNameOf(stored.imageUuid());
     }
 
-    private void saveImageAs(MultipartFile file, String fileName) {
-        Path uploadPath = Paths.get(imageDir);
-        try {
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-            Path filePath = uploadPath.resolve(fileName);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-        }
-        catch (IOException e) {
+    private ItemImageStore.StoredImage storeImage(MultipartFile image) {
+        try (InputStream content = image.getInputStream()) {
+            return itemImageStore.store(content);
+        } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
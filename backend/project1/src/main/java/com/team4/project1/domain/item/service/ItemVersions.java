@@ -0,0 +1,56 @@
+package com.team4.project1.domain.item.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 조회 응답의 ETag를 만들기 위한 버전 번호를 관리하는 클래스입니다.
+ * 상품이 변경될 때마다 카탈로그 버전을 1 올리고, 변경된 상품에는 그 버전을 상품 버전으로 기록합니다.
+ * 목록 응답은 카탈로그 버전을, 상세와 이미지 응답은 상품 버전을 ETag로 사용하므로
+ * 버전만 비교해 DB 조회와 직렬화 없이 304 응답을 보낼 수 있습니다.
+ * 버전은 메모리에만 있으므로, 서버가 다시 시작되면 이전 ETag와 겹치지 않도록 시작 시각을 ETag에 함께 담습니다.
+ */
+@Component
+public class ItemVersions {
+
+    /** 서버 시작 시각, 재시작 전후의 ETag가 같아지지 않도록 구분합니다. */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong catalogVersion = new AtomicLong();
+
+    /** 상품 ID별로 마지막으로 변경된 카탈로그 버전, 시작 후 변경된 적 없는 상품은 담기지 않습니다. */
+    private final Map<Long, Long> itemVersions = new ConcurrentHashMap<>();
+
+    /**
+     * 카탈로그 버전을 올리고, 주어진 상품들의 버전을 새 카탈로그 버전으로 기록합니다.
+     * 변경된 내용이 조회에 반영된 뒤(카탈로그 교체, 트랜잭션 커밋 이후)에 호출해야 합니다.
+     * @param itemIds 변경된 상품 ID 목록, 비어 있으면 카탈로그 버전만 올립니다.
+     */
+    public void bump(Collection<Long> itemIds) {
+        long version = catalogVersion.incrementAndGet();
+        for (Long itemId : itemIds) {
+            itemVersions.put(itemId, version);
+        }
+    }
+
+    /**
+     * 상품 목록 응답에 사용할 강한 ETag를 반환합니다.
+     * @return 따옴표로 감싼 ETag
+     */
+    public String catalogETag() {
+        return "\"" + epoch + "-" + catalogVersion.get() + "\"";
+    }
+
+    /**
+     * 상품 상세, 이미지 응답에 사용할 강한 ETag를 반환합니다.
+     * @param itemId 상품 ID
+     * @return 따옴표로 감싼 ETag
+     */
+    public String itemETag(Long itemId) {
+        return "\"" + epoch + "-" + itemId + "-" + itemVersions.getOrDefault(itemId, 0L) + "\"";
+    }
+}
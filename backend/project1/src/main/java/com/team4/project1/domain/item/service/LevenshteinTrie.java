@@ -0,0 +1,281 @@
+package com.team4.project1.domain.item.service;
+
+import com.team4.project1.standard.util.Ut;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 편집 거리로 비슷한 문자열을 찾는 트라이입니다. 오타가 섞인 상품 검색에 사용합니다.
+ * 문서의 단어와 문서 전체를 한글 자모로 분해해 색인하므로, 음절 하나의 오타는 보통 편집 거리 1이 됩니다.
+ * 검색할 때는 트라이를 내려가며 검색어와의 편집 거리 표를 한 행씩 이어서 계산하므로, 접두사가 같은 단어는 계산을 공유합니다.
+ * 행의 최솟값이 허용 거리를 넘으면 그 아래의 어떤 단어도 허용 거리 안에 들 수 없으므로 가지 전체를 건너뜁니다.
+ * 그래서 상품이 늘어도 검색어와 앞부분이 비슷한 가지만 탐색하며, 자식이 하나뿐인 노드는 간선 하나로 합쳐(경로 압축) 노드 수를 줄입니다.
+ * 문서를 삭제해도 노드는 트라이에 남기고 문서 목록만 비웁니다(tombstone). 빈 노드는 트라이를 다시 만들 때 사라집니다.
+ */
+public class LevenshteinTrie {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node(new int[0]);
+    private final Map<Long, Set<String>> termsById = new HashMap<>();
+
+    private static class Node {
+        /** 부모에서 이 노드로 오는 간선의 글자들 */
+        private int[] label;
+        /** 자식 간선의 첫 글자를 키로 하는 자식 노드, 자식이 없으면 null */
+        private Map<Integer, Node> children;
+        /** 이 노드에서 끝나는 단어를 가진 문서, 없으면 null */
+        private Set<Long> ids;
+
+        private Node(int[] label) {
+            this.label = label;
+        }
+
+        private Node child(int codePoint) {
+            return children == null ? null : children.get(codePoint);
+        }
+
+        private void putChild(Node child) {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            children.put(child.label[0], child);
+        }
+    }
+
+    /**
+     * 문서를 색인합니다. 이미 색인된 문서이면 기존 내용을 지우고 다시 색인합니다.
+     * @param id 문서 ID
+     * @param text 색인할 문자열
+     */
+    public void put(Long id, String text) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            if (text == null || text.isBlank()) {
+                return;
+            }
+            Set<String> terms = terms(text);
+            termsById.put(id, terms);
+            for (String term : terms) {
+                Node node = insert(term.codePoints().toArray());
+                if (node.ids == null) {
+                    node.ids = new HashSet<>();
+                }
+                node.ids.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서를 색인에서 제거합니다.
+     * @param id 제거할 문서 ID
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 편집 거리가 {@code maxDistance} 이하인 단어를 가진 문서를 찾습니다.
+     * @param query 검색어
+     * @param maxDistance 허용할 최대 편집 거리 (자모 기준)
+     * @return 문서 ID를 키로, 가장 가까운 단어와의 편집 거리를 값으로 하는 맵을 반환합니다.
+     */
+    public Map<Long, Integer> search(String query, int maxDistance) {
+        return search(query, maxDistance, new int[1]);
+    }
+
+    /**
+     * 검색어에 허용할 최대 편집 거리를 반환합니다.
+     * 짧은 검색어에 큰 거리를 허용하면 관계없는 단어까지 찾으므로, 자모가 7개 이하(보통 두세 음절)이면 1, 그보다 길면 2를 허용합니다.
+     * @param query 검색어
+     * @return 허용할 최대 편집 거리
+     */
+    public static int maxDistanceFor(String query) {
+        String jamo = normalize(query);
+        return jamo.codePointCount(0, jamo.length()) <= 7 ? 1 : 2;
+    }
+
+    /**
+     * 검색할 때 편집 거리 표의 행을 계산한 횟수(탐색한 글자 수)를 반환합니다. 검색 비용을 측정할 때 사용합니다.
+     */
+    int countVisited(String query, int maxDistance) {
+        int[] visited = new int[1];
+        search(query, maxDistance, visited);
+        return visited[0];
+    }
+
+    /**
+     * 색인된 문서 수를 반환합니다.
+     * @return 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return termsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Integer> search(String query, int maxDistance, int[] visited) {
+        Map<Long, Integer> distances = new HashMap<>();
+        if (query == null || query.isBlank()) {
+            return distances;
+        }
+        int[] target = normalize(query).codePoints().toArray();
+        // 빈 접두사와 검색어 앞부분 사이의 편집 거리
+        int[] firstRow = new int[target.length + 1];
+        for (int j = 0; j <= target.length; j++) {
+            firstRow[j] = j;
+        }
+
+        lock.readLock().lock();
+        try {
+            if (root.children != null) {
+                for (Node child : root.children.values()) {
+                    search(child, firstRow, target, maxDistance, distances, visited);
+                }
+            }
+            return distances;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void search(Node node, int[] previousRow, int[] target, int maxDistance,
+                               Map<Long, Integer> distances, int[] visited) {
+        int[] row = previousRow;
+        for (int codePoint : node.label) {
+            row = nextRow(row, codePoint, target);
+            visited[0]++;
+            // 행의 최솟값은 글자를 더 붙여도 줄지 않으므로, 허용 거리를 넘으면 아래 가지를 모두 건너뛴다
+            if (min(row) > maxDistance) {
+                return;
+            }
+        }
+        int distance = row[target.length];
+        if (node.ids != null && distance <= maxDistance) {
+            for (Long id : node.ids) {
+                distances.merge(id, distance, Math::min);
+            }
+        }
+        if (node.children != null) {
+            for (Node child : node.children.values()) {
+                search(child, row, target, maxDistance, distances, visited);
+            }
+        }
+    }
+
+    private Node insert(int[] term) {
+        Node node = root;
+        int position = 0;
+        while (position < term.length) {
+            Node child = node.child(term[position]);
+            if (child == null) {
+                Node leaf = new Node(Arrays.copyOfRange(term, position, term.length));
+                node.putChild(leaf);
+                return leaf;
+            }
+            int common = commonPrefixLength(child.label, term, position);
+            if (common < child.label.length) {
+                // 간선 중간에서 갈라지면 공통 부분을 새 노드로 떼어 낸다
+                Node middle = new Node(Arrays.copyOf(child.label, common));
+                child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+                middle.putChild(child);
+                node.putChild(middle);
+                child = middle;
+            }
+            node = child;
+            position += common;
+        }
+        return node;
+    }
+
+    private Node find(int[] term) {
+        Node node = root;
+        int position = 0;
+        while (position < term.length) {
+            Node child = node.child(term[position]);
+            if (child == null || commonPrefixLength(child.label, term, position) < child.label.length) {
+                return null;
+            }
+            node = child;
+            position += child.label.length;
+        }
+        return node;
+    }
+
+    private void removeInternal(Long id) {
+        Set<String> terms = termsById.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Node node = find(term.codePoints().toArray());
+            if (node != null && node.ids != null) {
+                node.ids.remove(id);
+            }
+        }
+    }
+
+    private static int commonPrefixLength(int[] label, int[] term, int offset) {
+        int length = Math.min(label.length, term.length - offset);
+        int i = 0;
+        while (i < length && label[i] == term[offset + i]) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 문서 전체와 공백으로 나눈 각 단어를 자모로 분해해 색인할 단어로 사용합니다.
+     */
+    private static Set<String> terms(String text) {
+        String normalized = normalize(text);
+        Set<String> terms = new LinkedHashSet<>();
+        terms.add(normalized);
+        for (String word : normalized.split("\\s+")) {
+            if (!word.isEmpty()) {
+                terms.add(word);
+            }
+        }
+        return terms;
+    }
+
+    private static String normalize(String text) {
+        return Ut.Hangul.toJamo(text.strip());
+    }
+
+    // 접두사에 글자 하나를 붙였을 때 레벤슈타인 거리 표의 다음 행
+    private static int[] nextRow(int[] previous, int codePoint, int[] target) {
+        int[] current = new int[previous.length];
+        current[0] = previous[0] + 1;
+        for (int j = 1; j < current.length; j++) {
+            int cost = target[j - 1] == codePoint ? 0 : 1;
+            current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+        }
+        return current;
+    }
+
+    private static int min(int[] row) {
+        int min = row[0];
+        for (int value : row) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+}
@@ -0,0 +1,188 @@
+package com.team4.project1.domain.item.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문자열의 n-gram으로 만든 역색인입니다. 부분 문자열 검색의 후보를 빠르게 찾는 데 사용합니다.
+ * 문자열을 코드 포인트 단위로 나누어 1-gram부터 n-gram까지 색인하므로, 한글은 음절 하나가 한 글자로 처리됩니다.
+ * 검색어의 모든 n-gram을 포함하는 문서만 후보로 반환하므로, 실제로 검색어를 포함하는지는 호출한 쪽에서 확인해야 합니다.
+ * 글자 종류가 적은 문자열은 n을 크게 잡아야 문서 목록이 짧아집니다.
+ * 문서 추가, 수정, 삭제는 해당 문서의 n-gram만 갱신하며, 여러 스레드에서 동시에 사용할 수 있습니다.
+ */
+public class NgramIndex {
+
+    /**
+     * 기본 n-gram 길이
+     */
+    public static final int DEFAULT_GRAM_SIZE = 2;
+
+    private final int gramSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, String> texts = new HashMap<>();
+
+    public NgramIndex() {
+        this(DEFAULT_GRAM_SIZE);
+    }
+
+    public NgramIndex(int gramSize) {
+        this.gramSize = gramSize;
+    }
+
+    /**
+     * 문서를 색인합니다. 이미 색인된 문서이면 기존 내용을 지우고 다시 색인합니다.
+     * @param id 문서 ID
+     * @param text 색인할 문자열
+     */
+    public void put(Long id, String text) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            if (text == null) {
+                return;
+            }
+            texts.put(id, text);
+            for (String gram : grams(text)) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서를 색인에서 제거합니다.
+     * @param id 제거할 문서 ID
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 포함할 수 있는 문서의 ID를 반환합니다.
+     * 검색어의 n-gram별 문서 목록 중 가장 짧은 목록부터 교집합을 구합니다.
+     * @param keyword 검색어
+     * @return 후보 문서 ID 집합을 반환합니다. 검색어의 n-gram 중 색인에 없는 것이 있으면 빈 집합을 반환합니다.
+     */
+    public Set<Long> candidates(String keyword) {
+        Set<String> queryGrams = queryGrams(keyword);
+        lock.readLock().lock();
+        try {
+            Set<Long> smallest = null;
+            for (String gram : queryGrams) {
+                Set<Long> posting = postings.get(gram);
+                if (posting == null) {
+                    return Set.of();
+                }
+                if (smallest == null || posting.size() < smallest.size()) {
+                    smallest = posting;
+                }
+            }
+            if (smallest == null) {
+                return Set.of();
+            }
+
+            Set<Long> result = new HashSet<>();
+            for (Long id : smallest) {
+                if (containsAll(queryGrams, id)) {
+                    result.add(id);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 문서 수를 반환합니다.
+     * @return 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return texts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean containsAll(Set<String> queryGrams, Long id) {
+        for (String gram : queryGrams) {
+            if (!postings.get(gram).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void removeInternal(Long id) {
+        String oldText = texts.remove(id);
+        if (oldText == null) {
+            return;
+        }
+        for (String gram : grams(oldText)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * 색인할 n-gram을 구합니다. 길이가 1부터 n까지인 모든 부분 문자열을 포함합니다.
+     */
+    private Set<String> grams(String text) {
+        List<String> chars = codePoints(text);
+        Set<String> grams = new HashSet<>();
+        for (int length = 1; length <= gramSize; length++) {
+            grams.addAll(gramsOf(chars, length));
+        }
+        return grams;
+    }
+
+    /**
+     * 검색에 사용할 n-gram을 구합니다. 검색어가 n글자 이하이면 검색어 전체를, 그 외에는 모든 n-gram을 사용합니다.
+     */
+    private Set<String> queryGrams(String keyword) {
+        List<String> chars = codePoints(keyword);
+        return gramsOf(chars, Math.min(chars.size(), gramSize));
+    }
+
+    private static Set<String> gramsOf(List<String> chars, int length) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (length == 0) {
+            return grams;
+        }
+        for (int i = 0; i + length <= chars.size(); i++) {
+            grams.add(String.join("", chars.subList(i, i + length)));
+        }
+        return grams;
+    }
+
+    private static List<String> codePoints(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return text.toLowerCase(Locale.ROOT).codePoints()
+                .mapToObj(Character::toString)
+                .toList();
+    }
+}
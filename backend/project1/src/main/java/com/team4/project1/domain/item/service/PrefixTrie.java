@@ -0,0 +1,231 @@
+package com.team4.project1.domain.item.service;
+
+import com.team4.project1.domain.item.dto.ItemSuggestionDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 이름으로 만든 접두사 트라이입니다. 검색어 자동 완성에 사용합니다.
+ * 상품 이름 전체와 이름 속 각 단어의 시작 위치를 키로 사용하므로, "커피"로 "콜롬비아 커피"도 찾을 수 있습니다.
+ * 각 노드는 그 아래에 있는 상품 중 이름 순으로 앞선 상위 K개를 미리 계산해 두므로, 조회할 때 하위 노드를 탐색하지 않습니다.
+ * 상품 추가, 수정, 삭제는 해당 상품의 키가 지나는 노드만 갱신하며, 여러 스레드에서 동시에 사용할 수 있습니다.
+ */
+public class PrefixTrie {
+
+    /**
+     * 각 노드가 미리 계산해 두는 자동 완성 결과 수
+     */
+    public static final int DEFAULT_TOP_K = 10;
+
+    private static final Comparator<ItemSuggestionDto> ORDER = Comparator
+            .comparing(ItemSuggestionDto::getName)
+            .thenComparing(ItemSuggestionDto::getId);
+
+    private static final ItemSuggestionDto[] EMPTY = new ItemSuggestionDto[0];
+
+    private final int topK;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<Long, String> names = new HashMap<>();
+
+    public PrefixTrie() {
+        this(DEFAULT_TOP_K);
+    }
+
+    public PrefixTrie(int topK) {
+        this.topK = topK;
+    }
+
+    private static class Node {
+        private final Map<Integer, Node> children = new HashMap<>();
+        private final List<ItemSuggestionDto> terminals = new ArrayList<>(1);
+        private ItemSuggestionDto[] top = EMPTY;
+    }
+
+    /**
+     * 상품을 트라이에 추가합니다. 이미 있는 상품이면 기존 이름을 지우고 다시 추가합니다.
+     * @param id 상품 ID
+     * @param name 상품 이름
+     */
+    public void put(Long id, String name) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            if (name == null || name.isBlank()) {
+                return;
+            }
+            names.put(id, name);
+            ItemSuggestionDto entry = new ItemSuggestionDto(id, name);
+            for (int[] key : keys(name)) {
+                Node node = root;
+                offer(node, entry);
+                for (int codePoint : key) {
+                    node = node.children.computeIfAbsent(codePoint, c -> new Node());
+                    offer(node, entry);
+                }
+                node.terminals.add(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품을 트라이에서 제거합니다.
+     * @param id 제거할 상품 ID
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 상품을 이름 순으로 최대 {@code limit}개 반환합니다.
+     * 대소문자는 구분하지 않습니다.
+     * @param prefix 접두사
+     * @param limit 반환할 최대 개수, 상위 K개를 넘을 수 없습니다.
+     * @return 자동 완성 결과 목록을 반환합니다. 접두사가 비어 있으면 빈 목록을 반환합니다.
+     */
+    public List<ItemSuggestionDto> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int codePoint : normalize(prefix)) {
+                node = node.children.get(codePoint);
+                if (node == null) {
+                    return List.of();
+                }
+            }
+            return List.of(Arrays.copyOf(node.top, Math.min(limit, node.top.length)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 트라이에 들어 있는 상품 수를 반환합니다.
+     * @return 상품 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long id) {
+        String oldName = names.remove(id);
+        if (oldName == null) {
+            return;
+        }
+        for (int[] key : keys(oldName)) {
+            Node[] path = new Node[key.length + 1];
+            path[0] = root;
+            for (int i = 0; i < key.length; i++) {
+                path[i + 1] = path[i].children.get(key[i]);
+            }
+            path[key.length].terminals.removeIf(entry -> entry.getId().equals(id));
+
+            // 깊은 노드부터 다시 계산해야 부모가 갱신된 자식의 결과를 사용할 수 있다
+            for (int i = key.length; i >= 0; i--) {
+                Node node = path[i];
+                if (i > 0 && node.children.isEmpty() && node.terminals.isEmpty()) {
+                    path[i - 1].children.remove(key[i - 1]);
+                    continue;
+                }
+                if (contains(node.top, id)) {
+                    node.top = recompute(node);
+                }
+            }
+        }
+    }
+
+    private void offer(Node node, ItemSuggestionDto entry) {
+        ItemSuggestionDto[] top = node.top;
+        if (contains(top, entry.getId())) {
+            return;
+        }
+        if (top.length == topK && ORDER.compare(entry, top[top.length - 1]) >= 0) {
+            return;
+        }
+        int position = -Arrays.binarySearch(top, entry, ORDER) - 1;
+        ItemSuggestionDto[] newTop = new ItemSuggestionDto[Math.min(top.length + 1, topK)];
+        System.arraycopy(top, 0, newTop, 0, position);
+        newTop[position] = entry;
+        System.arraycopy(top, position, newTop, position + 1, newTop.length - position - 1);
+        node.top = newTop;
+    }
+
+    // 노드의 상위 K개는 노드에서 끝나는 상품과 자식 노드의 상위 K개 안에 모두 들어 있다
+    private ItemSuggestionDto[] recompute(Node node) {
+        List<ItemSuggestionDto> candidates = new ArrayList<>(node.terminals);
+        for (Node child : node.children.values()) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        candidates.sort(ORDER);
+
+        List<ItemSuggestionDto> top = new ArrayList<>(topK);
+        Set<Long> seen = new HashSet<>();
+        for (ItemSuggestionDto candidate : candidates) {
+            if (top.size() == topK) {
+                break;
+            }
+            if (seen.add(candidate.getId())) {
+                top.add(candidate);
+            }
+        }
+        return top.toArray(ItemSuggestionDto[]::new);
+    }
+
+    private static boolean contains(ItemSuggestionDto[] top, Long id) {
+        for (ItemSuggestionDto entry : top) {
+            if (entry.getId().equals(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 상품 이름 전체와, 공백 뒤에서 시작하는 각 단어부터 끝까지를 키로 사용합니다.
+     */
+    private static List<int[]> keys(String name) {
+        int[] normalized = normalize(name);
+        Set<String> seen = new HashSet<>();
+        List<int[]> keys = new ArrayList<>();
+        for (int i = 0; i < normalized.length; i++) {
+            boolean wordStart = i == 0 || Character.isWhitespace(normalized[i - 1]);
+            if (!wordStart || Character.isWhitespace(normalized[i])) {
+                continue;
+            }
+            int[] key = Arrays.copyOfRange(normalized, i, normalized.length);
+            if (seen.add(new String(key, 0, key.length))) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private static int[] normalize(String text) {
+        return text.strip().toLowerCase(Locale.ROOT).codePoints().toArray();
+    }
+}
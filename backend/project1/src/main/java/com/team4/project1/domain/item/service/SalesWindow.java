@@ -0,0 +1,130 @@
+package com.team4.project1.domain.item.service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 최근 며칠간의 상품별 판매 수량을 일 단위 버킷으로 관리하는 클래스입니다.
+ * 판매가 기록될 때마다 기간 합계를 바로 갱신하고, 기간이 지난 버킷은 합계에서 빼고 버리므로
+ * 합계를 얻는 데 주문 수만큼의 집계가 필요하지 않습니다.
+ * 아직 DB에 기록하지 않은 판매 수량은 날짜별로 따로 모아 두었다가 {@link #drainPending()}으로 꺼냅니다.
+ * 모든 메서드는 같은 잠금을 사용합니다.
+ */
+final class SalesWindow {
+
+    private final int days;
+
+    /** 판매일별 상품 판매 수량 */
+    private final TreeMap<LocalDate, Map<Long, Long>> buckets = new TreeMap<>();
+
+    /** 기간 안의 모든 버킷을 더한 상품별 판매 수량, 0이 된 상품은 제거합니다. */
+    private final Map<Long, Long> totals = new HashMap<>();
+
+    /** 아직 DB에 기록하지 않은 판매일별 상품 판매 수량 */
+    private Map<LocalDate, Map<Long, Long>> pending = new HashMap<>();
+
+    /**
+     * 집계 기간을 지정해 생성합니다.
+     * @param days 집계 기간 (일), 오늘을 포함합니다.
+     * @throws IllegalArgumentException 기간이 1일 미만인 경우 예외 발생
+     */
+    SalesWindow(int days) {
+        if (days < 1) {
+            throw new IllegalArgumentException("판매량 집계 기간은 1일 이상이어야 합니다.");
+        }
+        this.days = days;
+    }
+
+    /**
+     * 오늘을 기준으로 집계 기간의 첫날을 반환합니다.
+     * @param today 오늘 날짜
+     * @return 집계 기간의 첫날
+     */
+    LocalDate startOf(LocalDate today) {
+        return today.minusDays(days - 1L);
+    }
+
+    /**
+     * 새 판매를 기록합니다. 기간 합계에 바로 반영되고, DB에 기록할 수량에도 더해집니다.
+     * @param day 판매일
+     * @param quantities 상품 ID를 키로, 판매 수량을 값으로 하는 맵
+     */
+    synchronized void record(LocalDate day, Map<Long, Integer> quantities) {
+        Map<Long, Long> pendingOfDay = pending.computeIfAbsent(day, key -> new HashMap<>());
+        quantities.forEach((itemId, quantity) -> {
+            add(day, itemId, quantity);
+            pendingOfDay.merge(itemId, (long) quantity, Long::sum);
+        });
+    }
+
+    /**
+     * DB에 이미 기록된 판매 수량을 불러옵니다. DB에 다시 기록하지 않습니다.
+     * @param day 판매일
+     * @param itemId 상품 ID
+     * @param quantity 판매 수량
+     */
+    synchronized void load(LocalDate day, long itemId, long quantity) {
+        add(day, itemId, quantity);
+    }
+
+    /**
+     * 기간이 지난 버킷을 버리고 합계에서 뺍니다.
+     * @param today 오늘 날짜
+     * @return 버린 버킷이 있으면 true를 반환합니다.
+     */
+    synchronized boolean advance(LocalDate today) {
+        LocalDate start = startOf(today);
+        boolean evicted = false;
+        Iterator<Map.Entry<LocalDate, Map<Long, Long>>> expired = buckets.headMap(start).entrySet().iterator();
+        while (expired.hasNext()) {
+            expired.next().getValue().forEach((itemId, quantity) -> {
+                long remaining = totals.getOrDefault(itemId, 0L) - quantity;
+                if (remaining > 0) {
+                    totals.put(itemId, remaining);
+                } else {
+                    totals.remove(itemId);
+                }
+            });
+            expired.remove();
+            evicted = true;
+        }
+        return evicted;
+    }
+
+    /**
+     * 기간 안의 상품별 판매 수량 합계를 반환합니다.
+     * @return 상품 ID를 키로, 판매 수량을 값으로 하는 맵의 복사본
+     */
+    synchronized Map<Long, Long> totals() {
+        return new HashMap<>(totals);
+    }
+
+    /**
+     * 아직 DB에 기록하지 않은 판매 수량을 꺼내고 비웁니다.
+     * @return 판매일을 키로, 상품별 판매 수량을 값으로 하는 맵
+     */
+    synchronized Map<LocalDate, Map<Long, Long>> drainPending() {
+        Map<LocalDate, Map<Long, Long>> drained = pending;
+        pending = new HashMap<>();
+        return drained;
+    }
+
+    /**
+     * DB 기록에 실패한 판매 수량을 다음 기록 때 다시 시도하도록 되돌립니다.
+     * @param failed {@link #drainPending()}으로 꺼냈던 판매 수량
+     */
+    synchronized void restorePending(Map<LocalDate, Map<Long, Long>> failed) {
+        failed.forEach((day, quantities) -> {
+            Map<Long, Long> pendingOfDay = pending.computeIfAbsent(day, key -> new HashMap<>());
+            quantities.forEach((itemId, quantity) -> pendingOfDay.merge(itemId, quantity, Long::sum));
+        });
+    }
+
+    private void add(LocalDate day, long itemId, long quantity) {
+        buckets.computeIfAbsent(day, key -> new HashMap<>()).merge(itemId, quantity, Long::sum);
+        totals.merge(itemId, quantity, Long::sum);
+    }
+}
@@ -0,0 +1,117 @@
+package com.team4.project1.domain.item.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 하나의 상품 재고를 여러 버킷으로 나누어 관리하는 클래스입니다.
+ * 차감 요청은 임의의 버킷에서 시작하므로 동시에 들어온 주문들이 서로 다른 버킷을 갱신하게 되어,
+ * 하나의 카운터(또는 DB 행)에 경합이 몰리지 않습니다.
+ * 선택한 버킷의 재고가 부족하면 나머지 버킷에서 이어서 차감합니다.
+ */
+public class StripedStock {
+
+    /** 버킷끼리 같은 캐시 라인을 공유하지 않도록 각 버킷 사이에 두는 간격 (int 16개 = 64바이트) */
+    private static final int PADDING = 16;
+
+    private final int stripes;
+    private final AtomicIntegerArray buckets;
+
+    /** 분할 모드가 해제되었는지 여부 */
+    private volatile boolean closed = false;
+
+    /**
+     * 주어진 재고를 버킷 수만큼 고르게 나누어 생성합니다.
+     * @param stock 전체 재고 수량
+     * @param stripes 버킷 수
+     */
+    public StripedStock(int stock, int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("버킷 수는 1 이상이어야 합니다.");
+        }
+        this.stripes = stripes;
+        this.buckets = new AtomicIntegerArray(stripes * PADDING);
+        for (int i = 0; i < stripes; i++) {
+            buckets.set(i * PADDING, stock / stripes + (i < stock % stripes ? 1 : 0));
+        }
+    }
+
+    /**
+     * 재고를 차감합니다.
+     * 임의의 버킷에서 시작해 필요한 만큼 다른 버킷에서도 차감하며, 전체 재고가 부족하면 차감한 수량을 되돌립니다.
+     * @param quantity 차감할 수량
+     * @return 차감에 성공하면 true, 재고가 부족하면 false를 반환합니다.
+     */
+    public boolean tryTake(int quantity) {
+        int start = ThreadLocalRandom.current().nextInt(stripes);
+        int[] taken = new int[stripes];
+        int remaining = quantity;
+
+        for (int n = 0; n < stripes && remaining > 0; n++) {
+            int bucket = (start + n) % stripes;
+            taken[bucket] = takeUpTo(bucket, remaining);
+            remaining -= taken[bucket];
+        }
+
+        if (remaining > 0) {
+            for (int bucket = 0; bucket < stripes; bucket++) {
+                if (taken[bucket] > 0) {
+                    buckets.addAndGet(bucket * PADDING, taken[bucket]);
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 재고를 되돌립니다. 임의의 버킷에 더해집니다.
+     * @param quantity 되돌릴 수량
+     */
+    public void give(int quantity) {
+        int bucket = ThreadLocalRandom.current().nextInt(stripes);
+        buckets.addAndGet(bucket * PADDING, quantity);
+    }
+
+    /**
+     * 모든 버킷의 재고를 합산합니다.
+     * 동시에 차감이 진행 중이면 근사값일 수 있습니다.
+     * @return 전체 재고 수량을 반환합니다.
+     */
+    public int sum() {
+        int sum = 0;
+        for (int i = 0; i < stripes; i++) {
+            sum += buckets.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 분할 모드를 종료합니다. 종료 후에는 새로운 차감을 받지 않습니다.
+     */
+    public void close() {
+        this.closed = true;
+    }
+
+    private int takeUpTo(int bucket, int quantity) {
+        int index = bucket * PADDING;
+        while (true) {
+            int current = buckets.get(index);
+            if (current <= 0) {
+                return 0;
+            }
+            int take = Math.min(current, quantity);
+            if (buckets.compareAndSet(index, current, current - take)) {
+                return take;
+            }
+        }
+    }
+}
@@ -3,8 +3,11 @@ package com.team4.project1.domain.order.controller;
 import com.team4.project1.domain.order.dto.OrderDto;
 import com.team4.project1.domain.order.dto.OrderItemDto;
 import com.team4.project1.domain.order.dto.OrderWithOrderItemsDto;
+import com.team4.project1.domain.order.service.OrderGroupCommitService;
 import com.team4.project1.domain.order.service.OrderService;
+import com.team4.project1.global.dto.CursorPageDto;
 import com.team4.project1.global.dto.ResponseDto;
+import com.team4.project1.global.idempotency.IdempotencyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -27,11 +30,15 @@ import java.util.List;
 public class ApiV1OrderController {
 
     private final OrderService orderService;
+    private final OrderGroupCommitService orderGroupCommitService;
+    private final IdempotencyService idempotencyService;
 
     /**
      * 새로운 주문을 생성하는 메서드입니다.
      * 사용자가 선택한 상품들로 주문을 생성, 해당 주문을 반환합니다.
+     * Idempotency-Key 헤더가 있으면 같은 키로 재시도된 요청에는 주문을 다시 생성하지 않고 첫 응답을 반환합니다.
      * @param orderItemDtos 주문에 포함될 상품들의 DTO목록
+     * @param idempotencyKey 재시도 요청을 구분하기 위한 클라이언트 생성 키 (선택)
      * @param principal 현재 로그인한 사용자의 정보(주문을 생성한 사용자를 나타냄)
      * @return 생성된 주문과 주문 항목들의 DTO를 포함하는 응답을 반환합니다.
      */
@@ -39,8 +46,15 @@ public class ApiV1OrderController {
     @PostMapping
     public ResponseEntity<ResponseDto<OrderWithOrderItemsDto>> createOrder(
             @RequestBody List<OrderItemDto> orderItemDtos,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             Principal principal) {
-        return ResponseEntity.ok(ResponseDto.ok(orderService.createOrder(orderItemDtos, principal)));
+        if (idempotencyKey == null || principal == null) {
+            return ResponseEntity.ok(ResponseDto.ok(orderGroupCommitService.createOrder(orderItemDtos, principal)));
+        }
+        OrderWithOrderItemsDto order = idempotencyService.execute(
+                principal.getName(), idempotencyKey, orderItemDtos, OrderWithOrderItemsDto.class,
+                () -> orderGroupCommitService.createOrder(orderItemDtos, principal));
+        return ResponseEntity.ok(ResponseDto.ok(order));
     }
 
     /**
@@ -80,17 +94,19 @@ public class ApiV1OrderController {
      * 주어진 주문 ID를 바탕으로 주문과 주문 항목들의 정보를 조회하여 반환합니다.
      * @param orderId 조회할 주문의 ID
      * @param principal 현재 로그인한 사용자의 정보( 주문을 조회한 사용자를 나타냄)
+     * @param includeItems 주문 항목에 상품 이름, 가격, 합계, 이미지 URI를 포함할지 여부
      * @return 조회된 주문과 주문 항목들의 DTO를 포함하는 응답을 반환합니다.
      */
     @Operation(
             summary = "주문 불러오기",
-            description = "orderId를 통해 특정 주문 불러오기"
+            description = "orderId를 통해 특정 주문 불러오기, includeItems=true이면 주문 항목에 상품 정보 포함"
     )
     @GetMapping("/{orderId}")
     public ResponseEntity<ResponseDto<OrderWithOrderItemsDto>> getOrderByOrderId(
             @PathVariable("orderId") Long orderId,
-            Principal principal) {
-        return ResponseEntity.ok(ResponseDto.ok(orderService.getOrderById(orderId, principal)));
+            Principal principal,
+            @RequestParam(value = "includeItems", defaultValue = "false") boolean includeItems) {
+        return ResponseEntity.ok(ResponseDto.ok(orderService.getOrderById(orderId, principal, includeItems)));
     }
 
      /**
@@ -109,6 +125,26 @@ public class ApiV1OrderController {
          return ResponseEntity.ok(ResponseDto.ok(orders));
      }
 
+    /**
+     * 현재 로그인한 사용자의 주문 내역을 최근 주문부터 커서 방식으로 조회하는 메서드입니다.
+     * 응답의 nextCursor를 다음 요청의 after로 전달하면 이어지는 주문을 조회합니다.
+     * @param principal 현재 로그인한 사용자의 정보
+     * @param after 이전 페이지의 마지막 주문을 나타내는 커서 ({@code <주문 날짜>,<주문 ID>}), 첫 페이지는 생략
+     * @param size 조회할 주문 수
+     * @return 주문 목록과 다음 페이지 커서를 포함하는 응답을 반환합니다.
+     */
+    @Operation(
+            summary = "특정 회원의 주문 내역 커서 조회",
+            description = "전체 개수를 세지 않고 이전 페이지의 마지막 주문 다음부터 이어서 조회"
+    )
+    @GetMapping("/history")
+    public ResponseEntity<ResponseDto<CursorPageDto<OrderDto>>> getOrderHistory(
+            Principal principal,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(ResponseDto.ok(orderService.getOrderHistory(principal, after, size)));
+    }
+
     @PostMapping("/{orderId}/confirm")
     public ResponseEntity<ResponseDto<Long>> confirmOrder(@PathVariable("orderId") Long orderId, Principal principal) {
         Long confirmedOrderId = orderService.confirmOrder(orderId, principal);
@@ -1,6 +1,7 @@
 package com.team4.project1.domain.order.dto;
 
 import com.team4.project1.domain.order.entity.Order;
+import com.team4.project1.domain.order.entity.OrderStatus;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -25,6 +26,18 @@ public class OrderDto {
 
     private String deliveryStatus;
 
+    /**
+     * 조회 쿼리의 생성자 표현식(프로젝션)에서 사용하는 생성자입니다.
+     * 저장된 상태와 주문 날짜로 현재 시점의 배송 상태를 계산합니다.
+     * @param id 주문 ID
+     * @param date 주문 날짜 및 시간
+     * @param totalPrice 주문 총액
+     * @param orderStatus 저장된 주문 상태
+     */
+    public OrderDto(Long id, LocalDateTime date, Long totalPrice, OrderStatus orderStatus) {
+        this(id, date, totalPrice, orderStatus.resolve(date, LocalDateTime.now()).name());
+    }
+
     /**
      * {@Link Order}엔티티 객체를 DTO로 변환하는 메서드입니다.
      * @param order 변환할 주문 엔티티 객체
@@ -35,7 +48,7 @@ public class OrderDto {
                 order.getId(),
                 order.getDate(),
                 order.getTotalPrice(),
-                order.getOrderStatus().name()
+                order.getCurrentStatus().name()
         );
     }
 
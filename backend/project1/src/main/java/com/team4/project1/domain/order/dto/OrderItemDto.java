@@ -1,5 +1,7 @@
 package com.team4.project1.domain.order.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.team4.project1.domain.item.entity.Item;
 import com.team4.project1.domain.order.entity.OrderItem;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -8,10 +10,12 @@ import lombok.Setter;
 /**
  * 주문항목(OrderItem) 정보를 전달하기 위한 DTO 클래스입니다.
  * 주문된 상품의 ID와 수량 정보를 포함합니다.
+ * 주문 조회 시 요청하면 상품 이름, 가격, 항목 합계, 이미지 URI가 함께 담기며, 값이 없는 항목은 응답에서 생략됩니다.
  */
 @Setter
 @Getter
 @NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class OrderItemDto {
 
     /** 주문된 상품의 상품ID*/
@@ -20,6 +24,18 @@ public class OrderItemDto {
     /** 주문된 상품의 수량*/
     private Integer quantity; // 아이템 수량
 
+    /** 주문된 상품의 이름 (상품 정보 포함 조회 시에만 제공) */
+    private String name;
+
+    /** 주문된 상품의 단가 (상품 정보 포함 조회 시에만 제공) */
+    private Integer price;
+
+    /** 단가 * 수량 (상품 정보 포함 조회 시에만 제공) */
+    private Long lineTotal;
+
+    /** 주문된 상품의 이미지 URI (상품 정보 포함 조회 시에만 제공) */
+    private String imageUri;
+
     /**
      * 주어진 상품 ID와 수량을 사용해 OrderItemDto 객체를 생성하는 생성자
      * @param itemId 주문된 상품의 ID
@@ -42,6 +58,22 @@ public class OrderItemDto {
                 orderItem.getQuantity());
     }
 
+    /**
+     * 엔티티 객체를 상품 정보가 포함된 DTO로 변환하는 메서드입니다.
+     * 상품이 주문 항목과 함께 로딩되어 있어야 추가 쿼리가 발생하지 않습니다.
+     * @param orderItem 변환할 주문 항목
+     * @return 상품 이름, 단가, 항목 합계, 이미지 URI가 포함된 {@link OrderItemDto}를 반환합니다.
+     */
+    public static OrderItemDto withItemSummary(OrderItem orderItem) {
+        Item item = orderItem.getItem();
+        OrderItemDto orderItemDto = from(orderItem);
+        orderItemDto.name = item.getName();
+        orderItemDto.price = item.getPrice();
+        orderItemDto.lineTotal = (long) item.getPrice() * orderItem.getQuantity();
+        orderItemDto.imageUri = item.getImageUuidAsUri();
+        return orderItemDto;
+    }
+
     /**
      * 주어진 값으로 새로운 OrderItemDto 객체를 생성하는 메서드입니다.
      * @param itemId 주문된 상품의 ID
@@ -4,6 +4,7 @@ import com.team4.project1.domain.order.entity.Order;
 import com.team4.project1.domain.order.entity.OrderItem;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,6 +15,7 @@ import java.util.List;
  * 해당 주문에 포함된 모든 주문 항목 리스트를 제공합니다.
  */
 @Getter
+@NoArgsConstructor // JSON 역직렬화용 기본 생성자
 @AllArgsConstructor
 public class OrderWithOrderItemsDto {
     /** 주문 ID */
@@ -34,13 +36,24 @@ public class OrderWithOrderItemsDto {
      * @return 변환된 {@link OrderWithOrderItemsDto} 객체를 반환합니다.
      */
     public static OrderWithOrderItemsDto from(Order order) {
+        return from(order, false);
+    }
+
+    /**
+     * Order 엔티티를 OrderWithOrderItemsDto로 변환하는 메서드입니다.
+     * 상품 정보를 포함하면 각 주문 항목에 상품 이름, 단가, 항목 합계, 이미지 URI가 함께 담깁니다.
+     * @param order 변환할 {@link Order} 엔티티 객체
+     * @param includeItemSummary 주문 항목에 상품 정보를 포함할지 여부
+     * @return 변환된 {@link OrderWithOrderItemsDto} 객체를 반환합니다.
+     */
+    public static OrderWithOrderItemsDto from(Order order, boolean includeItemSummary) {
         return new OrderWithOrderItemsDto(
                 order.getId(),
                 order.getDate(),
                 order.getTotalPrice(),
-                order.getOrderStatus().name(),
+                order.getCurrentStatus().name(),
                 order.getOrderItems().stream()
-                        .map(OrderItemDto::from)
+                        .map(includeItemSummary ? OrderItemDto::withItemSummary : OrderItemDto::from)
                         .toList()
         );
     }
@@ -17,16 +17,19 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 기본 생성자, 외부 사용 제한
-@Table(name = "order_tbl") // 테이블 이름 설정
+@Table(name = "order_tbl", // 테이블 이름 설정
+        indexes = @Index(name = "idx_order_customer_date_id", columnList = "customer_id, date, id")) // 고객별 주문 내역 조회용
 public class Order {
 
     /**
      * 상품의 ID
-     * 데이터베이스에서 자동으로 증가하는 값을 할당합니다.
+     * 시퀀스(시퀀스를 지원하지 않는 DB에서는 테이블)에서 50개 단위로 미리 할당받은 값을 사용하므로,
+     * 저장할 때마다 DB에 다녀오지 않고 여러 행을 하나의 JDBC 배치로 INSERT할 수 있습니다.
      * id는 객체 생성 시에만 값이 설정되고 이후에는 변경이 불가능합니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_seq")
+    @SequenceGenerator(name = "order_seq", sequenceName = "order_tbl_seq", initialValue = 1000, allocationSize = 50)
     @Setter(AccessLevel.NONE) // ID 값 변경 불가능
     private Long id;
 
@@ -97,6 +100,15 @@ public class Order {
         this.orderStatus = orderStatus != null ? orderStatus : OrderStatus.TEMPORARY;
     }
 
+    /**
+     * 현재 시점의 배송 상태를 반환합니다.
+     * 발송 시각이 지난 처리 중 주문은 스케줄러가 DB에 반영하기 전이라도 발송된 상태로 반환합니다.
+     * @return 현재 시점의 배송 상태를 반환합니다.
+     */
+    public OrderStatus getCurrentStatus() {
+        return orderStatus.resolve(date, LocalDateTime.now());
+    }
+
     // 주문 정보 변경 메서드 추가
     public void updateOrder(Long totalPrice, OrderStatus orderStatus) {
         this.totalPrice = totalPrice;
@@ -17,10 +17,11 @@ public class OrderItem {
 
     /**
      * 주문 항목 ID
-     * 데이터베이스에서 자동으로 증가하는 값을 할당합니다.
+     * {@code order_item_seq}에서 50개 단위로 미리 할당받은 값을 사용합니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")
+    @SequenceGenerator(name = "order_item_seq", sequenceName = "order_item_seq", initialValue = 1000, allocationSize = 50)
     @Setter(AccessLevel.NONE) // ID는 변경 불가
     private Long id;
 
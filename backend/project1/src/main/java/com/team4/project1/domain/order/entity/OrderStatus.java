@@ -1,6 +1,9 @@
 package com.team4.project1.domain.order.entity;
 
 
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
 /**
  * 주문의 배송 상태를 나타냅니다.
  * 이 열거형은 주문이 현재 어떤 배송 상태에 있는지를 나타내며,
@@ -14,5 +17,33 @@ public enum OrderStatus {
     PROCESSING,
 
     /** 주문이 배송된 상태 */
-    SHIPPED
+    SHIPPED;
+
+    /** 매일 접수된 주문이 발송되는 시각 */
+    public static final LocalTime SHIPPING_CUTOFF = LocalTime.of(14, 0);
+
+    /**
+     * 주어진 시각 이전의 가장 최근 발송 시각을 반환합니다.
+     * 오후 2시 이전이면 전날 오후 2시, 이후면 당일 오후 2시입니다.
+     * @param now 기준 시각
+     * @return 가장 최근 발송 시각을 반환합니다.
+     */
+    public static LocalDateTime latestShippingCutoff(LocalDateTime now) {
+        LocalDateTime todayCutoff = now.toLocalDate().atTime(SHIPPING_CUTOFF);
+        return now.isBefore(todayCutoff) ? todayCutoff.minusDays(1) : todayCutoff;
+    }
+
+    /**
+     * 저장된 상태와 주문 날짜로 현재 시점의 상태를 계산합니다.
+     * 처리 중인 주문은 접수된 뒤 발송 시각이 지났으면 DB에 반영되기 전이라도 발송된 상태로 봅니다.
+     * @param orderDate 주문 날짜 (접수 시각)
+     * @param now 기준 시각
+     * @return 현재 시점의 주문 상태를 반환합니다.
+     */
+    public OrderStatus resolve(LocalDateTime orderDate, LocalDateTime now) {
+        if (this == PROCESSING && orderDate.isBefore(latestShippingCutoff(now))) {
+            return SHIPPED;
+        }
+        return this;
+    }
 }
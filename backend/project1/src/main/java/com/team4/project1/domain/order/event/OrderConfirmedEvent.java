@@ -0,0 +1,11 @@
+package com.team4.project1.domain.order.event;
+
+import java.util.Map;
+
+/**
+ * 임시 주문이 접수(처리 중 상태로 변경)되었을 때 발행되는 이벤트입니다.
+ * @param orderId 접수된 주문의 ID
+ * @param quantities 상품 ID를 키로, 주문 수량을 값으로 하는 맵
+ */
+public record OrderConfirmedEvent(Long orderId, Map<Long, Integer> quantities) {
+}
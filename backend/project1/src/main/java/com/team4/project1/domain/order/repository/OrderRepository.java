@@ -1,14 +1,20 @@
 package com.team4.project1.domain.order.repository;
 
+import com.team4.project1.domain.order.dto.OrderDto;
 import com.team4.project1.domain.order.entity.Order;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 주문 데이터를 관리하는 JPA 리포지토리 인터페이스입니다.
@@ -18,10 +24,66 @@ import java.util.List;
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
     /**
-     * 특정 고객의 모든 주문을 조회합니다.
-     * 고객 ID를 기반으로 해당 고객이 주문한 모든 주문 목록을 가져옵니다.
+     * 특정 고객의 주문 목록을 페이지 단위로 조회합니다.
+     * 엔티티 대신 목록에 필요한 컬럼만 {@link OrderDto}로 바로 조회합니다.
      * @param customerId 조회할 고객의 ID
-     * @return 해당 고객이 주문한 모든 주문 목록을 반환합니다.
+     * @param pageable 페이지 정보
+     * @return 해당 고객의 주문 목록 페이지를 반환합니다.
      */
-    Page<Order> findAllByCustomerId(Long customerId, Pageable pageable);
+    @Query(value = "SELECT new com.team4.project1.domain.order.dto.OrderDto(o.id, o.date, o.totalPrice, o.orderStatus) " +
+            "FROM Order o WHERE o.customer.id = :customerId",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.customer.id = :customerId")
+    Page<OrderDto> findOrderDtosByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+
+    /**
+     * 특정 고객의 최근 주문부터 주어진 개수만큼 조회합니다. 주문 내역 커서 조회의 첫 페이지에 사용합니다.
+     * @param customerId 조회할 고객의 ID
+     * @param limit 조회할 최대 개수
+     * @return 주문 날짜, ID의 내림차순으로 정렬된 주문 목록을 반환합니다.
+     */
+    @Query("SELECT new com.team4.project1.domain.order.dto.OrderDto(o.id, o.date, o.totalPrice, o.orderStatus) " +
+            "FROM Order o WHERE o.customer.id = :customerId " +
+            "ORDER BY o.date DESC, o.id DESC")
+    List<OrderDto> findOrderHistory(@Param("customerId") Long customerId, Limit limit);
+
+    /**
+     * 특정 고객의 주문 중 주어진 (주문 날짜, ID) 다음 주문부터 주어진 개수만큼 조회합니다.
+     * OFFSET 없이 (customer_id, date, id) 인덱스를 따라 이어서 읽으므로 페이지가 깊어져도 읽는 행 수가 늘지 않습니다.
+     * @param customerId 조회할 고객의 ID
+     * @param date 이전 페이지 마지막 주문의 날짜
+     * @param id 이전 페이지 마지막 주문의 ID
+     * @param limit 조회할 최대 개수
+     * @return 주문 날짜, ID의 내림차순으로 정렬된 주문 목록을 반환합니다.
+     */
+    @Query("SELECT new com.team4.project1.domain.order.dto.OrderDto(o.id, o.date, o.totalPrice, o.orderStatus) " +
+            "FROM Order o WHERE o.customer.id = :customerId " +
+            "AND (o.date < :date OR (o.date = :date AND o.id < :id)) " +
+            "ORDER BY o.date DESC, o.id DESC")
+    List<OrderDto> findOrderHistoryAfter(@Param("customerId") Long customerId,
+                                         @Param("date") LocalDateTime date,
+                                         @Param("id") Long id,
+                                         Limit limit);
+
+    /**
+     * 주문 ID로 주문을 조회하면서 주문한 고객과 주문 항목, 각 항목의 상품을 하나의 쿼리로 함께 조회합니다.
+     * 주문 상세 조회 시 고객, 주문 항목, 상품을 각각 지연 로딩하며 항목 수만큼 쿼리가 늘어나는 것을 막습니다.
+     * @param id 조회할 주문의 ID
+     * @return 연관 엔티티가 함께 로딩된 주문을 반환합니다.
+     */
+    @Query("SELECT o FROM Order o " +
+            "JOIN FETCH o.customer " +
+            "LEFT JOIN FETCH o.orderItems oi " +
+            "LEFT JOIN FETCH oi.item " +
+            "WHERE o.id = :id")
+    Optional<Order> findWithCustomerAndItemsById(@Param("id") Long id);
+
+    /**
+     * 주어진 시각 이전에 접수된 처리 중 주문을 한 번의 UPDATE로 모두 발송 상태로 변경합니다.
+     * @param cutoff 발송 시각
+     * @return 발송 상태로 변경된 주문 수를 반환합니다.
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.orderStatus = com.team4.project1.domain.order.entity.OrderStatus.SHIPPED " +
+            "WHERE o.orderStatus = com.team4.project1.domain.order.entity.OrderStatus.PROCESSING AND o.date < :cutoff")
+    int shipProcessingOrdersBefore(@Param("cutoff") LocalDateTime cutoff);
 }
@@ -0,0 +1,193 @@
+package com.team4.project1.domain.order.service;
+
+import com.team4.project1.domain.order.dto.OrderItemDto;
+import com.team4.project1.domain.order.dto.OrderWithOrderItemsDto;
+import com.team4.project1.global.exception.RequestOutcomeUnknownException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 주문 생성 요청을 모아 하나의 트랜잭션으로 커밋하는 서비스 클래스입니다.
+ * 그룹 커밋 모드가 켜져 있으면 요청 스레드는 검증을 마친 주문을 큐에 넣고 기다리며,
+ * 하나의 쓰기 스레드가 짧은 시간 동안 모인 주문들을 {@link OrderService#createOrders(List)}로 한 번에 저장합니다.
+ * 그룹 전체의 커밋이 실패하면 해당 그룹의 주문을 하나씩 다시 처리합니다.
+ * 모드가 꺼져 있으면 {@link OrderService#createOrder(List, Principal)}를 그대로 호출합니다.
+ * 큐에 넣기 전의 상태 확인과 종료는 같은 잠금을 사용하므로, 종료 이후에 큐에 들어가 처리되지 않는 주문은 없습니다.
+ */
+@Slf4j
+@Service
+public class OrderGroupCommitService {
+
+    private final OrderService orderService;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final long awaitTimeoutMillis;
+    private final BlockingQueue<PendingOrder> queue;
+
+    /** 큐에 넣을 때는 읽기 잠금을, 종료할 때는 쓰기 잠금을 사용합니다. */
+    private final ReentrantReadWriteLock submitLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private Thread writer;
+
+    public OrderGroupCommitService(
+            OrderService orderService,
+            @Value("${order.group-commit.enabled:false}") boolean enabled,
+            @Value("${order.group-commit.queue-capacity:10000}") int queueCapacity,
+            @Value("${order.group-commit.max-batch-size:200}") int maxBatchSize,
+            @Value("${order.group-commit.linger-ms:5}") long lingerMs,
+            @Value("${order.group-commit.await-timeout-ms:30000}") long awaitTimeoutMillis
+    ) {
+        this.orderService = orderService;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("order-group-commit").daemon().start(this::runWriter);
+    }
+
+    /**
+     * 새 주문 요청을 더 받지 않고, 큐에 남은 주문을 모두 처리한 뒤 쓰기 스레드를 종료합니다.
+     * 제한 시간 안에 끝나지 않아 쓰기 스레드를 중단한 경우, 큐에 남은 주문은 실패로 응답합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        Lock lock = submitLock.writeLock();
+        lock.lock();
+        try {
+            running = false;
+        } finally {
+            lock.unlock();
+        }
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        if (writer.isAlive()) {
+            writer.interrupt();
+            writer.join(TimeUnit.SECONDS.toMillis(1));
+        }
+        List<PendingOrder> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        failAll(remaining);
+    }
+
+    /**
+     * 새로운 주문을 생성합니다.
+     * 그룹 커밋 모드에서는 주문이 다른 주문들과 함께 커밋될 때까지 기다렸다가 결과를 반환합니다.
+     * @param orderItemDtos 주문할 아이템 목록 (ID 및 수량 포함)
+     * @param principal     현재 로그인한 사용자 정보
+     * @return 생성된 주문 정보를 반환합니다.
+     * @throws IllegalStateException 대기 중인 주문이 너무 많아 큐에 넣을 수 없거나, 서버가 종료 중인 경우 예외 발생
+     * @throws RequestOutcomeUnknownException 처리 결과를 기다리는 시간이 초과된 경우 예외 발생
+     */
+    public OrderWithOrderItemsDto createOrder(List<OrderItemDto> orderItemDtos, Principal principal) {
+        if (!enabled) {
+            return orderService.createOrder(orderItemDtos, principal);
+        }
+
+        PendingOrder pendingOrder = orderService.prepareOrder(orderItemDtos, principal);
+        boolean queued;
+        Lock lock = submitLock.readLock();
+        lock.lock();
+        try {
+            queued = running && queue.offer(pendingOrder);
+        } finally {
+            lock.unlock();
+        }
+        if (!queued) {
+            throw new IllegalStateException("주문 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return pendingOrder.await(awaitTimeoutMillis);
+    }
+
+    private void runWriter() {
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collectBatch(batch);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failAll(batch);
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+        List<PendingOrder> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        failAll(remaining);
+    }
+
+    /**
+     * 첫 주문이 들어온 뒤 최대 대기 시간 동안, 또는 최대 크기가 될 때까지 주문을 모읍니다.
+     */
+    private void collectBatch(List<PendingOrder> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < maxBatchSize) {
+            if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingOrder next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<PendingOrder> batch) {
+        try {
+            orderService.createOrders(batch);
+        } catch (RuntimeException e) {
+            // 그룹 전체가 롤백되었으므로 주문을 하나씩 다시 처리해 실패한 주문만 실패로 응답한다
+            log.warn("주문 그룹 커밋 실패, 주문 {}건을 하나씩 다시 처리합니다: {}", batch.size(), e.getMessage());
+            for (PendingOrder pendingOrder : batch) {
+                try {
+                    pendingOrder.succeed(orderService.createOrder(pendingOrder));
+                } catch (RuntimeException ex) {
+                    pendingOrder.fail(ex);
+                }
+            }
+        }
+        batch.forEach(PendingOrder::complete);
+    }
+
+    private void failAll(List<PendingOrder> pendingOrders) {
+        for (PendingOrder pendingOrder : pendingOrders) {
+            pendingOrder.fail(new IllegalStateException("서버가 종료되어 주문을 처리하지 못했습니다."));
+            pendingOrder.complete();
+        }
+    }
+}
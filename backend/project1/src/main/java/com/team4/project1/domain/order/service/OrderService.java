@@ -10,20 +10,30 @@ import com.team4.project1.domain.order.dto.OrderWithOrderItemsDto;
 import com.team4.project1.domain.order.entity.Order;
 import com.team4.project1.domain.order.entity.OrderItem;
 import com.team4.project1.domain.order.entity.OrderStatus;
+import com.team4.project1.domain.order.event.OrderConfirmedEvent;
 import com.team4.project1.domain.order.repository.OrderItemRepository;
 import com.team4.project1.domain.order.repository.OrderRepository;
+import com.team4.project1.global.dto.CursorPageDto;
 import com.team4.project1.global.exception.CustomerNotFoundException;
+import com.team4.project1.global.exception.InsufficientStockException;
 import com.team4.project1.global.exception.ItemNotFoundException;
 import com.team4.project1.global.exception.UnauthorizedAccessException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.security.Principal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 /**
  * 주문 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -38,6 +48,10 @@ public class OrderService {
     private final OrderItemRepository orderItemRepository;
     private final ItemService itemService;
     private final CustomerService customerService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 주문 내역 커서 조회에서 한 번에 조회할 수 있는 최대 주문 수 */
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
 
     /**
      * 새로운 주문을 생성합니다.
@@ -51,6 +65,21 @@ public class OrderService {
      */
     //주문 생성 메소드
     public OrderWithOrderItemsDto createOrder(List<OrderItemDto> orderItemDtos, Principal principal) {
+        return createOrder(prepareOrder(orderItemDtos, principal));
+    }
+
+    /**
+     * 주문을 저장하기 전에 필요한 검증을 수행합니다.
+     * 로그인 여부와 고객 존재 여부, 주문 항목을 확인하고 상품별 수량을 합산합니다.
+     * 그룹 커밋 모드에서는 요청 스레드에서 호출되어, 잘못된 요청이 큐에 들어가지 않도록 합니다.
+     * @param orderItemDtos 주문할 아이템 목록 (ID 및 수량 포함)
+     * @param principal     현재 로그인한 사용자 정보
+     * @return 저장을 기다리는 주문을 반환합니다.
+     * @throws UnauthorizedAccessException 사용자가 로그인하지 않았을 경우 예외발생
+     * @throws CustomerNotFoundException  현재 사용자 정보로 고객을 찾을 수 없는 경우 예외발생
+     * @throws IllegalArgumentException   주문 아이템이 비어 있거나 수량이 1 미만인 경우 예외발생
+     */
+    public PendingOrder prepareOrder(List<OrderItemDto> orderItemDtos, Principal principal) {
         // 비로그인 체크
         if (principal == null) {
             throw new UnauthorizedAccessException("로그인 후 주문을 생성할 수 있습니다.");
@@ -62,26 +91,64 @@ public class OrderService {
             throw new CustomerNotFoundException("사용자를 찾을 수 없습니다.");
         }
 
-        Order newOrder = new Order(customer, LocalDateTime.now(), 0L);
-
         orderItemDtos = validateNewOrder(orderItemDtos);  // 주문 아이템 유효성 검사
-        long totalPrice = 0L;
+        return new PendingOrder(customer, orderItemDtos, sumQuantitiesByItem(orderItemDtos));
+    }
 
-        for (OrderItemDto orderItemDto : orderItemDtos) {
-            Item item = itemService.getItemById(orderItemDto.getItemId()).toEntity();
+    /**
+     * 검증을 마친 주문 하나를 저장합니다.
+     * @param pendingOrder 저장할 주문
+     * @return 생성된 주문 정보를 반환합니다.
+     * @throws ItemNotFoundException      주문하려는 아이템이 존재하지 않는 경우 예외발생
+     * @throws InsufficientStockException 재고가 부족한 경우 예외발생
+     */
+    public OrderWithOrderItemsDto createOrder(PendingOrder pendingOrder) {
+        Map<Long, Item> items = findOrderedItems(pendingOrder.getOrderItemDtos());  // 주문 아이템을 한 번에 조회
+        itemService.reduceStocks(pendingOrder.getQuantities());  // 재고를 한 번의 배치로 차감
 
-            itemService.reduceStock(orderItemDto.getItemId(), orderItemDto.getQuantity());
+        Order newOrder = new Order(pendingOrder.getCustomer(), LocalDateTime.now(), 0L);
+        List<OrderItem> newOrderItems = createOrderItems(newOrder, pendingOrder.getOrderItemDtos(), items);
 
-            OrderItem newOrderItem = new OrderItem(newOrder, item, orderItemDto.getQuantity());
-            newOrder.getOrderItems().add(newOrderItem);
-            totalPrice += (long) newOrderItem.getItem().getPrice() * newOrderItem.getQuantity();
-            orderItemRepository.save(newOrderItem);
-        }
-        newOrder.setTotalPrice(totalPrice);
+        newOrder.setTotalPrice(calculateTotalPrice(newOrderItems));
         orderRepository.save(newOrder);
+        orderItemRepository.saveAll(newOrderItems);
         return OrderWithOrderItemsDto.from(newOrder);
     }
 
+    /**
+     * 검증을 마친 여러 주문을 하나의 트랜잭션으로 저장합니다.
+     * 재고가 부족하거나 상품이 없는 주문은 실패로 기록하고 나머지 주문은 그대로 저장하므로,
+     * 한 주문의 실패가 같은 그룹의 다른 주문에 영향을 주지 않습니다.
+     * 각 주문의 처리 결과는 {@link PendingOrder}에 기록되며, 트랜잭션이 커밋된 뒤에 호출한 쪽에서 전달해야 합니다.
+     * @param pendingOrders 저장할 주문 목록
+     */
+    public void createOrders(List<PendingOrder> pendingOrders) {
+        Map<PendingOrder, Order> newOrders = new LinkedHashMap<>();
+        List<OrderItem> newOrderItems = new ArrayList<>();
+        for (PendingOrder pendingOrder : pendingOrders) {
+            try {
+                Map<Long, Item> items = findOrderedItems(pendingOrder.getOrderItemDtos());
+                Map<Long, Integer> shortages = itemService.tryReduceStocks(pendingOrder.getQuantities());
+                if (!shortages.isEmpty()) {
+                    pendingOrder.fail(new InsufficientStockException(shortages));
+                    continue;
+                }
+
+                Order newOrder = new Order(pendingOrder.getCustomer(), LocalDateTime.now(), 0L);
+                List<OrderItem> orderItems = createOrderItems(newOrder, pendingOrder.getOrderItemDtos(), items);
+                newOrder.setTotalPrice(calculateTotalPrice(orderItems));
+                newOrders.put(pendingOrder, newOrder);
+                newOrderItems.addAll(orderItems);
+            } catch (ItemNotFoundException e) {
+                pendingOrder.fail(e);
+            }
+        }
+
+        orderRepository.saveAll(newOrders.values());
+        orderItemRepository.saveAll(newOrderItems);
+        newOrders.forEach((pendingOrder, order) -> pendingOrder.succeed(OrderWithOrderItemsDto.from(order)));
+    }
+
     /**
      * 기존 주문을 수정합니다.
      * @param orderItemDtos 수정할 아이템 목록
@@ -92,7 +159,7 @@ public class OrderService {
      * @throws IllegalStateException       이미 발송된 주문을 수정하려 할 경우 예외 발생
      */
     public OrderWithOrderItemsDto updateOrder(List<OrderItemDto> orderItemDtos, Long orderId, Principal principal) {
-        Order existingOrder = orderRepository.findById(orderId)
+        Order existingOrder = orderRepository.findWithCustomerAndItemsById(orderId)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다. (ID: " + orderId + ")"));
 
         if (principal == null) {
@@ -104,28 +171,20 @@ public class OrderService {
             throw new UnauthorizedAccessException("본인만 자신의 주문을 수정할 수 있습니다.");
         }
 
-        updateOrderStatus(existingOrder);
-        if (existingOrder.getOrderStatus() == OrderStatus.SHIPPED) {
+        if (existingOrder.getCurrentStatus() == OrderStatus.SHIPPED) {
             throw new IllegalStateException("이미 발송된 주문은 수정할 수 없습니다.");
         }
 
         orderItemDtos = validateUpdatedOrder(orderItemDtos, existingOrder);  // 수정된 유효성 검사 호출
+        Map<Long, Item> items = findOrderedItems(orderItemDtos);
+        itemService.reduceStocks(sumQuantitiesByItem(orderItemDtos));  // 재고 감소 처리
         existingOrder.getOrderItems().clear();
 
-        long totalPrice = 0L;
-        for (OrderItemDto orderItemDto : orderItemDtos) {
-            Item item = itemService.getItemById(orderItemDto.getItemId()).toEntity();
-
-            itemService.reduceStock(orderItemDto.getItemId(), orderItemDto.getQuantity());  // 재고 감소 처리
-
-            OrderItem newOrderItem = new OrderItem(existingOrder, item, orderItemDto.getQuantity());
-            existingOrder.getOrderItems().add(newOrderItem);
-            totalPrice += (long) newOrderItem.getItem().getPrice() * newOrderItem.getQuantity();
-            orderItemRepository.save(newOrderItem);
-        }
+        List<OrderItem> newOrderItems = createOrderItems(existingOrder, orderItemDtos, items);
+        orderItemRepository.saveAll(newOrderItems);
 
         existingOrder.setDate(LocalDateTime.now());
-        existingOrder.setTotalPrice(totalPrice);
+        existingOrder.setTotalPrice(calculateTotalPrice(newOrderItems));
         orderRepository.save(existingOrder);
         return OrderWithOrderItemsDto.from(existingOrder);
     }
@@ -151,8 +210,7 @@ public class OrderService {
             throw new UnauthorizedAccessException("본인만 자신의 주문을 취소할 수 있습니다.");
         }
 
-        updateOrderStatus(existingOrder);
-        if (existingOrder.getOrderStatus() == OrderStatus.SHIPPED) {
+        if (existingOrder.getCurrentStatus() == OrderStatus.SHIPPED) {
             throw new IllegalStateException("이미 발송된 주문은 취소할 수 없습니다.");
         }
 
@@ -162,14 +220,15 @@ public class OrderService {
 
     /**
      * 주문을 접수합니다.
-     * @param orderId   취소할 주문 ID
+     * 접수가 커밋되면 상품별 주문 수량을 담은 {@link OrderConfirmedEvent}가 처리되어 인기순 정렬의 판매량에 반영됩니다.
+     * @param orderId   접수할 주문 ID
      * @param principal 현재 로그인한 사용자 정보
      * @return 접수된 주문 ID을 반환합니다.
      * @throws UnauthorizedAccessException 본인이 아닌 사용자가 접근할 경우 예외발생
      * @throws IllegalStateException       이미 접수됐거나 발송된 주문을 접수하려 할 경우 예외발생
      */
     public Long confirmOrder(Long orderId, Principal principal) {
-        Order existingOrder = orderRepository.findById(orderId)
+        Order existingOrder = orderRepository.findWithCustomerAndItemsById(orderId)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다. (ID: " + orderId + ")"));
 
         if (principal == null) {
@@ -181,14 +240,20 @@ public class OrderService {
             throw new UnauthorizedAccessException("본인만 자신의 주문을 접수할 수 있습니다.");
         }
 
-        if (existingOrder.getOrderStatus() == OrderStatus.SHIPPED ||
-                existingOrder.getOrderStatus() == OrderStatus.PROCESSING) {
+        if (existingOrder.getCurrentStatus() != OrderStatus.TEMPORARY) {
             throw new IllegalStateException("이미 접수됐거나 발송된 주문은 또 접수할 수 없습니다.");
         }
 
         existingOrder.setOrderStatus(OrderStatus.PROCESSING);
         existingOrder.setDate(LocalDateTime.now());
         orderRepository.save(existingOrder);
+
+        // 인기순 정렬의 판매량 집계는 장바구니 단계가 아닌 접수된 주문만 대상으로 한다
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (OrderItem orderItem : existingOrder.getOrderItems()) {
+            quantities.merge(orderItem.getItem().getId(), orderItem.getQuantity(), Integer::sum);
+        }
+        eventPublisher.publishEvent(new OrderConfirmedEvent(orderId, quantities));
         return orderId;
     }
 
@@ -197,6 +262,7 @@ public class OrderService {
      * @param principal 현재 로그인한 사용자 정보
      * @return 사용자의 주문 목록을 반환합니다.
      */
+    @Transactional(readOnly = true)
     public Page<OrderDto> getOrdersByPrincipal(Principal principal, Pageable pageable) {
         if (principal == null) {
             throw new UnauthorizedAccessException("로그인 후 주문을 조회할 수 있습니다.");
@@ -209,34 +275,83 @@ public class OrderService {
         }
 
 
-        Page<Order> orders = orderRepository.findAllByCustomerId(customer.getId(), pageable);
-        orders.forEach(this::updateOrderStatus);
-        return orders.map(OrderDto::from);
+        return orderRepository.findOrderDtosByCustomerId(customer.getId(), pageable);
+    }
+
+    /**
+     * 현재 로그인한 사용자의 주문 내역을 최근 주문부터 커서 방식으로 조회합니다.
+     * 전체 개수를 세지 않고, 이전 페이지의 마지막 주문 다음부터 이어서 조회합니다.
+     * @param principal 현재 로그인한 사용자 정보
+     * @param after     이전 페이지의 마지막 주문을 나타내는 커서 ({@code <주문 날짜>,<주문 ID>}), 첫 페이지는 null
+     * @param size      조회할 주문 수
+     * @return 주문 목록과 다음 페이지 커서를 반환합니다.
+     * @throws IllegalArgumentException 커서 형식이 잘못되었거나 조회할 주문 수가 범위를 벗어난 경우 예외 발생
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<OrderDto> getOrderHistory(Principal principal, String after, int size) {
+        if (principal == null) {
+            throw new UnauthorizedAccessException("로그인 후 주문을 조회할 수 있습니다.");
+        }
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회할 주문 수는 1 이상 %d 이하여야 합니다.".formatted(MAX_HISTORY_PAGE_SIZE));
+        }
+
+        Customer customer = customerService.findByUsername(principal.getName());
+        if (customer == null) {
+            throw new CustomerNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+
+        // 다음 페이지가 있는지 확인하기 위해 하나 더 조회한다
+        Limit limit = Limit.of(size + 1);
+        List<OrderDto> orders;
+        if (after == null || after.isBlank()) {
+            orders = orderRepository.findOrderHistory(customer.getId(), limit);
+        } else {
+            int separator = after.lastIndexOf(',');
+            LocalDateTime date;
+            Long id;
+            try {
+                date = LocalDateTime.parse(after.substring(0, separator));
+                id = Long.parseLong(after.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + after);
+            }
+            orders = orderRepository.findOrderHistoryAfter(customer.getId(), date, id, limit);
+        }
+
+        if (orders.size() <= size) {
+            return new CursorPageDto<>(orders, null);
+        }
+        orders = orders.subList(0, size);
+        OrderDto last = orders.get(size - 1);
+        return new CursorPageDto<>(orders, last.getDate() + "," + last.getId());
     }
 
     /**
      * 주문 ID로 주문을 조회합니다.
+     * 주문 항목과 상품은 주문과 함께 하나의 쿼리로 조회되므로, 상품 정보를 포함해도 추가 쿼리가 발생하지 않습니다.
      * @param orderId   조회할 주문 ID
      * @param principal 현재 로그인한 사용자 정보
+     * @param includeItemSummary 주문 항목에 상품 이름, 가격 등 상품 정보를 포함할지 여부
      * @return 주문 상세 정보를 반환합니다.
      * @throws UnauthorizedAccessException 로그인한 사용자가 아닌 다른 사용자가 주문을 조회하려 할 때 예외 발생
      */
-    public OrderWithOrderItemsDto getOrderById(Long orderId, Principal principal) {
+    @Transactional(readOnly = true)
+    public OrderWithOrderItemsDto getOrderById(Long orderId, Principal principal, boolean includeItemSummary) {
         if (principal == null) {
             throw new UnauthorizedAccessException("로그인 후 주문을 조회할 수 있습니다.");
         }
 
         String currentUsername = principal.getName();
 
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithCustomerAndItemsById(orderId)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다. (ID: " + orderId + ")"));
 
         if (!order.getCustomer().getUsername().equals(currentUsername)) {
             throw new UnauthorizedAccessException("본인만 자신의 주문을 열람할 수 있습니다.");
         }
 
-        updateOrderStatus(order);
-        return OrderWithOrderItemsDto.from(order);
+        return OrderWithOrderItemsDto.from(order, includeItemSummary);
     }
 
     /**
@@ -251,12 +366,71 @@ public class OrderService {
         if (orderItemDtos.isEmpty()) {
             throw new IllegalArgumentException("주문 아이템이 비어 있을 수 없습니다.");
         }
-        return orderItemDtos.stream()
-                .map(dto -> {
-                    itemService.getItemById(dto.getItemId()); // 존재 여부 확인, 존재하지 않으면 예외 발생
-                    return dto;
-                })
-                .toList();
+        return orderItemDtos;
+    }
+
+    /**
+     * 주문 항목에 포함된 모든 상품을 한 번의 쿼리로 조회합니다.
+     * 존재하지 않는 상품이 포함되어 있으면 예외가 발생합니다.
+     * @param orderItemDtos 주문할 아이템의 목록
+     * @return 상품 ID를 키로 하는 영속 상태의 상품 맵을 반환합니다.
+     * @throws ItemNotFoundException 주문하려는 아이템이 존재하지 않는 경우 예외 발생
+     */
+    private Map<Long, Item> findOrderedItems(List<OrderItemDto> orderItemDtos) {
+        return itemService.getItemsByIds(orderItemDtos.stream()
+                .map(OrderItemDto::getItemId)
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * 주문 항목의 상품별 수량을 합산합니다.
+     * 같은 상품이 여러 줄에 나뉘어 있어도 한 번에 차감되도록 하고,
+     * 상품 ID 순으로 정렬해 동시에 처리되는 주문들이 항상 같은 순서로 행을 갱신하도록 합니다.
+     * @param orderItemDtos 주문할 아이템의 목록
+     * @return 상품 ID를 키로, 합산된 수량을 값으로 하는 정렬된 맵을 반환합니다.
+     * @throws IllegalArgumentException 수량이 1 미만인 주문 항목이 있는 경우 예외 발생
+     */
+    private Map<Long, Integer> sumQuantitiesByItem(List<OrderItemDto> orderItemDtos) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderItemDto orderItemDto : orderItemDtos) {
+            if (orderItemDto.getQuantity() == null || orderItemDto.getQuantity() < 1) {
+                throw new IllegalArgumentException("주문 수량은 1 이상이어야 합니다.");
+            }
+            quantities.merge(orderItemDto.getItemId(), orderItemDto.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    /**
+     * 미리 조회한 상품 엔티티를 재사용해 주문 항목을 생성합니다.
+     * 생성된 주문 항목은 주문의 항목 목록에도 추가됩니다.
+     * @param order         주문 항목이 속할 주문
+     * @param orderItemDtos 주문할 아이템의 목록
+     * @param items         상품 ID를 키로 하는 상품 맵
+     * @return 생성된 주문 항목 목록을 반환합니다.
+     */
+    private List<OrderItem> createOrderItems(Order order, List<OrderItemDto> orderItemDtos, Map<Long, Item> items) {
+        List<OrderItem> orderItems = new ArrayList<>(orderItemDtos.size());
+        for (OrderItemDto orderItemDto : orderItemDtos) {
+            Item item = items.get(orderItemDto.getItemId());
+            OrderItem orderItem = new OrderItem(order, item, orderItemDto.getQuantity());
+            order.getOrderItems().add(orderItem);
+            orderItems.add(orderItem);
+        }
+        return orderItems;
+    }
+
+    /**
+     * 주문 항목들의 총 가격을 계산합니다.
+     * @param orderItems 주문 항목 목록
+     * @return 주문 항목들의 (가격 * 수량) 합계를 반환합니다.
+     */
+    private long calculateTotalPrice(List<OrderItem> orderItems) {
+        long totalPrice = 0L;
+        for (OrderItem orderItem : orderItems) {
+            totalPrice += (long) orderItem.getItem().getPrice() * orderItem.getQuantity();
+        }
+        return totalPrice;
     }
 
     /**
@@ -285,23 +459,12 @@ public class OrderService {
     }
 
     /**
-     * 주문 상태를 조회하여, 발송 여부를 결정합니다.
-     * 주문 날짜가 오늘 오후 2시 이전이라면 'SHIPPED' 상태로 설정됩니다. 그 외에는 'PROCESSING' 상태로 설정됩니다.
-     * @param order 상태를 갱신할 주문 정보
+     * 가장 최근 발송 시각 이전에 접수된 처리 중 주문을 모두 발송 상태로 변경합니다.
+     * 조회 시에는 {@link Order#getCurrentStatus()}로 상태를 계산하므로, 이 메서드는 저장된 상태를 맞추는 용도로만 사용됩니다.
+     * @return 발송 상태로 변경된 주문 수를 반환합니다.
      */
-    private void updateOrderStatus(Order order) {
-        // 아직 주문이 장바구니 상태라면 배송 상태를 업데이트 하지 않는다.
-        if (order.getOrderStatus() == OrderStatus.TEMPORARY) {
-            return;
-        }
-        LocalDateTime today2PM = LocalDateTime.now().withHour(14).withMinute(0).withSecond(0).withNano(0);
-
-        if (order.getDate().isBefore(today2PM)) {
-            order.setOrderStatus(OrderStatus.SHIPPED);
-        } else {
-            order.setOrderStatus(OrderStatus.PROCESSING);
-        }
-        orderRepository.save(order);
+    public int shipProcessingOrders() {
+        return orderRepository.shipProcessingOrdersBefore(OrderStatus.latestShippingCutoff(LocalDateTime.now()));
     }
 
 }
@@ -0,0 +1,31 @@
+package com.team4.project1.domain.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매일 발송 시각에 처리 중인 주문을 발송 상태로 변경하는 스케줄러입니다.
+ * 서버가 내려가 있는 동안 지나간 발송 시각을 반영하기 위해 서버 시작 시에도 한 번 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderShippingScheduler {
+
+    private final OrderService orderService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void shipOnStartup() {
+        shipOrders();
+    }
+
+    @Scheduled(cron = "0 0 14 * * *")
+    public void shipOrders() {
+        int shipped = orderService.shipProcessingOrders();
+        log.info("주문 {}건을 발송 상태로 변경했습니다.", shipped);
+    }
+}
@@ -0,0 +1,99 @@
+package com.team4.project1.domain.order.service;
+
+import com.team4.project1.domain.customer.entity.Customer;
+import com.team4.project1.domain.order.dto.OrderItemDto;
+import com.team4.project1.domain.order.dto.OrderWithOrderItemsDto;
+import com.team4.project1.global.exception.RequestOutcomeUnknownException;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 검증을 마치고 저장을 기다리는 주문을 나타내는 클래스입니다.
+ * 요청 스레드에서 고객 조회와 주문 항목 검증을 끝낸 뒤 생성되며,
+ * 그룹 커밋 모드에서는 큐에 담겨 다른 주문들과 함께 하나의 트랜잭션으로 저장됩니다.
+ * 처리 결과는 트랜잭션이 커밋된 뒤에 {@link #complete()}로 요청 스레드에 전달됩니다.
+ */
+public class PendingOrder {
+
+    /** 주문한 고객 */
+    @Getter
+    private final Customer customer;
+    /** 주문 항목 목록 */
+    @Getter
+    private final List<OrderItemDto> orderItemDtos;
+    /** 상품 ID 순으로 정렬된 상품별 주문 수량 */
+    @Getter
+    private final Map<Long, Integer> quantities;
+
+    private final CompletableFuture<OrderWithOrderItemsDto> future = new CompletableFuture<>();
+    private OrderWithOrderItemsDto result;
+    private RuntimeException failure;
+
+    public PendingOrder(Customer customer, List<OrderItemDto> orderItemDtos, Map<Long, Integer> quantities) {
+        this.customer = customer;
+        this.orderItemDtos = orderItemDtos;
+        this.quantities = quantities;
+    }
+
+    /**
+     * 주문이 저장되었음을 기록합니다. 요청 스레드에는 {@link #complete()} 호출 시 전달됩니다.
+     * @param result 저장된 주문
+     */
+    void succeed(OrderWithOrderItemsDto result) {
+        this.result = result;
+        this.failure = null;
+    }
+
+    /**
+     * 주문 처리에 실패했음을 기록합니다. 요청 스레드에는 {@link #complete()} 호출 시 전달됩니다.
+     * @param failure 실패 원인
+     */
+    void fail(RuntimeException failure) {
+        this.result = null;
+        this.failure = failure;
+    }
+
+    /**
+     * 기록된 처리 결과를 요청 스레드에 전달합니다.
+     */
+    void complete() {
+        if (failure != null) {
+            future.completeExceptionally(failure);
+        } else if (result != null) {
+            future.complete(result);
+        } else {
+            future.completeExceptionally(new IllegalStateException("주문이 처리되지 않았습니다."));
+        }
+    }
+
+    /**
+     * 주문이 처리될 때까지 최대 주어진 시간 동안 기다립니다.
+     * @param timeoutMillis 최대 대기 시간 (ms)
+     * @return 저장된 주문을 반환합니다.
+     * @throws RuntimeException 주문 처리에 실패한 경우 원래 예외를 그대로 다시 발생시킵니다.
+     * @throws RequestOutcomeUnknownException 대기 시간이 초과되었거나 대기 중 스레드가 중단된 경우 예외 발생,
+     *                                         쓰기 스레드가 아직 주문을 저장할 수 있으므로 실패로 단정하지 않습니다.
+     */
+    OrderWithOrderItemsDto await(long timeoutMillis) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new RequestOutcomeUnknownException(
+                    "주문 처리 결과를 기다리는 시간이 초과되었습니다. 주문 내역을 확인해 주세요.", future);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RequestOutcomeUnknownException("주문 처리 결과를 기다리는 중 중단되었습니다. 주문 내역을 확인해 주세요.", future);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.team4.project1.global.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 조회 결과를 전달하기 위한 DTO 클래스입니다.
+ * 전체 개수를 세지 않고, 다음 페이지를 조회할 때 사용할 커서만 함께 반환합니다.
+ * 전체 개수는 요청한 경우에만 포함됩니다.
+ * @param <T> 항목 타입
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    /** 현재 페이지의 항목 목록 */
+    private List<T> items;
+    /** 다음 페이지를 조회할 때 전달할 커서, 다음 페이지가 없으면 null */
+    private String nextCursor;
+    /** 전체 항목 수, 요청하지 않았으면 응답에서 생략 */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long total;
+
+    public CursorPageDto(List<T> items, String nextCursor) {
+        this(items, nextCursor, null);
+    }
+}
@@ -97,6 +97,19 @@ public class GlobalExceptionHandler {
                 .body(ResponseDto.badRequest(ex.getMessage()));
     }
 
+    /**
+     * 요청 값이 잘못되었을 때 발생하는 예외를 처리합니다.
+     * @param ex 발생한 예외
+     * @return 예외 메시지와 함께 400 상태 코드가 포함된 응답을 반환합니다.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ResponseDto<String>> handleIllegalArgumentException(IllegalArgumentException ex) {
+        log.warn("IllegalArgumentException: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ResponseDto.badRequest(ex.getMessage()));
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ResponseDto<String>> handleIllegalStateException(IllegalStateException ex) {
         log.warn("IllegalStateException: {}", ex.getMessage());
@@ -105,6 +118,57 @@ public class GlobalExceptionHandler {
                 .body(ResponseDto.badRequest(ex.getMessage()));
     }
 
+    /**
+     * 같은 Idempotency-Key의 요청이 처리 중일 때 발생하는 예외를 처리합니다.
+     * @param ex 발생한 예외
+     * @return 예외 메시지와 함께 409 상태 코드가 포함된 응답을 반환합니다.
+     */
+    @ExceptionHandler(IdempotencyKeyInUseException.class)
+    public ResponseEntity<ResponseDto<String>> handleIdempotencyKeyInUseException(IdempotencyKeyInUseException ex) {
+        log.warn("IdempotencyKeyInUseException: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ResponseDto.of(
+                        HttpStatus.CONFLICT.value() + "",
+                        ex.getMessage(),
+                        null
+                ));
+    }
+
+    /**
+     * 이미 사용한 Idempotency-Key로 다른 요청을 보냈을 때 발생하는 예외를 처리합니다.
+     * @param ex 발생한 예외
+     * @return 예외 메시지와 함께 422 상태 코드가 포함된 응답을 반환합니다.
+     */
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<ResponseDto<String>> handleIdempotencyKeyMismatchException(IdempotencyKeyMismatchException ex) {
+        log.warn("IdempotencyKeyMismatchException: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(ResponseDto.of(
+                        HttpStatus.UNPROCESSABLE_ENTITY.value() + "",
+                        ex.getMessage(),
+                        null
+                ));
+    }
+
+    /**
+     * 처리 결과를 기다리다 포기해 결과를 알 수 없을 때 발생하는 예외를 처리합니다.
+     * @param ex 발생한 예외
+     * @return 예외 메시지와 함께 503 상태 코드가 포함된 응답을 반환합니다.
+     */
+    @ExceptionHandler(RequestOutcomeUnknownException.class)
+    public ResponseEntity<ResponseDto<String>> handleRequestOutcomeUnknownException(RequestOutcomeUnknownException ex) {
+        log.warn("RequestOutcomeUnknownException: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ResponseDto.of(
+                        HttpStatus.SERVICE_UNAVAILABLE.value() + "",
+                        ex.getMessage(),
+                        null
+                ));
+    }
+
     /**
      * 사용자가 권한이 없을 때 발생하는 예외를 처리합니다.
      * @param ex 발생한 예외
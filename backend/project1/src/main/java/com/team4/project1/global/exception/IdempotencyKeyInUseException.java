@@ -0,0 +1,16 @@
+package com.team4.project1.global.exception;
+
+/**
+ * 같은 Idempotency-Key의 요청이 아직 처리 중일 때 발생하는 예외입니다.
+ * 요청 자체는 올바르므로, 클라이언트는 잠시 후 같은 키로 다시 시도하면 처리 결과를 받을 수 있습니다.
+ */
+public class IdempotencyKeyInUseException extends RuntimeException {
+
+    /**
+     * 사용자 정의 메시지로 예외를 생성합니다.
+     * @param message 예외 메시지
+     */
+    public IdempotencyKeyInUseException(String message) {
+        super(message);
+    }
+}
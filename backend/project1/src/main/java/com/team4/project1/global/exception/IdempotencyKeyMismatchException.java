@@ -0,0 +1,16 @@
+package com.team4.project1.global.exception;
+
+/**
+ * 이미 사용한 Idempotency-Key로 다른 요청 본문을 보냈을 때 발생하는 예외입니다.
+ * 같은 키로 다시 시도해도 성공하지 않으므로, 클라이언트는 새 키를 사용해야 합니다.
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    /**
+     * 사용자 정의 메시지로 예외를 생성합니다.
+     * @param message 예외 메시지
+     */
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
@@ -1,11 +1,17 @@
 package com.team4.project1.global.exception;
 
+import java.util.Map;
+import java.util.stream.Collectors;
+
 /**
  * 재고 부족 예외를 처리하는 클래스입니다.
  * 상품의 재고가 부족할 때 발생하는 예외로, 예외 메시지에는 상품 ID와 현재 재고 수량이 포함됩니다.
  */
 public class InsufficientStockException extends RuntimeException {
 
+  /** 재고가 부족한 상품 ID와 해당 상품의 현재 재고 수량 */
+  private final Map<Long, Integer> shortages;
+
   /**
    * 재고 부족 예외를 생성하는 생성자입니다.
    * @param itemId 상품 ID
@@ -13,5 +19,26 @@ public class InsufficientStockException extends RuntimeException {
    */
   public InsufficientStockException(Long itemId, Integer stock) {
     super("상품의 재고가 부족합니다. (상품 ID: " + itemId + ", 현재 재고: " + stock + ")");
+    this.shortages = Map.of(itemId, stock);
+  }
+
+  /**
+   * 여러 상품의 재고가 부족할 때 사용하는 생성자입니다.
+   * 예외 메시지에는 재고가 부족한 모든 상품의 ID와 현재 재고 수량이 포함됩니다.
+   * @param shortages 상품 ID를 키로, 현재 재고 수량을 값으로 하는 맵
+   */
+  public InsufficientStockException(Map<Long, Integer> shortages) {
+    super("상품의 재고가 부족합니다. " + shortages.entrySet().stream()
+            .map(entry -> "(상품 ID: " + entry.getKey() + ", 현재 재고: " + entry.getValue() + ")")
+            .collect(Collectors.joining(", ")));
+    this.shortages = Map.copyOf(shortages);
+  }
+
+  /**
+   * 재고가 부족한 상품들의 현재 재고를 반환합니다.
+   * @return 상품 ID를 키로, 현재 재고 수량을 값으로 하는 맵을 반환합니다.
+   */
+  public Map<Long, Integer> getShortages() {
+    return shortages;
   }
 }
@@ -0,0 +1,31 @@
+package com.team4.project1.global.exception;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 요청의 처리 결과를 기다리다 포기했지만, 처리는 아직 끝나지 않아 결과를 알 수 없을 때 발생하는 예외입니다.
+ * 요청이 나중에 성공할 수도 있으므로 실패로 취급하면 안 되며, 처리가 끝나면 {@link #getOutcome()}이 완료됩니다.
+ */
+public class RequestOutcomeUnknownException extends RuntimeException {
+
+    /** 요청의 실제 처리 결과, 처리가 끝나면 완료됩니다. */
+    private final CompletableFuture<?> outcome;
+
+    /**
+     * 처리 결과를 알 수 없는 예외를 생성합니다.
+     * @param message 예외 메시지
+     * @param outcome 요청의 실제 처리 결과
+     */
+    public RequestOutcomeUnknownException(String message, CompletableFuture<?> outcome) {
+        super(message);
+        this.outcome = outcome;
+    }
+
+    /**
+     * 요청의 실제 처리 결과를 반환합니다.
+     * @return 처리가 끝나면 결과나 실패 원인으로 완료되는 {@link CompletableFuture}를 반환합니다.
+     */
+    public CompletableFuture<?> getOutcome() {
+        return outcome;
+    }
+}
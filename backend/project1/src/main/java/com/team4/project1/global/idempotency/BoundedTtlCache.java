@@ -0,0 +1,66 @@
+package com.team4.project1.global.idempotency;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기 제한과 만료 시간을 가진 메모리 캐시입니다.
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거하고(LRU),
+ * 저장된 지 만료 시간이 지난 항목은 조회 시점에 제거합니다.
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class BoundedTtlCache<K, V> {
+
+    private record CacheEntry<V>(V value, long expiresAt) {
+    }
+
+    private final long ttlNanos;
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+
+    /**
+     * 캐시를 생성합니다.
+     * @param maxSize 캐시에 보관할 최대 항목 수
+     * @param ttl 항목이 저장된 후 유지되는 시간
+     */
+    public BoundedTtlCache(int maxSize, Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 키에 해당하는 값을 조회합니다.
+     * @param key 조회할 키
+     * @return 저장된 값을 반환합니다. 값이 없거나 만료되었으면 null을 반환합니다.
+     */
+    public synchronized V get(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAt() > 0) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * 값을 저장합니다. 같은 키의 기존 값은 덮어씁니다.
+     * @param key 저장할 키
+     * @param value 저장할 값
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, new CacheEntry<>(value, System.nanoTime() + ttlNanos));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
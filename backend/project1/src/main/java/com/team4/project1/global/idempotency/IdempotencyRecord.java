@@ -0,0 +1,57 @@
+package com.team4.project1.global.idempotency;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key로 처리된 요청의 첫 응답을 저장하는 엔티티 클래스입니다.
+ * 메모리 캐시에서 밀려났거나 서버가 재시작된 뒤에도 같은 키의 재시도에 같은 응답을 돌려주기 위해 사용합니다.
+ * 요청을 처리하기 전에 응답 없이 먼저 저장해 키를 선점하므로, 여러 서버에서 같은 키의 요청이 동시에 처리되지 않습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 기본 생성자, 외부 사용 제한
+public class IdempotencyRecord {
+
+    /**
+     * 요청자와 Idempotency-Key를 합친 키
+     */
+    @Id
+    @Column(length = 200)
+    private String id;
+
+    /**
+     * 요청 본문의 SHA-256 해시
+     * 같은 키로 다른 요청이 들어왔는지 확인하는 데 사용합니다.
+     */
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    /**
+     * JSON으로 직렬화된 첫 응답
+     * 요청을 처리하는 동안에는 null이며, 처리가 끝나면 저장됩니다.
+     */
+    @Lob
+    private String response;
+
+    /**
+     * 요청 처리를 시작한 시각
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public boolean isPending() {
+        return response == null;
+    }
+
+    public IdempotencyRecord(String id, String requestHash, String response, LocalDateTime createdAt) {
+        this.id = id;
+        this.requestHash = requestHash;
+        this.response = response;
+        this.createdAt = createdAt;
+    }
+}
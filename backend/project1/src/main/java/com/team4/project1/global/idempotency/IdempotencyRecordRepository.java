@@ -0,0 +1,82 @@
+package com.team4.project1.global.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@link IdempotencyRecord} 엔티티에 대한 데이터베이스 작업을 처리하는 리포지토리 인터페이스입니다.
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * 주어진 시각 이전에 저장된 응답을 한 번의 DELETE 문장으로 삭제합니다.
+     * @param createdAt 기준 시각
+     * @return 삭제된 행의 수를 반환합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :createdAt")
+    int deleteAllCreatedBefore(@Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 응답 없이 키를 저장해 선점합니다. 조회 후 저장하지 않고 INSERT만 실행하므로, 이미 있는 키면 기존 행을 덮어쓰지 않고 실패합니다.
+     * @param id 요청자와 Idempotency-Key를 합친 키
+     * @param requestHash 요청 본문의 해시
+     * @param createdAt 처리를 시작한 시각
+     * @return 저장된 행의 수를 반환합니다.
+     * @throws org.springframework.dao.DataIntegrityViolationException 이미 저장된 키인 경우 예외 발생
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_record (id, request_hash, created_at) VALUES (:id, :requestHash, :createdAt)",
+            nativeQuery = true)
+    int insertPending(@Param("id") String id, @Param("requestHash") String requestHash,
+                      @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 만료된 응답이나, 처리 중 서버가 종료되어 오래 남은 선점을 새 요청의 선점으로 바꿉니다.
+     * @param id 요청자와 Idempotency-Key를 합친 키
+     * @param requestHash 새 요청 본문의 해시
+     * @param createdAt 처리를 시작한 시각
+     * @param expiredBefore 이 시각 이전에 저장된 응답은 만료된 것으로 봅니다.
+     * @param staleBefore 이 시각 이전에 시작해 아직 응답이 없는 선점은 버려진 것으로 봅니다.
+     * @return 변경된 행의 수를 반환합니다. 유효한 응답이나 진행 중인 선점이 있으면 0을 반환합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r " +
+            "SET r.requestHash = :requestHash, r.response = null, r.createdAt = :createdAt " +
+            "WHERE r.id = :id AND (r.createdAt < :expiredBefore OR (r.response IS NULL AND r.createdAt < :staleBefore))")
+    int reclaim(@Param("id") String id, @Param("requestHash") String requestHash,
+                @Param("createdAt") LocalDateTime createdAt,
+                @Param("expiredBefore") LocalDateTime expiredBefore,
+                @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 선점한 키에 처리 결과를 저장합니다.
+     * @param id 요청자와 Idempotency-Key를 합친 키
+     * @param response JSON으로 직렬화된 응답
+     * @return 변경된 행의 수를 반환합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.response = :response WHERE r.id = :id")
+    int complete(@Param("id") String id, @Param("response") String response);
+
+    /**
+     * 처리에 실패한 요청의 선점을 해제해 같은 키로 다시 시도할 수 있도록 합니다.
+     * @param id 요청자와 Idempotency-Key를 합친 키
+     * @return 삭제된 행의 수를 반환합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.response IS NULL")
+    int deletePending(@Param("id") String id);
+}
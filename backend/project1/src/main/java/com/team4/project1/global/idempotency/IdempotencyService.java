@@ -0,0 +1,267 @@
+package com.team4.project1.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.project1.global.exception.IdempotencyKeyInUseException;
+import com.team4.project1.global.exception.IdempotencyKeyMismatchException;
+import com.team4.project1.global.exception.RequestOutcomeUnknownException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더가 붙은 요청을 한 번만 처리하도록 보장하는 서비스 클래스입니다.
+ * 첫 요청의 응답을 크기 제한과 만료 시간이 있는 메모리 캐시와 DB에 함께 저장하고,
+ * 같은 키로 재시도된 요청에는 실제 처리를 다시 하지 않고 저장된 응답을 반환합니다.
+ * 같은 키의 요청이 동시에 들어오면 먼저 들어온 요청의 처리가 끝날 때까지 기다렸다가 그 결과를 반환합니다.
+ * 처리하기 전에 응답 없는 {@link IdempotencyRecord}를 먼저 저장해 키를 선점하므로,
+ * 다른 서버에서 같은 키의 요청이 처리 중이면 처리하지 않고 거절합니다.
+ * 처리에 실패한 요청은 선점을 해제하므로 같은 키로 다시 시도할 수 있습니다.
+ * 처리 결과를 기다리다 포기한 요청({@link RequestOutcomeUnknownException})은 선점을 유지하고, 처리가 끝나는 시점에 응답을 저장하거나 선점을 해제합니다.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    /** 허용하는 Idempotency-Key의 최대 길이 */
+    public static final int MAX_KEY_LENGTH = 100;
+
+    private record StoredResponse(String requestHash, Object response) {
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<Object> future) {
+    }
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    /** 응답 없이 이 시간보다 오래 남은 선점은 처리 중 서버가 종료된 것으로 보고 다시 선점할 수 있습니다. */
+    private final Duration pendingTimeout;
+
+    private final BoundedTtlCache<String, StoredResponse> cache;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(
+            IdempotencyRecordRepository idempotencyRecordRepository,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.cache-size:10000}") int cacheSize,
+            @Value("${idempotency.ttl-minutes:1440}") long ttlMinutes,
+            @Value("${idempotency.pending-timeout-seconds:60}") long pendingTimeoutSeconds
+    ) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.pendingTimeout = Duration.ofSeconds(pendingTimeoutSeconds);
+        this.cache = new BoundedTtlCache<>(cacheSize, ttl);
+    }
+
+    /**
+     * 요청을 한 번만 처리하고, 같은 키의 재시도에는 저장된 응답을 반환합니다.
+     * @param scope 키가 적용되는 범위 (요청한 사용자 이름 등, 다른 사용자의 응답이 반환되지 않도록 합니다)
+     * @param key 클라이언트가 보낸 Idempotency-Key
+     * @param request 요청 본문 (같은 키로 다른 요청이 들어왔는지 확인하는 데 사용합니다)
+     * @param responseType 응답 타입
+     * @param action 실제 요청 처리
+     * @return 처리 결과 또는 저장된 응답을 반환합니다.
+     * @throws IllegalArgumentException 키가 너무 긴 경우 예외 발생
+     * @throws IdempotencyKeyMismatchException 같은 키로 다른 요청 본문이 들어온 경우 예외 발생
+     * @throws IdempotencyKeyInUseException 다른 서버에서 같은 키의 요청을 처리 중인 경우 예외 발생
+     */
+    public <T> T execute(String scope, String key, Object request, Class<T> responseType, Supplier<T> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 1자 이상 %d자 이하여야 합니다.".formatted(MAX_KEY_LENGTH));
+        }
+        String id = scope + ":" + key;
+        String requestHash = hash(request);
+
+        Optional<T> stored = findStored(id, requestHash, responseType);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        InFlight processing = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(id, processing);
+        if (running != null) {
+            checkSameRequest(running.requestHash(), requestHash);
+            return responseType.cast(await(running.future()));
+        }
+
+        try {
+            // 이전 요청이 방금 끝났거나 다른 서버가 먼저 처리했을 수 있으므로, 선점하면서 다시 확인한다
+            stored = findStored(id, requestHash, responseType);
+            if (stored.isEmpty()) {
+                stored = claim(id, requestHash, responseType);
+            }
+            T response;
+            if (stored.isPresent()) {
+                response = stored.get();
+            } else {
+                response = run(id, requestHash, action);
+                store(id, requestHash, response);
+            }
+            processing.future().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            processing.future().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, processing);
+        }
+    }
+
+    /**
+     * 만료된 응답을 DB에서 주기적으로 삭제합니다.
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public void purgeExpired() {
+        int deleted = idempotencyRecordRepository.deleteAllCreatedBefore(LocalDateTime.now().minus(ttl));
+        if (deleted > 0) {
+            log.info("만료된 Idempotency 응답 {}건 삭제", deleted);
+        }
+    }
+
+    private <T> Optional<T> findStored(String id, String requestHash, Class<T> responseType) {
+        StoredResponse cached = cache.get(id);
+        if (cached != null) {
+            checkSameRequest(cached.requestHash(), requestHash);
+            return Optional.of(responseType.cast(cached.response()));
+        }
+
+        Optional<IdempotencyRecord> record = idempotencyRecordRepository.findById(id)
+                .filter(r -> r.getCreatedAt().isAfter(LocalDateTime.now().minus(ttl)));
+        if (record.isEmpty()) {
+            return Optional.empty();
+        }
+        checkSameRequest(record.get().getRequestHash(), requestHash);
+        if (record.get().isPending()) {
+            return Optional.empty();
+        }
+        T response = fromJson(record.get().getResponse(), responseType);
+        cache.put(id, new StoredResponse(requestHash, response));
+        return Optional.of(response);
+    }
+
+    /**
+     * 응답 없는 기록을 저장해 키를 선점합니다.
+     * 이미 기록이 있으면 만료되었거나 버려진 선점인 경우에만 다시 선점하고,
+     * 그 사이 다른 서버가 처리를 끝냈으면 저장된 응답을 반환합니다.
+     * @return 선점했으면 빈 값을, 다른 서버가 저장한 응답이 있으면 그 응답을 반환합니다.
+     * @throws IdempotencyKeyInUseException 다른 서버에서 같은 키의 요청을 처리 중인 경우 예외 발생
+     */
+    private <T> Optional<T> claim(String id, String requestHash, Class<T> responseType) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            idempotencyRecordRepository.insertPending(id, requestHash, now);
+            return Optional.empty();
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 같은 키를 먼저 선점한 경우
+        }
+        if (idempotencyRecordRepository.reclaim(id, requestHash, now, now.minus(ttl), now.minus(pendingTimeout)) > 0) {
+            return Optional.empty();
+        }
+        Optional<T> stored = findStored(id, requestHash, responseType);
+        if (stored.isEmpty()) {
+            throw new IdempotencyKeyInUseException("같은 Idempotency-Key의 요청이 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return stored;
+    }
+
+    // 처리에 실패하면 선점을 해제해 같은 키로 다시 시도할 수 있도록 한다
+    private <T> T run(String id, String requestHash, Supplier<T> action) {
+        try {
+            return action.get();
+        } catch (RequestOutcomeUnknownException e) {
+            // 처리가 아직 끝나지 않았으므로 선점을 유지해, 같은 키의 재시도가 다시 처리하지 않도록 한다
+            e.getOutcome().whenComplete((response, failure) -> {
+                if (failure == null) {
+                    store(id, requestHash, response);
+                } else {
+                    release(id);
+                }
+            });
+            throw e;
+        } catch (RuntimeException e) {
+            release(id);
+            throw e;
+        }
+    }
+
+    private void release(String id) {
+        try {
+            idempotencyRecordRepository.deletePending(id);
+        } catch (RuntimeException e) {
+            log.warn("Idempotency 선점 해제 실패 (키: {}): {}", id, e.getMessage());
+        }
+    }
+
+    private void store(String id, String requestHash, Object response) {
+        cache.put(id, new StoredResponse(requestHash, response));
+        try {
+            idempotencyRecordRepository.complete(id, toJson(response));
+        } catch (RuntimeException e) {
+            // 요청은 이미 처리되었으므로 실패로 응답하지 않는다. 같은 서버의 재시도는 캐시로 응답한다
+            log.warn("Idempotency 응답 저장 실패 (키: {}): {}", id, e.getMessage());
+        }
+    }
+
+    private void checkSameRequest(String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+        }
+    }
+
+    private Object await(CompletableFuture<Object> running) {
+        try {
+            return running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInUseException("같은 Idempotency-Key의 요청을 기다리는 중 중단되었습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(toJson(request).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private <T> T fromJson(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
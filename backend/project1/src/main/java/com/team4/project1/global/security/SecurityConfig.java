@@ -33,6 +33,9 @@ public class SecurityConfig {
                                         "/api/v1/items",
                                         "/api/v1/items/{itemId:\\d+}",
                                         "/api/v1/items/{itemId:\\d+}/image",
+                                        "/api/v1/items/images/*",
+                                        "/api/v1/items/suggest",
+                                        "/api/v1/items/scroll",
                                         "/api/v1/orders/**"
                                 )
                                 .permitAll()
@@ -45,6 +48,7 @@ public class SecurityConfig {
                                 .requestMatchers(HttpMethod.POST,
                                         "/api/v1/orders",
                                         "/api/v1/orders/{orderId:\\d+}/confirm",
+                                        "/api/v1/items/lookup",
                                         "/api/v1/items/{itemId:\\d+}/image")  // POST 요청 허용
                                 .permitAll()
                                 .requestMatchers(
@@ -101,8 +105,9 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowCredentials(true); // 쿠키 포함 요청 허용
         configuration.setAllowedOrigins(List.of("http://localhost:3000")); // 허용할 프론트엔드 주소
-        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(List.of("Authorization", "Content-Type"));
+        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
+        configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "Idempotency-Key", "If-None-Match", "Range"));
+        configuration.setExposedHeaders(List.of("ETag", "Content-Range"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/api/**", configuration);
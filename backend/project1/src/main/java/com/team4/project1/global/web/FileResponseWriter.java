@@ -0,0 +1,163 @@
+package com.team4.project1.global.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * 디스크의 파일을 HTTP 응답으로 보내는 클래스입니다.
+ * 메시지 컨버터를 거치지 않고 응답에 직접 쓰며, 다음을 처리합니다.
+ * <ul>
+ *     <li>If-None-Match, If-Modified-Since 조건부 요청: 파일이 바뀌지 않았으면 본문 없이 304로 응답합니다.</li>
+ *     <li>단일 구간 Range 요청: 206과 Content-Range로 요청한 구간만 보냅니다. 여러 구간 요청은 전체를 보냅니다.</li>
+ *     <li>본문 전송: Tomcat이 sendfile을 지원하면 파일 이름과 구간만 요청 속성에 담아 넘기고,
+ *     서블릿이 끝난 뒤 Tomcat이 커널에서 소켓으로 바로 복사하도록 합니다(zero-copy).
+ *     지원하지 않으면 {@link FileChannel#transferTo}로 응답 스트림에 복사합니다.</li>
+ * </ul>
+ */
+@Component
+public class FileResponseWriter {
+
+    // Tomcat의 sendfile 요청 속성 (org.apache.coyote.Constants)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * 요청한 바이트 구간입니다.
+     * @param start 시작 위치 (포함)
+     * @param end 끝 위치 (포함)
+     */
+    record ByteRange(long start, long end) {
+
+        /** 파일 범위를 벗어나 만족할 수 없는 구간 */
+        static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+        long length() {
+            return end - start + 1;
+        }
+    }
+
+    /**
+     * 파일을 응답으로 보냅니다. 조건부 요청이 일치하면 304로, 만족할 수 없는 구간이면 416으로 응답합니다.
+     * @param webRequest 현재 요청 (조건부 요청 처리에 사용)
+     * @param file 보낼 파일
+     * @param contentType 응답의 Content-Type
+     * @param eTag 파일 내용을 나타내는 강한 ETag (따옴표 포함)
+     * @param cacheControl 응답의 Cache-Control
+     * @throws IOException 파일을 읽거나 응답을 쓰지 못한 경우 예외 발생
+     */
+    public void write(ServletWebRequest webRequest, Path file, MediaType contentType, String eTag,
+                      CacheControl cacheControl) throws IOException {
+        HttpServletRequest request = webRequest.getRequest();
+        HttpServletResponse response = webRequest.getResponse();
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long length = attributes.size();
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        // ETag, Last-Modified 헤더도 함께 설정되며, 일치하면 상태 코드가 304로 설정된다
+        if (webRequest.checkNotModified(eTag, attributes.lastModifiedTime().toMillis())) {
+            return;
+        }
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(contentType.toString());
+
+        ByteRange range = new ByteRange(0, length - 1);
+        ByteRange requested = matchesIfRange(request.getHeader(HttpHeaders.IF_RANGE), eTag)
+                ? parseRange(request.getHeader(HttpHeaders.RANGE), length)
+                : null;
+        if (requested == ByteRange.UNSATISFIABLE) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            return;
+        }
+        if (requested != null) {
+            range = requested;
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + range.start() + "-" + range.end() + "/" + length);
+        }
+        response.setContentLengthLong(range.length());
+        if ("HEAD".equals(request.getMethod()) || range.length() == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, range.start());
+            request.setAttribute(SENDFILE_END_ATTR, range.end() + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * Range 헤더에서 단일 바이트 구간을 읽습니다.
+     * @param header Range 헤더 값
+     * @param length 파일 크기
+     * @return 요청한 구간을 반환합니다. 헤더가 없거나, 형식이 잘못되었거나, 여러 구간을 요청하면 null(전체 전송)을,
+     *         파일 범위를 벗어나면 {@link ByteRange#UNSATISFIABLE}을 반환합니다.
+     */
+    static ByteRange parseRange(String header, long length) {
+        if (header == null || !header.regionMatches(true, 0, "bytes=", 0, 6)) {
+            return null;
+        }
+        String spec = header.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0 || spec.indexOf(',') >= 0) {
+            return null;
+        }
+        try {
+            if (dash == 0) {
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix < 0) {
+                    return null;
+                }
+                if (suffix == 0 || length == 0) {
+                    return ByteRange.UNSATISFIABLE;
+                }
+                return new ByteRange(Math.max(length - suffix, 0), length - 1);
+            }
+            long start = Long.parseLong(spec.substring(0, dash));
+            String endPart = spec.substring(dash + 1);
+            long end = endPart.isEmpty() ? Long.MAX_VALUE : Long.parseLong(endPart);
+            if (end < start) {
+                return null;
+            }
+            if (start >= length) {
+                return ByteRange.UNSATISFIABLE;
+            }
+            return new ByteRange(start, Math.min(end, length - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // If-Range가 없거나 현재 ETag와 같을 때만 Range를 적용한다 (날짜 형식의 If-Range는 전체를 보낸다)
+    private static boolean matchesIfRange(String ifRange, String eTag) {
+        return ifRange == null || ifRange.trim().equals(eTag);
+    }
+}
@@ -31,4 +31,100 @@ public class Ut {
             }
         }
     }
+
+    /**
+     * 한글 관련 기능을 처리하는 내부 클래스입니다.
+     * 이 클래스는 한글 음절을 초성이나 자모로 분해하고, 초성 검색어와 비교하는 기능을 제공합니다.
+     */
+    public static class Hangul {
+        private static final int SYLLABLE_BASE = 0xAC00;
+        private static final int SYLLABLE_COUNT = 11172;
+        // 초성 하나에 속한 음절 수 (중성 21개 x 종성 28개)
+        private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+        private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+        private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+        // 종성이 없는 경우를 첫 번째 자리(공백)로 둔다
+        private static final String JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+        /**
+         * 문자열의 한글 음절을 초성으로 바꿉니다.
+         * 한글 음절이 아닌 글자는 소문자로 바꾸어 그대로 둡니다.
+         * @param text 변환할 문자열
+         * @return 초성으로 바뀐 문자열을 반환합니다. 예를 들어 "스타벅스"는 "ㅅㅌㅂㅅ"가 됩니다.
+         */
+        public static String toChoseong(String text) {
+            StringBuilder sb = new StringBuilder(text.length());
+            text.toLowerCase().codePoints().forEach(codePoint -> sb.appendCodePoint(choseongOf(codePoint)));
+            return sb.toString();
+        }
+
+        /**
+         * 문자열의 한글 음절을 초성, 중성, 종성 자모로 분해합니다.
+         * 한글 음절이 아닌 글자는 소문자로 바꾸어 그대로 둡니다.
+         * 음절 하나의 오타가 자모 하나의 차이가 되므로, 편집 거리로 오타를 찾을 때 사용합니다.
+         * @param text 변환할 문자열
+         * @return 자모로 분해된 문자열을 반환합니다. 예를 들어 "커피"는 "ㅋㅓㅍㅣ"가 됩니다.
+         */
+        public static String toJamo(String text) {
+            StringBuilder sb = new StringBuilder(text.length() * 3);
+            text.toLowerCase().codePoints().forEach(codePoint -> {
+                int offset = codePoint - SYLLABLE_BASE;
+                if (offset < 0 || offset >= SYLLABLE_COUNT) {
+                    sb.appendCodePoint(codePoint);
+                    return;
+                }
+                sb.append(CHOSEONG.charAt(offset / SYLLABLES_PER_CHOSEONG));
+                sb.append(JUNGSEONG.charAt(offset % SYLLABLES_PER_CHOSEONG / JONGSEONG.length()));
+                int jongseong = offset % JONGSEONG.length();
+                if (jongseong > 0) {
+                    sb.append(JONGSEONG.charAt(jongseong));
+                }
+            });
+            return sb.toString();
+        }
+
+        /**
+         * 글자가 초성으로 쓰일 수 있는 한글 자음인지 확인합니다.
+         * @param codePoint 확인할 글자
+         * @return 초성 자음이면 true를 반환합니다.
+         */
+        public static boolean isChoseong(int codePoint) {
+            return CHOSEONG.indexOf(codePoint) >= 0;
+        }
+
+        /**
+         * 문자열이 초성 검색어의 글자를 순서대로 포함하는지 확인합니다.
+         * 검색어의 초성 자음은 같은 초성을 가진 음절과, 나머지 글자는 같은 글자와 일치하며, 일치하는 글자 사이에 다른 글자가 있어도 됩니다.
+         * 예를 들어 "ㅅㅌㅂ", "스ㅌㅂ", "ㅅㅂㅅ"는 모두 "스타벅스커피"와 일치합니다.
+         * 검색어의 각 글자를 가장 앞에서 일치하는 글자에 대응시켜도 일치 여부는 달라지지 않으므로 문자열을 한 번만 훑습니다.
+         * @param text 검색 대상 문자열
+         * @param query 초성 검색어
+         * @return 검색어의 글자가 모두 순서대로 나타나면 true를 반환합니다.
+         */
+        public static boolean containsChoseong(String text, String query) {
+            int[] target = text.toLowerCase().codePoints().toArray();
+            int[] pattern = query.toLowerCase().codePoints().toArray();
+            int matched = 0;
+            for (int i = 0; i < target.length && matched < pattern.length; i++) {
+                if (matches(target[i], pattern[matched])) {
+                    matched++;
+                }
+            }
+            return matched == pattern.length;
+        }
+
+        private static boolean matches(int codePoint, int expected) {
+            return isChoseong(expected)
+                    ? choseongOf(codePoint) == expected
+                    : codePoint == expected;
+        }
+
+        private static int choseongOf(int codePoint) {
+            int offset = codePoint - SYLLABLE_BASE;
+            if (offset < 0 || offset >= SYLLABLE_COUNT) {
+                return codePoint;
+            }
+            return CHOSEONG.charAt(offset / SYLLABLES_PER_CHOSEONG);
+        }
+    }
 }
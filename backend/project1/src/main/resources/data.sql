@@ -1,3 +1,5 @@
+-- 초기 데이터는 ID를 직접 지정하므로, 엔티티의 ID 시퀀스는 겹치지 않도록 1000부터 시작합니다.
+
 -- 고객 데이터 삽입
 INSERT INTO customer (id, username, password, name, email)
 VALUES
@@ -1,30 +1,49 @@
 package com.team4.project1;
 
+import com.team4.project1.domain.item.dto.ItemBatchUpdateDto;
 import com.team4.project1.domain.item.dto.ItemDto;
+import com.team4.project1.domain.item.dto.ItemLookupDto;
+import com.team4.project1.domain.item.dto.ItemVersionedDto;
 import com.team4.project1.domain.item.entity.Item;
 import com.team4.project1.domain.item.entity.ItemSortType;
+import com.team4.project1.domain.item.event.ItemStockChangedEvent;
+import com.team4.project1.domain.item.event.ItemsSavedEvent;
 import com.team4.project1.domain.item.repository.ItemRepository;
+import com.team4.project1.domain.item.service.HotItemStockRegistry;
+import com.team4.project1.domain.item.service.ItemCatalog;
+import com.team4.project1.domain.item.service.ItemCatalogService;
 import com.team4.project1.domain.item.service.ItemService;
+import com.team4.project1.domain.item.service.ItemVersions;
+import com.team4.project1.global.exception.InsufficientStockException;
 import com.team4.project1.global.exception.ItemNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyCollection;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.never;
 /**
  * {@link ItemService} 클래스의 단위 테스트.
  * {@link ItemService}의 메서드들이 예상대로 동작하는지 확인.
@@ -35,6 +54,18 @@ class ItemServiceTest {
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private HotItemStockRegistry hotItemStockRegistry;
+
+    @Mock
+    private ItemCatalogService itemCatalogService;
+
+    @Mock
+    private ItemVersions itemVersions;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ItemService itemService;
 
@@ -126,4 +157,166 @@ class ItemServiceTest {
         assertThat(itemCount).isEqualTo(5);
         then(itemRepository).should().count();
     }
+    /**
+     * 재고, 가격 일괄 변경 테스트.
+     */
+    @Test
+    @DisplayName("같은 재고 변화량이나 같은 가격으로 바꾸는 상품은 하나의 UPDATE로 변경")
+    void updateItemsGroupedByOperation() {
+        List<ItemBatchUpdateDto.Change> changes = List.of(
+                new ItemBatchUpdateDto.Change(1L, 10, null),
+                new ItemBatchUpdateDto.Change(2L, 10, 500),
+                new ItemBatchUpdateDto.Change(3L, null, 500)
+        );
+        given(itemRepository.findStocks(List.of(1L, 2L, 3L))).willReturn(Map.of(1L, 0, 2L, 5, 3L, 1));
+        given(itemRepository.addStocks(List.of(1L, 2L), 10)).willReturn(2);
+        given(itemRepository.findAllById(List.of(1L, 2L, 3L))).willReturn(List.of(
+                Item.builder().id(1L).name("A").price(100).stock(10).build(),
+                Item.builder().id(2L).name("B").price(500).stock(15).build(),
+                Item.builder().id(3L).name("C").price(500).stock(1).build()
+        ));
+
+        List<ItemDto> updatedItems = itemService.updateItems(changes);
+
+        assertThat(updatedItems).extracting(ItemDto::getStock).containsExactly(10, 15, 1);
+        then(itemRepository).should().addStocks(List.of(1L, 2L), 10);
+        then(itemRepository).should().updatePrices(List.of(2L, 3L), 500);
+        then(eventPublisher).should().publishEvent(any(Object.class));
+    }
+
+    /**
+     * 핫 아이템을 일괄 변경할 때 발행하는 이벤트의 재고 테스트.
+     */
+    @Test
+    @DisplayName("일괄 변경한 핫 아이템은 DB 재고가 아닌 분할 재고에 입고 수량을 더한 재고로 저장 이벤트를 발행")
+    void updateItemsPublishesHotStock() {
+        List<ItemBatchUpdateDto.Change> changes = List.of(
+                new ItemBatchUpdateDto.Change(1L, 10, null),
+                new ItemBatchUpdateDto.Change(2L, 5, null)
+        );
+        given(itemRepository.findStocks(List.of(1L, 2L))).willReturn(Map.of(1L, 0, 2L, 5));
+        given(hotItemStockRegistry.isHot(1L)).willReturn(true);
+        given(hotItemStockRegistry.getStock(1L)).willReturn(OptionalInt.of(30));
+        given(hotItemStockRegistry.getStock(2L)).willReturn(OptionalInt.empty());
+        given(itemRepository.addStocks(List.of(2L), 5)).willReturn(1);
+        given(itemRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(
+                Item.builder().id(1L).name("A").price(100).stock(0).build(),
+                Item.builder().id(2L).name("B").price(500).stock(10).build()
+        ));
+
+        List<ItemDto> updatedItems = itemService.updateItems(changes);
+
+        ArgumentCaptor<ItemsSavedEvent> event = ArgumentCaptor.forClass(ItemsSavedEvent.class);
+        then(eventPublisher).should().publishEvent(event.capture());
+        assertThat(event.getValue().items()).extracting(ItemDto::getStock).containsExactly(40, 10);
+        assertThat(updatedItems).extracting(ItemDto::getStock).containsExactly(40, 10);
+    }
+
+    /**
+     * 일괄 변경한 상품의 ETag 조회 테스트.
+     */
+    @Test
+    @DisplayName("일괄 변경한 상품마다 현재 ETag와 카탈로그의 상품을 함께 반환하고, 카탈로그에 없으면 변경한 내용을 그대로 반환")
+    void withETagsReturnsItemVersions() {
+        ItemDto first = ItemDto.of(1L, "A", 10, 100, null);
+        ItemDto second = ItemDto.of(2L, "B", 15, 500, null);
+        given(itemCatalogService.getCatalog()).willReturn(ItemCatalog.of(1L, List.of(ItemDto.of(1L, "A", 7, 100, null))));
+        given(hotItemStockRegistry.getStock(1L)).willReturn(OptionalInt.empty());
+        given(itemVersions.itemETag(1L)).willReturn("\"0-1-3\"");
+        given(itemVersions.itemETag(2L)).willReturn("\"0-2-1\"");
+
+        List<ItemVersionedDto> versionedItems = itemService.withETags(List.of(first, second));
+
+        assertThat(versionedItems).extracting(ItemVersionedDto::getEtag).containsExactly("\"0-1-3\"", "\"0-2-1\"");
+        assertThat(versionedItems).extracting(versionedItem -> versionedItem.getItem().getStock()).containsExactly(7, 15);
+    }
+
+    /**
+     * 재고 일괄 차감 시 재고 부족 예외 발생 테스트.
+     */
+    @Test
+    @DisplayName("차감 후 재고가 음수가 되는 상품이 있으면 아무것도 변경하지 않고 예외 발생")
+    void updateItemsInsufficientStock() {
+        List<ItemBatchUpdateDto.Change> changes = List.of(
+                new ItemBatchUpdateDto.Change(1L, -5, null),
+                new ItemBatchUpdateDto.Change(2L, 3, null)
+        );
+        given(itemRepository.findStocks(List.of(1L, 2L))).willReturn(Map.of(1L, 3, 2L, 0));
+
+        assertThrows(InsufficientStockException.class, () -> itemService.updateItems(changes));
+        then(itemRepository).should(never()).addStocks(anyCollection(), anyInt());
+    }
+
+    /**
+     * 여러 상품 재고 차감 시 재고 부족 예외 발생 테스트.
+     */
+    @Test
+    @DisplayName("재고가 부족한 상품이 있으면 차감한 상품의 재고를 되돌리고, 부족한 모든 상품을 담아 예외 발생")
+    void reduceStocksReportsAllShortages() {
+        given(hotItemStockRegistry.tryReduce(any(), anyInt())).willReturn(HotItemStockRegistry.Result.NOT_HOT);
+        given(itemRepository.decreaseStocks(Map.of(1L, 1, 2L, 5, 3L, 2))).willReturn(List.of(2L, 3L));
+        given(itemRepository.findStocks(List.of(2L, 3L))).willReturn(Map.of(2L, 4, 3L, 0));
+
+        InsufficientStockException e = assertThrows(InsufficientStockException.class,
+                () -> itemService.reduceStocks(Map.of(1L, 1, 2L, 5, 3L, 2)));
+
+        assertThat(e.getShortages()).isEqualTo(Map.of(2L, 4, 3L, 0));
+        then(itemRepository).should().increaseStocks(Map.of(1L, 1));
+    }
+
+    /**
+     * 여러 상품 재고 차감 시 재고 변경 이벤트 테스트.
+     */
+    @Test
+    @DisplayName("재고를 차감하면 재고를 다시 조회하지 않고 차감한 상품 ID를 담아 재고 변경 이벤트를 발행")
+    void tryReduceStocksPublishesChangedItemIds() {
+        given(hotItemStockRegistry.tryReduce(1L, 2)).willReturn(HotItemStockRegistry.Result.REDUCED);
+        given(hotItemStockRegistry.tryReduce(2L, 3)).willReturn(HotItemStockRegistry.Result.NOT_HOT);
+        given(itemRepository.decreaseStocks(Map.of(2L, 3))).willReturn(List.of());
+
+        Map<Long, Integer> shortages = itemService.tryReduceStocks(Map.of(1L, 2, 2L, 3));
+
+        assertThat(shortages).isEmpty();
+        then(eventPublisher).should().publishEvent(new ItemStockChangedEvent(Set.of(1L, 2L)));
+        then(itemRepository).should(never()).findStocks(anyCollection());
+    }
+
+    /**
+     * 그룹 커밋용 재고 차감 실패 시 되돌리기 테스트.
+     */
+    @Test
+    @DisplayName("일부 상품의 재고가 부족하면 분할 재고와 DB에서 차감한 수량을 모두 되돌리고 부족한 상품을 반환")
+    void tryReduceStocksRollsBackOnShortage() {
+        given(hotItemStockRegistry.tryReduce(1L, 2)).willReturn(HotItemStockRegistry.Result.REDUCED);
+        given(hotItemStockRegistry.tryReduce(2L, 3)).willReturn(HotItemStockRegistry.Result.NOT_HOT);
+        given(hotItemStockRegistry.tryReduce(3L, 4)).willReturn(HotItemStockRegistry.Result.NOT_HOT);
+        given(itemRepository.decreaseStocks(Map.of(2L, 3, 3L, 4))).willReturn(List.of(3L));
+        given(itemRepository.findStocks(List.of(3L))).willReturn(Map.of(3L, 1));
+
+        Map<Long, Integer> shortages = itemService.tryReduceStocks(Map.of(1L, 2, 2L, 3, 3L, 4));
+
+        assertThat(shortages).isEqualTo(Map.of(3L, 1));
+        then(hotItemStockRegistry).should().restore(1L, 2);
+        then(itemRepository).should().increaseStocks(Map.of(2L, 3));
+        then(eventPublisher).should(never()).publishEvent(any(Object.class));
+    }
+
+    /**
+     * 여러 ID 상품 조회 테스트.
+     */
+    @Test
+    @DisplayName("여러 ID의 상품을 한 번에 조회하고, 요청 순서대로 반환하며 없는 상품은 따로 표시")
+    void lookupItems() {
+        given(itemRepository.findAllById(new LinkedHashSet<>(List.of(3L, 1L, 2L)))).willReturn(List.of(
+                Item.builder().id(1L).name("A").price(100).stock(1).build(),
+                Item.builder().id(3L).name("C").price(300).stock(3).build()
+        ));
+
+        ItemLookupDto result = itemService.lookupItems(List.of(3L, 1L, 2L, 3L));
+
+        assertThat(result.getItems()).extracting(item -> item == null ? null : item.getId())
+                .containsExactly(3L, 1L, null, 3L);
+        assertThat(result.getMissingIds()).containsExactly(2L);
+        then(itemRepository).should().findAllById(any());
+    }
 }
\ No newline at end of file
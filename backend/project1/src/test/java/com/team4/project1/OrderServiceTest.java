@@ -1,5 +1,7 @@
 package com.team4.project1;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.team4.project1.domain.customer.entity.Customer;
 import com.team4.project1.domain.item.entity.Item;
 import com.team4.project1.domain.item.repository.ItemRepository;
@@ -22,9 +24,11 @@ import java.security.Principal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -106,11 +110,7 @@ class OrderServiceTest {
             return savedOrder;
         });
 
-        when(orderItemRepository.save(any(OrderItem.class))).thenAnswer(invocation -> {
-            OrderItem savedOrderItem = invocation.getArgument(0);
-            // ✅ ID 값을 직접 설정하지 않고, Mock 객체를 새로운 OrderItem으로 대체하여 ID를 할당하도록 변경
-            return new OrderItem(savedOrderItem.getOrder(), savedOrderItem.getItem(), savedOrderItem.getQuantity());
-        });
+        when(orderItemRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         when(orderItemRepository.findByOrderId(anyLong())).thenReturn(List.of(orderItem));  // Mock findByOrderId
 
@@ -132,7 +132,7 @@ class OrderServiceTest {
 
         // Verify
         verify(orderRepository, times(1)).save(any(Order.class));
-        verify(orderItemRepository, times(1)).save(any(OrderItem.class));
+        verify(orderItemRepository, times(1)).saveAll(anyList());
         verify(orderItemRepository, times(1)).findByOrderId(anyLong());
     }
 
@@ -177,4 +177,69 @@ class OrderServiceTest {
         verify(orderRepository, times(1)).findById(1L);
         verify(orderItemRepository, times(1)).findByOrderId(1L);
     }
+
+    /**
+     * 상품 정보를 포함해 주문을 조회하는 경우에 대한 테스트입니다.
+     * 각 주문 항목에 상품 이름, 단가, 항목 합계, 이미지 URI가 채워지는지 확인합니다.
+     */
+    @Test
+    @DisplayName("상품 정보를 포함해 조회하면 주문 항목에 상품 요약이 담긴다.")
+    void getOrderById_IncludeItems() {
+        // Given
+        UUID imageUuid = UUID.randomUUID();
+        givenOrderWithItem(imageUuid);
+
+        // When
+        OrderWithOrderItemsDto foundOrder = orderService.getOrderById(1L, () -> "testUser", true);
+
+        // Then
+        OrderItemDto foundItem = foundOrder.getOrderedItems().get(0);
+        assertThat(foundItem.getItemId()).isEqualTo(1L);
+        assertThat(foundItem.getQuantity()).isEqualTo(3);
+        assertThat(foundItem.getName()).isEqualTo("Summary Item");
+        assertThat(foundItem.getPrice()).isEqualTo(2500);
+        assertThat(foundItem.getLineTotal()).isEqualTo(7500L);
+        assertThat(foundItem.getImageUri()).isEqualTo(imageUuid + ".jpg");
+    }
+
+    /**
+     * 상품 정보 없이 주문을 조회하는 경우에 대한 테스트입니다.
+     * 상품 요약 필드가 비어 있고, JSON 응답에서도 생략되는지 확인합니다.
+     */
+    @Test
+    @DisplayName("상품 정보 없이 조회하면 상품 요약 필드가 응답에서 생략된다.")
+    void getOrderById_WithoutItems() {
+        // Given
+        givenOrderWithItem(UUID.randomUUID());
+
+        // When
+        OrderWithOrderItemsDto foundOrder = orderService.getOrderById(1L, () -> "testUser", false);
+
+        // Then
+        OrderItemDto foundItem = foundOrder.getOrderedItems().get(0);
+        assertThat(foundItem.getName()).isNull();
+        assertThat(foundItem.getPrice()).isNull();
+        assertThat(foundItem.getLineTotal()).isNull();
+        assertThat(foundItem.getImageUri()).isNull();
+
+        JsonNode json = new ObjectMapper().valueToTree(foundItem);
+        assertThat(json.has("itemId")).isTrue();
+        assertThat(json.has("quantity")).isTrue();
+        assertThat(json.has("name")).isFalse();
+        assertThat(json.has("price")).isFalse();
+        assertThat(json.has("lineTotal")).isFalse();
+        assertThat(json.has("imageUri")).isFalse();
+    }
+
+    private void givenOrderWithItem(UUID imageUuid) {
+        Item summaryItem = Item.builder()
+                .id(1L)
+                .name("Summary Item")
+                .price(2500)
+                .stock(10)
+                .imageUuid(imageUuid)
+                .build();
+        order.getOrderItems().add(new OrderItem(order, summaryItem, 3));
+        when(orderRepository.findWithCustomerAndItemsById(1L)).thenReturn(Optional.of(order));
+    }
 }
@@ -0,0 +1,107 @@
+package com.team4.project1.domain.item.repository;
+
+import com.team4.project1.domain.item.entity.Item;
+import com.team4.project1.global.exception.InsufficientStockException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@DisplayName("상품 리포지토리 재고 차감")
+class ItemRepositoryTest {
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Item persistItem(String name, int stock) {
+        Item item = Item.builder()
+                .name(name)
+                .price(1000)
+                .stock(stock)
+                .build();
+        em.persist(item);
+        em.flush();
+        return item;
+    }
+
+    @Test
+    @DisplayName("재고가 충분하면 조건부 UPDATE로 차감하고, 부족하면 변경하지 않는다.")
+    void testDecreaseStock() {
+        Item item = persistItem("커피", 5);
+
+        assertThat(itemRepository.decreaseStock(item.getId(), 3)).isEqualTo(1);
+        assertThat(itemRepository.decreaseStock(item.getId(), 3)).isZero();
+
+        assertThat(itemRepository.findStocks(List.of(item.getId()))).containsEntry(item.getId(), 2);
+    }
+
+    @Test
+    @DisplayName("배치 차감은 재고가 부족하거나 없는 상품을 모두 반환하고, 나머지 상품만 차감한다.")
+    void testDecreaseStocksReportsAllShortages() {
+        Item enough = persistItem("충분", 10);
+        Item short1 = persistItem("부족1", 1);
+        Item short2 = persistItem("부족2", 0);
+        long missingId = -1L;
+
+        Map<Long, Integer> quantities = new TreeMap<>(Map.of(
+                enough.getId(), 4,
+                short1.getId(), 2,
+                short2.getId(), 1,
+                missingId, 1));
+        List<Long> shortItemIds = itemRepository.decreaseStocks(quantities);
+
+        assertThat(shortItemIds).containsExactlyInAnyOrder(short1.getId(), short2.getId(), missingId);
+        assertThat(itemRepository.findStocks(List.of(enough.getId(), short1.getId(), short2.getId(), missingId)))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(
+                        enough.getId(), 6,
+                        short1.getId(), 1,
+                        short2.getId(), 0));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("재고가 부족한 상품이 있어 트랜잭션이 롤백되면, 같은 배치에서 차감한 상품의 재고도 되돌려진다.")
+    void testDecreaseStocksRollback() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Item> items = itemRepository.saveAll(List.of(
+                new Item("롤백1", 1000, 10),
+                new Item("롤백2", 1000, 1)));
+        List<Long> itemIds = items.stream().map(Item::getId).toList();
+        try {
+            assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+                List<Long> shortItemIds = itemRepository.decreaseStocks(new TreeMap<>(Map.of(
+                        itemIds.get(0), 5,
+                        itemIds.get(1), 2)));
+                if (!shortItemIds.isEmpty()) {
+                    throw new InsufficientStockException(itemRepository.findStocks(shortItemIds));
+                }
+            })).isInstanceOf(InsufficientStockException.class)
+                    .satisfies(e -> assertThat(((InsufficientStockException) e).getShortages())
+                            .containsExactlyEntriesOf(Map.of(itemIds.get(1), 1)));
+
+            assertThat(itemRepository.findStocks(itemIds))
+                    .containsExactlyInAnyOrderEntriesOf(Map.of(itemIds.get(0), 10, itemIds.get(1), 1));
+        } finally {
+            itemRepository.deleteAllById(itemIds);
+        }
+    }
+}
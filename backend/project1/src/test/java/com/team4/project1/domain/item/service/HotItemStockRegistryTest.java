@@ -0,0 +1,116 @@
+package com.team4.project1.domain.item.service;
+
+import com.team4.project1.domain.item.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("핫 아이템 분할 재고 등록")
+class HotItemStockRegistryTest {
+
+    private static final long ITEM_ID = 1L;
+
+    /** DB에 저장된 재고 */
+    private final AtomicInteger dbStock = new AtomicInteger();
+
+    private HotItemStockRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        ItemRepository itemRepository = mock(ItemRepository.class);
+        doAnswer(invocation -> {
+            dbStock.set(invocation.getArgument(1));
+            return 1;
+        }).when(itemRepository).updateStock(eq(ITEM_ID), anyInt());
+        doAnswer(invocation -> {
+            Map<Long, Integer> quantities = invocation.getArgument(0);
+            dbStock.addAndGet(quantities.get(ITEM_ID));
+            return null;
+        }).when(itemRepository).increaseStocks(anyMap());
+        registry = new HotItemStockRegistry(itemRepository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("등록 해제 후 되돌린 수량은 DB의 재고에 더한다.")
+    void testRestoreAfterUnregister() {
+        dbStock.set(10);
+        registry.register(ITEM_ID, 10, 4);
+
+        assertThat(registry.tryReduce(ITEM_ID, 3)).isEqualTo(HotItemStockRegistry.Result.REDUCED);
+        registry.unregister(ITEM_ID);
+        assertThat(dbStock.get()).isEqualTo(7);
+
+        registry.restore(ITEM_ID, 3);
+
+        assertThat(dbStock.get()).isEqualTo(10);
+        assertThat(registry.tryReduce(ITEM_ID, 1)).isEqualTo(HotItemStockRegistry.Result.NOT_HOT);
+    }
+
+    @Test
+    @DisplayName("차감과 되돌리기가 진행 중일 때 등록을 해제해도 재고가 유실되거나 두 번 차감되지 않는다.")
+    void testUnregisterWhileReducing() throws Exception {
+        int initialStock = 100_000;
+        dbStock.set(initialStock);
+        registry.register(ITEM_ID, initialStock, 8);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch started = new CountDownLatch(threads);
+        List<Future<Integer>> sold = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            sold.add(executor.submit(() -> {
+                started.countDown();
+                int count = 0;
+                for (int i = 0; i < 5_000; i++) {
+                    switch (registry.tryReduce(ITEM_ID, 1)) {
+                        case REDUCED -> {
+                            // 일부 주문은 롤백되어 차감한 수량을 되돌린다
+                            if ((i + seed) % 3 == 0) {
+                                registry.restore(ITEM_ID, 1);
+                            } else {
+                                count++;
+                            }
+                        }
+                        case NOT_HOT -> {
+                            // 등록이 해제되었으면 DB에서 차감한다
+                            dbStock.decrementAndGet();
+                            count++;
+                        }
+                        case INSUFFICIENT -> {
+                        }
+                    }
+                }
+                return count;
+            }));
+        }
+        started.await();
+        registry.unregister(ITEM_ID);
+
+        int totalSold = 0;
+        for (Future<Integer> result : sold) {
+            totalSold += result.get();
+        }
+        executor.shutdown();
+
+        assertThat(registry.isHot(ITEM_ID)).isFalse();
+        assertThat(dbStock.get()).isEqualTo(initialStock - totalSold);
+    }
+}
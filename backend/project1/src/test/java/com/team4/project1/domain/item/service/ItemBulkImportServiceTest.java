@@ -0,0 +1,110 @@
+package com.team4.project1.domain.item.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.project1.domain.item.dto.ItemBulkImportResultDto;
+import com.team4.project1.domain.item.entity.Item;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("상품 대량 등록 서비스")
+@ExtendWith(MockitoExtension.class)
+class ItemBulkImportServiceTest {
+
+    private static final String BAD_NAME = "중복 상품";
+
+    @Mock
+    private EntityManager em;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ItemCatalogService itemCatalogService;
+
+    private ItemBulkImportService itemBulkImportService;
+
+    /** 마지막 clear 이후 persist된 상품, flush할 때 중복 상품이 있으면 DB 오류를 낸다 */
+    private final List<Item> persisted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        itemBulkImportService = new ItemBulkImportService(em, transactionManager, new ObjectMapper(), itemCatalogService);
+        lenient().doAnswer(invocation -> persisted.add(invocation.getArgument(0))).when(em).persist(any(Item.class));
+        lenient().doAnswer(invocation -> {
+            persisted.clear();
+            return null;
+        }).when(em).clear();
+        lenient().doAnswer(invocation -> {
+            if (persisted.stream().anyMatch(item -> BAD_NAME.equals(item.getName()))) {
+                throw new PersistenceException("could not execute batch",
+                        new SQLIntegrityConstraintViolationException("Duplicate entry '" + BAD_NAME + "'"));
+            }
+            return null;
+        }).when(em).flush();
+    }
+
+    @Test
+    @DisplayName("묶음 저장에 실패하면 나누어 다시 저장해 문제가 있는 행만 실제 사유와 함께 실패로 기록한다.")
+    void testIsolatesFailedRows() {
+        StringBuilder csv = new StringBuilder("name,price,stock\n");
+        for (int i = 0; i < 120; i++) {
+            String name = i == 8 || i == 78 ? BAD_NAME : "상품" + i;
+            csv.append(name).append(",1000,10\n");
+        }
+
+        ItemBulkImportResultDto result = itemBulkImportService.importCsv(body(csv.toString()));
+
+        assertThat(result.getImportedRows()).isEqualTo(118);
+        assertThat(result.getFailedRows()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ItemBulkImportResultDto.RowError::getLine).containsExactly(10, 80);
+        assertThat(result.getErrors()).allSatisfy(error -> assertThat(error.getMessage()).contains("Duplicate entry"));
+        then(itemCatalogService).should().reload();
+    }
+
+    @Test
+    @DisplayName("트랜잭션을 시작하지 못하면 나누어 다시 시도하지 않고 묶음 전체를 실패로 기록한다.")
+    void testDoesNotRetryWhenTransactionCannotStart() {
+        given(transactionManager.getTransaction(any())).willThrow(new CannotCreateTransactionException("연결 실패"));
+
+        ItemBulkImportResultDto result = itemBulkImportService.importCsv(body("""
+                name,price,stock
+                커피,5000,10
+                머그컵,12000,3
+                """));
+
+        assertThat(result.getImportedRows()).isZero();
+        assertThat(result.getFailedRows()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ItemBulkImportResultDto.RowError::getMessage)
+                .allSatisfy(message -> assertThat(message).contains("연결 실패"));
+        then(transactionManager).should(times(1)).getTransaction(any());
+        then(itemCatalogService).should(never()).reload();
+    }
+
+    private static InputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
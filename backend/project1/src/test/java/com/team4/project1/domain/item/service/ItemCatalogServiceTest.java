@@ -0,0 +1,109 @@
+package com.team4.project1.domain.item.service;
+
+import com.team4.project1.domain.item.dto.ItemDto;
+import com.team4.project1.domain.item.dto.ItemFilter;
+import com.team4.project1.domain.item.entity.Item;
+import com.team4.project1.domain.item.entity.ItemSearchMode;
+import com.team4.project1.domain.item.entity.ItemSortType;
+import com.team4.project1.domain.item.event.ItemStockChangedEvent;
+import com.team4.project1.domain.item.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("상품 카탈로그 서비스")
+@ExtendWith(MockitoExtension.class)
+class ItemCatalogServiceTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private HotItemStockRegistry hotItemStockRegistry;
+
+    private ItemCatalogService itemCatalogService;
+
+    @BeforeEach
+    void setUp() {
+        given(itemRepository.findAll()).willReturn(List.of(
+                Item.builder().id(1L).name("Dark Roast").price(12000).stock(3).build(),
+                Item.builder().id(2L).name("Cold Brew 커피").price(4500).stock(5).build(),
+                Item.builder().id(3L).name("콜롬비아 커피").price(9000).stock(7).build()
+        ));
+        itemCatalogService = new ItemCatalogService(itemRepository, new ItemVersions(), hotItemStockRegistry);
+        itemCatalogService.reload();
+    }
+
+    @Test
+    @DisplayName("이름 검색은 대소문자를 구분하지 않는다.")
+    void testSearchIgnoresCase() {
+        Page<ItemDto> lower = itemCatalogService.search(ItemSortType.NAME, ItemSearchMode.NAME, "roast",
+                ItemFilter.NONE, PageRequest.of(0, 10));
+        Page<ItemDto> upper = itemCatalogService.search(ItemSortType.NAME, ItemSearchMode.NAME, "COLD BREW",
+                ItemFilter.NONE, PageRequest.of(0, 10));
+
+        assertThat(lower.getContent()).extracting(ItemDto::getId).containsExactly(1L);
+        assertThat(upper.getContent()).extracting(ItemDto::getId).containsExactly(2L);
+        assertThat(itemCatalogService.count(ItemSearchMode.NAME, "dark ROAST")).isEqualTo(1);
+        assertThat(itemCatalogService.scroll(ItemSortType.NAME, ItemSearchMode.NAME, "brew 커피", null, 10))
+                .extracting(ItemDto::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("초성 검색은 검색어의 초성이 떨어져 있어도 순서대로 나타나는 상품을 찾는다.")
+    void testChoseongSearchMatchesSubsequence() {
+        Page<ItemDto> page = itemCatalogService.search(ItemSortType.NAME, ItemSearchMode.CHOSUNG, "ㅋㅋㅍ",
+                ItemFilter.NONE, PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(ItemDto::getId).containsExactly(3L);
+        assertThat(itemCatalogService.count(ItemSearchMode.CHOSUNG, "ㅋㅍ")).isEqualTo(2);
+        assertThat(itemCatalogService.count(ItemSearchMode.CHOSUNG, "ㅍㅋ")).isZero();
+    }
+
+    @Test
+    @DisplayName("재고 변경 이벤트는 상품만 표시하고, 표시된 상품의 재고를 한 번에 읽어 스냅샷에 반영한다.")
+    void testRefreshStocksCoalescesEvents() {
+        given(itemRepository.findStocks(anyCollection())).willReturn(Map.of(1L, 0, 2L, 4));
+        given(hotItemStockRegistry.getStock(1L)).willReturn(OptionalInt.empty());
+        given(hotItemStockRegistry.getStock(2L)).willReturn(OptionalInt.empty());
+        given(hotItemStockRegistry.getStock(3L)).willReturn(OptionalInt.of(6));
+
+        itemCatalogService.onItemStockChanged(new ItemStockChangedEvent(Set.of(1L)));
+        itemCatalogService.onItemStockChanged(new ItemStockChangedEvent(Set.of(1L, 2L)));
+        itemCatalogService.onItemStockChanged(new ItemStockChangedEvent(Set.of(3L)));
+        assertThat(itemCatalogService.getCatalog().get(1L).orElseThrow().getStock()).isEqualTo(3);
+
+        itemCatalogService.refreshStocks();
+        itemCatalogService.refreshStocks();
+
+        then(itemRepository).should(times(1)).findStocks(anyCollection());
+        assertThat(itemCatalogService.getCatalog().get(1L).orElseThrow().getStock()).isZero();
+        assertThat(itemCatalogService.getCatalog().get(2L).orElseThrow().getStock()).isEqualTo(4);
+        assertThat(itemCatalogService.getCatalog().get(3L).orElseThrow().getStock()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("재고 변경 이벤트가 없으면 재고를 다시 읽지 않는다.")
+    void testRefreshStocksWithoutEvents() {
+        itemCatalogService.refreshStocks();
+
+        then(itemRepository).should(never()).findStocks(anyCollection());
+    }
+}
@@ -0,0 +1,133 @@
+package com.team4.project1.domain.item.service;
+
+import com.team4.project1.domain.item.dto.ItemDto;
+import com.team4.project1.domain.item.dto.ItemFilter;
+import com.team4.project1.domain.item.entity.ItemSortType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("상품 카탈로그 스냅샷")
+class ItemCatalogTest {
+
+    private final ItemCatalog catalog = ItemCatalog.of(1, List.of(
+            ItemDto.of(1L, "믹스커피", 1000, 8),
+            ItemDto.of(2L, "공유커피", 2500, 9),
+            ItemDto.of(3L, "스타벅스커피", 48000, 7),
+            ItemDto.of(4L, "녹차", 1000, 5)
+    ));
+
+    @Test
+    @DisplayName("가격 순으로 정렬하고, 가격이 같으면 ID 순으로 정렬한다.")
+    void testSearchSortedByPrice() {
+        Page<ItemDto> page = catalog.search(ItemSortType.PRICE, "", PageRequest.of(0, 3));
+
+        assertThat(page.getContent()).extracting(ItemDto::getId).containsExactly(1L, 4L, 2L);
+        assertThat(page.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("이름에 키워드가 포함된 상품만 이름 순으로 반환한다.")
+    void testSearchByKeyword() {
+        Page<ItemDto> page = catalog.search(ItemSortType.NAME, "커피", PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(ItemDto::getName)
+                .containsExactly("공유커피", "믹스커피", "스타벅스커피");
+    }
+
+    @Test
+    @DisplayName("가격 범위와 재고 조건으로 거르고 주어진 기준으로 정렬한다.")
+    void testFilterByPriceAndStock() {
+        Page<ItemDto> byPrice = catalog.filter(ItemSortType.PRICE, new ItemFilter(1000, 2500, false), PageRequest.of(0, 10));
+        Page<ItemDto> byName = catalog.filter(ItemSortType.NAME, new ItemFilter(2000, null, false), PageRequest.of(0, 10));
+        Page<ItemDto> inStock = catalog.withStocks(Map.of(4L, 0))
+                .filter(ItemSortType.PRICE, new ItemFilter(null, 2500, true), PageRequest.of(0, 10));
+
+        assertThat(byPrice.getContent()).extracting(ItemDto::getId).containsExactly(1L, 4L, 2L);
+        assertThat(byName.getContent()).extracting(ItemDto::getName).containsExactly("공유커피", "스타벅스커피");
+        assertThat(inStock.getContent()).extracting(ItemDto::getId).containsExactly(1L, 2L);
+        assertThat(inStock.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("인기 순은 판매량이 많은 순으로, 판매량이 같으면 이름 순으로 정렬하고 재고가 바뀌어도 순서를 유지한다.")
+    void testSortedByPopularity() {
+        ItemCatalog ranked = catalog.withSales(Map.of(3L, 5L, 4L, 12L));
+        Page<ItemDto> page = ranked.search(ItemSortType.POPULARITY, "", PageRequest.of(0, 10));
+        Page<ItemDto> inStock = ranked.withStocks(Map.of(3L, 0))
+                .filter(ItemSortType.POPULARITY, new ItemFilter(null, null, true), PageRequest.of(0, 10));
+        List<ItemDto> afterFirst = ranked.scroll(ItemSortType.POPULARITY, ItemDto.of(4L, "녹차", null, null), 2);
+
+        assertThat(page.getContent()).extracting(ItemDto::getId).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(inStock.getContent()).extracting(ItemDto::getId).containsExactly(4L, 2L, 1L);
+        assertThat(afterFirst).extracting(ItemDto::getId).containsExactly(3L, 2L);
+        assertThat(ranked.withSales(Map.of(3L, 5L, 4L, 12L))).isSameAs(ranked);
+    }
+
+    @Test
+    @DisplayName("커서로 이어서 조회하면 이전 페이지의 마지막 상품 다음부터 반환한다.")
+    void testScrollWithCursor() {
+        List<ItemDto> first = catalog.scroll(ItemSortType.PRICE, null, 2);
+        String cursor = ItemCursor.encode(ItemSortType.PRICE, first.get(1));
+
+        List<ItemDto> second = catalog.scroll(ItemSortType.PRICE, ItemCursor.decode(ItemSortType.PRICE, cursor), 2);
+        // 커서가 가리키는 상품이 삭제되어도 정렬 순서상 다음 상품부터 이어진다
+        List<ItemDto> afterDelete = catalog.withoutItem(4L)
+                .scroll(ItemSortType.PRICE, ItemCursor.decode(ItemSortType.PRICE, cursor), 2);
+
+        assertThat(first).extracting(ItemDto::getId).containsExactly(1L, 4L);
+        assertThat(second).extracting(ItemDto::getId).containsExactly(2L, 3L);
+        assertThat(afterDelete).extracting(ItemDto::getId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("정렬 기준이 다른 커서는 거부한다.")
+    void testCursorWithDifferentSortType() {
+        String cursor = ItemCursor.encode(ItemSortType.NAME, catalog.get(1L).orElseThrow());
+
+        assertThatThrownBy(() -> ItemCursor.decode(ItemSortType.PRICE, cursor))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("변경 후 재고를 적용하므로 이미 반영된 재고 변경을 다시 적용해도 재고가 바뀌지 않는다.")
+    void testApplyStocksTwice() {
+        ItemCatalog updated = catalog.withStocks(Map.of(1L, 5));
+
+        assertThat(updated.withStocks(Map.of(1L, 5))).isSameAs(updated);
+        assertThat(updated.get(1L)).hasValueSatisfying(item -> assertThat(item.getStock()).isEqualTo(5));
+    }
+
+    @Test
+    @DisplayName("변경 시 기존 스냅샷은 그대로 두고 새 버전의 스냅샷을 만든다.")
+    void testCopyOnWrite() {
+        ItemCatalog updated = catalog.withStocks(Map.of(1L, 5)).withoutItem(2L);
+
+        assertThat(updated.getVersion()).isEqualTo(3);
+        assertThat(updated.get(1L)).hasValueSatisfying(item -> assertThat(item.getStock()).isEqualTo(5));
+        assertThat(updated.get(2L)).isEmpty();
+        assertThat(catalog.get(1L)).hasValueSatisfying(item -> assertThat(item.getStock()).isEqualTo(8));
+        assertThat(catalog.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("다시 읽은 스냅샷과 비교하면 추가, 삭제, 변경된 상품의 ID만 반환한다.")
+    void testChangedIds() {
+        ItemCatalog reloaded = ItemCatalog.of(2, List.of(
+                ItemDto.of(1L, "믹스커피", 1000, 8),
+                ItemDto.of(2L, "공유커피", 2600, 9),
+                ItemDto.of(3L, "스타벅스커피", 48000, 7),
+                ItemDto.of(5L, "홍차", 1500, 3)
+        ));
+
+        assertThat(reloaded.changedIds(catalog)).containsExactlyInAnyOrder(2L, 4L, 5L);
+        assertThat(catalog.changedIds(catalog)).isEmpty();
+    }
+}
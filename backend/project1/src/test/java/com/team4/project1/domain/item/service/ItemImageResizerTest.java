@@ -0,0 +1,68 @@
+package com.team4.project1.domain.item.service;
+
+import com.team4.project1.domain.item.entity.ItemImageSize;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("상품 이미지 크기 변형")
+class ItemImageResizerTest {
+
+    @TempDir
+    Path imageDir;
+
+    private ItemImageResizer resizer;
+
+    @AfterEach
+    void tearDown() {
+        if (resizer != null) {
+            resizer.stop();
+        }
+    }
+
+    private UUID saveJpeg(int width, int height) throws IOException {
+        UUID imageUuid = UUID.randomUUID();
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ImageIO.write(image, "jpeg", imageDir.resolve(ItemImageSize.ORIGINAL.fileNameOf(imageUuid)).toFile());
+        return imageUuid;
+    }
+
+    @Test
+    @DisplayName("비율을 유지해 크기별 최대 가로로 줄인 변형을 만들고, 원본보다 크지 않은 변형은 원본을 복사한다.")
+    void testCreateVariants() throws IOException {
+        resizer = new ItemImageResizer(imageDir.toString(), 1, 1);
+        UUID imageUuid = saveJpeg(800, 400);
+
+        resizer.createVariants(imageUuid);
+
+        BufferedImage thumb = ImageIO.read(resizer.resolve(imageUuid, ItemImageSize.THUMB).toFile());
+        BufferedImage list = ImageIO.read(resizer.resolve(imageUuid, ItemImageSize.LIST).toFile());
+        assertThat(thumb.getWidth()).isEqualTo(160);
+        assertThat(thumb.getHeight()).isEqualTo(80);
+        assertThat(list.getWidth()).isEqualTo(320);
+        assertThat(Files.mismatch(resizer.resolve(imageUuid, ItemImageSize.DETAIL),
+                resizer.resolve(imageUuid, ItemImageSize.ORIGINAL))).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("변형이 아직 없으면 원본 경로를 반환하고, 원본도 없으면 null을 반환한다.")
+    void testResolveFallsBackToOriginal() throws IOException {
+        resizer = new ItemImageResizer(imageDir.toString(), 1, 1);
+        UUID imageUuid = saveJpeg(400, 400);
+        resizer.stop();
+
+        assertThat(resizer.resolve(imageUuid, ItemImageSize.THUMB).getFileName().toString())
+                .isEqualTo(imageUuid + ".jpg");
+        assertThat(resizer.resolve(UUID.randomUUID(), ItemImageSize.THUMB)).isNull();
+    }
+}
@@ -0,0 +1,145 @@
+package com.team4.project1.domain.item.service;
+
+import com.team4.project1.domain.item.entity.ItemImageSize;
+import com.team4.project1.domain.item.repository.ImageBlobRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("상품 이미지 내용 주소 저장")
+class ItemImageStoreTest {
+
+    @TempDir
+    Path imageDir;
+
+    private final ImageBlobRepository imageBlobRepository = mock(ImageBlobRepository.class);
+    private final ItemImageResizer itemImageResizer = mock(ItemImageResizer.class);
+
+    private ItemImageStore newStore() {
+        return new ItemImageStore(imageDir.toString(), 60, imageBlobRepository, itemImageResizer,
+                mock(PlatformTransactionManager.class));
+    }
+
+    private static ItemImageStore.StoredImage store(ItemImageStore store, String content) throws IOException {
+        return store.store(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("복사하면서 계산한 SHA-256 해시와 크기를 반환하고, 해시로 만든 이름으로 저장한다")
+    void testStore() throws Exception {
+        ItemImageStore store = newStore();
+
+        ItemImageStore.StoredImage stored = store(store, "product photo");
+
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest("product photo".getBytes(StandardCharsets.UTF_8));
+        assertThat(stored.sha256()).isEqualTo(HexFormat.of().formatHex(hash));
+        assertThat(stored.size()).isEqualTo(13);
+        assertThat(stored.created()).isTrue();
+        assertThat(stored.imageUuid()).isEqualTo(ItemImageStore.uuidOf(hash));
+        assertThat(stored.imageUuid().version()).isEqualTo(8);
+        assertThat(imageDir.resolve(ItemImageSize.ORIGINAL.fileNameOf(stored.imageUuid())))
+                .hasContent("product photo");
+    }
+
+    @Test
+    @DisplayName("같은 내용을 다시 저장하면 파일을 새로 만들지 않고, 임시 파일도 남기지 않는다")
+    void testStoreDeduplicates() throws Exception {
+        ItemImageStore store = newStore();
+
+        ItemImageStore.StoredImage first = store(store, "product photo");
+        ItemImageStore.StoredImage second = store(store, "product photo");
+        ItemImageStore.StoredImage other = store(store, "another photo");
+
+        assertThat(second.imageUuid()).isEqualTo(first.imageUuid());
+        assertThat(second.created()).isFalse();
+        assertThat(other.imageUuid()).isNotEqualTo(first.imageUuid());
+        try (Stream<Path> files = Files.list(imageDir)) {
+            assertThat(files.map(file -> file.getFileName().toString()))
+                    .containsExactlyInAnyOrder(
+                            ItemImageSize.ORIGINAL.fileNameOf(first.imageUuid()),
+                            ItemImageSize.ORIGINAL.fileNameOf(other.imageUuid()));
+        }
+    }
+
+    @Test
+    @DisplayName("같은 이미지를 동시에 처음 등록해 다른 요청이 먼저 등록했으면, 그 등록의 참조 수를 늘린다")
+    void testAcquireAfterConcurrentInsert() throws Exception {
+        ItemImageStore store = newStore();
+        ItemImageStore.StoredImage stored = store(store, "product photo");
+        given(imageBlobRepository.increaseRefCount(stored.imageUuid())).willReturn(0, 1);
+        given(imageBlobRepository.insertUnreferenced(eq(stored.imageUuid()), anyString(), anyLong(), any()))
+                .willThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertThat(store.acquire(stored)).isTrue();
+        then(imageBlobRepository).should(times(2)).increaseRefCount(stored.imageUuid());
+    }
+
+    @Test
+    @DisplayName("등록하는 사이 정리 작업이 원본을 지웠으면 다시 저장해야 한다고 알린다")
+    void testAcquireAfterSweep() throws Exception {
+        ItemImageStore store = newStore();
+        ItemImageStore.StoredImage stored = store(store, "product photo");
+        given(imageBlobRepository.increaseRefCount(stored.imageUuid())).willReturn(1);
+        Files.delete(imageDir.resolve(ItemImageSize.ORIGINAL.fileNameOf(stored.imageUuid())));
+
+        assertThat(store.acquire(stored)).isFalse();
+    }
+
+    @Test
+    @DisplayName("마지막 참조를 해제해도 파일은 바로 지우지 않는다")
+    void testReleaseKeepsFile() throws Exception {
+        ItemImageStore store = newStore();
+        ItemImageStore.StoredImage stored = store(store, "product photo");
+        given(imageBlobRepository.decreaseRefCount(eq(stored.imageUuid()), any())).willReturn(1);
+
+        store.release(stored.imageUuid());
+
+        assertThat(imageDir.resolve(ItemImageSize.ORIGINAL.fileNameOf(stored.imageUuid()))).exists();
+        then(itemImageResizer).should(never()).deleteVariants(any());
+    }
+
+    @Test
+    @DisplayName("정리 작업은 삭제한 등록의 파일만 지우고, 그 사이 다시 참조된 이미지는 남긴다")
+    void testSweep() throws Exception {
+        ItemImageStore store = newStore();
+        UUID unreferenced = store(store, "product photo").imageUuid();
+        UUID reacquired = store(store, "another photo").imageUuid();
+        given(imageBlobRepository.findUnreferencedIds(any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(unreferenced, reacquired));
+        given(imageBlobRepository.deleteUnreferenced(eq(unreferenced), any())).willReturn(1);
+        given(imageBlobRepository.deleteUnreferenced(eq(reacquired), any())).willReturn(0);
+
+        store.sweep();
+
+        assertThat(imageDir.resolve(ItemImageSize.ORIGINAL.fileNameOf(unreferenced))).doesNotExist();
+        assertThat(imageDir.resolve(ItemImageSize.ORIGINAL.fileNameOf(reacquired))).exists();
+        then(itemImageResizer).should().deleteVariants(unreferenced);
+        then(itemImageResizer).should(never()).deleteVariants(reacquired);
+    }
+}
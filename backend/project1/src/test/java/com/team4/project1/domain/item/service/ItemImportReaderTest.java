@@ -0,0 +1,88 @@
+package com.team4.project1.domain.item.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("상품 대량 등록 본문 읽기")
+class ItemImportReaderTest {
+
+    private static List<ItemImportReader.Row> readAll(String body, ItemImportReader.Format format) throws IOException {
+        ItemImportReader reader = new ItemImportReader(
+                new BufferedReader(new StringReader(body)), format, new ObjectMapper());
+        List<ItemImportReader.Row> rows = new ArrayList<>();
+        ItemImportReader.Row row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("CSV는 헤더의 열 순서대로 값을 읽고, 따옴표 안의 쉼표는 값으로 취급한다.")
+    void testReadCsv() throws IOException {
+        List<ItemImportReader.Row> rows = readAll("""
+                stock,name,price
+                10,"커피, 원두",5000
+
+                3,"머그 ""컵""",12000
+                """, ItemImportReader.Format.CSV);
+
+        assertThat(rows).hasSize(2).allMatch(ItemImportReader.Row::isValid);
+        assertThat(rows.get(0).name()).isEqualTo("커피, 원두");
+        assertThat(rows.get(0).price()).isEqualTo(5000);
+        assertThat(rows.get(0).stock()).isEqualTo(10);
+        assertThat(rows.get(1).name()).isEqualTo("머그 \"컵\"");
+        assertThat(rows.get(1).line()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("CSV의 잘못된 행은 줄 번호와 사유를 담아 반환하고 다음 행을 계속 읽는다.")
+    void testReadInvalidCsvRows() throws IOException {
+        List<ItemImportReader.Row> rows = readAll("""
+                name,price,stock
+                커피,천원,10
+                ,1000,10
+                커피,1000
+                커피,-1,10
+                커피,1000,10
+                """, ItemImportReader.Format.CSV);
+
+        assertThat(rows).extracting(ItemImportReader.Row::isValid)
+                .containsExactly(false, false, false, false, true);
+        assertThat(rows).extracting(ItemImportReader.Row::line)
+                .containsExactly(2, 3, 4, 5, 6);
+    }
+
+    @Test
+    @DisplayName("CSV 헤더에 필요한 열이 없으면 예외가 발생한다.")
+    void testCsvHeaderWithoutColumn() {
+        assertThatThrownBy(() -> readAll("name,price\n커피,1000\n", ItemImportReader.Format.CSV))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("NDJSON은 한 줄에 객체 하나를 읽고, 형식이 잘못된 줄은 오류 행으로 반환한다.")
+    void testReadNdjson() throws IOException {
+        List<ItemImportReader.Row> rows = readAll("""
+                {"name": "커피", "price": 5000, "stock": 10}
+                {"name": "머그컵", "price": 1.5, "stock": 3}
+                {"name": "텀블러", "price": 12000
+                {"name": "원두", "price": 8000, "stock": 0}
+                """, ItemImportReader.Format.NDJSON);
+
+        assertThat(rows).extracting(ItemImportReader.Row::isValid)
+                .containsExactly(true, false, false, true);
+        assertThat(rows.get(3).name()).isEqualTo("원두");
+        assertThat(rows.get(3).stock()).isZero();
+    }
+}
@@ -0,0 +1,36 @@
+package com.team4.project1.domain.item.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("상품 ETag 버전")
+class ItemVersionsTest {
+
+    @Test
+    @DisplayName("상품이 변경되면 목록 ETag와 변경된 상품의 ETag만 바뀐다.")
+    void testBump() {
+        ItemVersions versions = new ItemVersions();
+        String catalogETag = versions.catalogETag();
+        String changedETag = versions.itemETag(1L);
+        String unchangedETag = versions.itemETag(2L);
+
+        versions.bump(List.of(1L));
+
+        assertThat(versions.catalogETag()).isNotEqualTo(catalogETag);
+        assertThat(versions.itemETag(1L)).isNotEqualTo(changedETag);
+        assertThat(versions.itemETag(2L)).isEqualTo(unchangedETag);
+    }
+
+    @Test
+    @DisplayName("ETag는 따옴표로 감싼 강한 ETag이다.")
+    void testStrongETag() {
+        ItemVersions versions = new ItemVersions();
+
+        assertThat(versions.catalogETag()).startsWith("\"").endsWith("\"");
+        assertThat(versions.itemETag(1L)).startsWith("\"").endsWith("\"").doesNotStartWith("W/");
+    }
+}
@@ -0,0 +1,71 @@
+package com.team4.project1.domain.item.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 수가 늘어날 때 편집 거리 트라이의 오타 검색 비용이 상품 수보다 느리게 늘어나는지 확인합니다.
+ * 무작위 한글 상품 이름으로 크기가 다른 트라이를 만들고, 실제 검색과 같이 {@link LevenshteinTrie#maxDistanceFor(String)}로 허용 거리를 정해 검색합니다.
+ * 큰 트라이를 두 번 만들어 시간이 걸리므로 {@code BENCHMARK} 환경 변수가 {@code true}일 때만 실행합니다.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@DisplayName("편집 거리 트라이 오타 검색 벤치마크")
+class LevenshteinTrieBenchmarkTest {
+
+    private static final int SMALL_CATALOG = 10_000;
+    private static final int LARGE_CATALOG = 160_000;
+    private static final int QUERIES = 200;
+    // 상품 수가 16배가 될 때 탐색하는 글자 수는 16^0.75 = 8배 이하로 늘어야 한다
+    private static final double MAX_GROWTH_EXPONENT = 0.75;
+
+    @Test
+    @DisplayName("상품 수가 16배로 늘어도 탐색하는 글자 수는 8배 이하로 늘어난다.")
+    void testVisitedNodesAreSublinear() {
+        long smallVisited = visited(SMALL_CATALOG);
+        long largeVisited = visited(LARGE_CATALOG);
+
+        double maxGrowth = Math.pow((double) LARGE_CATALOG / SMALL_CATALOG, MAX_GROWTH_EXPONENT);
+        assertThat((double) largeVisited / smallVisited).isLessThanOrEqualTo(maxGrowth);
+    }
+
+    private static long visited(int size) {
+        Random random = new Random(42);
+        LevenshteinTrie trie = new LevenshteinTrie();
+        for (long id = 1; id <= size; id++) {
+            trie.put(id, randomName(random));
+        }
+
+        long visited = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            String query = randomWord(random);
+            visited += trie.countVisited(query, LevenshteinTrie.maxDistanceFor(query));
+        }
+        return visited;
+    }
+
+    private static String randomName(Random random) {
+        int words = 1 + random.nextInt(3);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(randomWord(random));
+        }
+        return sb.toString();
+    }
+
+    private static String randomWord(Random random) {
+        int syllables = 2 + random.nextInt(4);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < syllables; i++) {
+            sb.append((char) (0xAC00 + random.nextInt(11172)));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,55 @@
+package com.team4.project1.domain.item.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("편집 거리 트라이")
+class LevenshteinTrieTest {
+
+    private LevenshteinTrie tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new LevenshteinTrie();
+        tree.put(1L, "아이스 아메리카노");
+        tree.put(2L, "카페 라떼");
+        tree.put(3L, "콜드브루");
+    }
+
+    @Test
+    @DisplayName("음절 하나의 오타는 자모 편집 거리 1로 찾는다.")
+    void testSearchWithTypo() {
+        assertThat(tree.search("아메리카누", 1)).containsExactly(entry(1L, 1));
+        assertThat(tree.search("카폐 라떼", 1)).containsExactly(entry(2L, 1));
+        assertThat(tree.search("콜드브루", 0)).containsExactly(entry(3L, 0));
+        assertThat(tree.search("녹차", 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제되거나 이름이 바뀐 문서는 예전 단어로 찾을 수 없다.")
+    void testRemoveAndReplace() {
+        tree.remove(1L);
+        tree.put(3L, "바닐라 라떼");
+
+        assertThat(tree.search("아메리카노", 1)).isEmpty();
+        assertThat(tree.search("콜드브루", 1)).isEmpty();
+        assertThat(tree.search("라떼", 0)).containsOnlyKeys(2L, 3L);
+        assertThat(tree.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("앞부분이 같은 단어는 간선을 나누어 저장해도 각각 찾는다.")
+    void testSharedPrefixes() {
+        tree.put(4L, "카페");
+        tree.put(5L, "카페인");
+
+        assertThat(tree.search("카페", 0)).containsOnlyKeys(2L, 4L);
+        assertThat(tree.search("카페인", 0)).containsExactly(entry(5L, 0));
+        assertThat(tree.search("카페이", 1)).containsOnlyKeys(5L);
+        assertThat(tree.search("카", 0)).isEmpty();
+    }
+}
@@ -0,0 +1,52 @@
+package com.team4.project1.domain.item.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("n-gram 역색인")
+class NgramIndexTest {
+
+    private NgramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NgramIndex();
+        index.put(1L, "콜롬비아 커피");
+        index.put(2L, "에티오피아 커피");
+        index.put(3L, "커피 필터");
+        index.put(4L, "Dark Roast");
+    }
+
+    @Test
+    @DisplayName("한글 검색어의 모든 2-gram을 포함하는 상품을 후보로 찾는다.")
+    void testCandidatesForHangulKeyword() {
+        assertThat(index.candidates("커피")).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(index.candidates("피아 커")).containsExactly(2L);
+        assertThat(index.candidates("아")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.candidates("roast")).containsExactly(4L);
+        assertThat(index.candidates("녹차")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품 이름이 바뀌면 이전 이름으로는 더 이상 찾을 수 없다.")
+    void testPutReplacesPreviousText() {
+        index.put(3L, "드리퍼");
+
+        assertThat(index.candidates("필터")).isEmpty();
+        assertThat(index.candidates("드리")).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("삭제된 상품은 후보에 포함되지 않는다.")
+    void testRemove() {
+        index.remove(1L);
+
+        assertThat(index.candidates("커피")).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(index.candidates("콜롬")).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,64 @@
+package com.team4.project1.domain.item.service;
+
+import com.team4.project1.domain.item.dto.ItemSuggestionDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("접두사 트라이")
+class PrefixTrieTest {
+
+    private PrefixTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new PrefixTrie(2);
+        trie.put(1L, "커피 원두");
+        trie.put(2L, "커피 필터");
+        trie.put(3L, "콜롬비아 커피");
+        trie.put(4L, "커피잔");
+    }
+
+    @Test
+    @DisplayName("접두사로 시작하는 상품을 이름 순으로 상위 K개까지 반환한다.")
+    void testSuggestTopK() {
+        assertThat(ids(trie.suggest("커피", 10))).containsExactly(1L, 2L);
+        assertThat(ids(trie.suggest("커피", 1))).containsExactly(1L);
+        assertThat(ids(trie.suggest("콜", 10))).containsExactly(3L);
+        assertThat(trie.suggest("녹차", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름 속 단어로 시작하는 접두사로도 찾을 수 있다.")
+    void testSuggestByWord() {
+        assertThat(ids(trie.suggest("커피 필", 10))).containsExactly(2L);
+        assertThat(ids(trie.suggest("필터", 10))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("상위 K개에 있던 상품이 삭제되면 다음 상품으로 채운다.")
+    void testRemoveRefillsTopK() {
+        trie.remove(1L);
+
+        assertThat(ids(trie.suggest("커피", 10))).containsExactly(2L, 4L);
+        assertThat(trie.suggest("원두", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("상품 이름이 바뀌면 새 이름으로만 찾을 수 있다.")
+    void testPutReplacesPreviousName() {
+        trie.put(2L, "드립 포트");
+
+        assertThat(ids(trie.suggest("커피", 10))).containsExactly(1L, 4L);
+        assertThat(ids(trie.suggest("드립", 10))).containsExactly(2L);
+    }
+
+    private List<Long> ids(List<ItemSuggestionDto> suggestions) {
+        return suggestions.stream().map(ItemSuggestionDto::getId).toList();
+    }
+}
@@ -0,0 +1,50 @@
+package com.team4.project1.domain.item.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("상품 판매량 집계 기간")
+class SalesWindowTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    @Test
+    @DisplayName("기간 안의 판매 수량을 상품별로 합산하고, 기간이 지난 날의 수량은 합계에서 뺀다.")
+    void testAdvanceEvictsExpiredDays() {
+        SalesWindow window = new SalesWindow(3);
+        window.load(TODAY.minusDays(2), 1L, 5);
+        window.record(TODAY.minusDays(1), Map.of(1L, 2, 2L, 4));
+        window.record(TODAY, Map.of(2L, 1));
+
+        assertThat(window.advance(TODAY)).isFalse();
+        assertThat(window.totals()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 7L, 2L, 5L));
+
+        assertThat(window.advance(TODAY.plusDays(1))).isTrue();
+        assertThat(window.totals()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, 5L));
+
+        window.advance(TODAY.plusDays(3));
+        assertThat(window.totals()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("DB에 기록할 수량은 새로 기록된 판매만 담고, 꺼낸 뒤 실패하면 다시 담을 수 있다.")
+    void testDrainAndRestorePending() {
+        SalesWindow window = new SalesWindow(7);
+        window.load(TODAY, 1L, 10);
+        window.record(TODAY, Map.of(1L, 2));
+
+        Map<LocalDate, Map<Long, Long>> drained = window.drainPending();
+        assertThat(drained).containsExactly(Map.entry(TODAY, Map.of(1L, 2L)));
+        assertThat(window.drainPending()).isEmpty();
+
+        window.record(TODAY, Map.of(1L, 3));
+        window.restorePending(drained);
+        assertThat(window.drainPending()).containsExactly(Map.entry(TODAY, Map.of(1L, 5L)));
+        assertThat(window.totals()).containsExactly(Map.entry(1L, 15L));
+    }
+}
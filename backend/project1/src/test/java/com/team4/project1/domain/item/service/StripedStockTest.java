@@ -0,0 +1,70 @@
+package com.team4.project1.domain.item.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("분할 재고")
+class StripedStockTest {
+
+    @Test
+    @DisplayName("재고를 버킷 수만큼 나누어도 합계는 원래 재고와 같다.")
+    void testSumEqualsInitialStock() {
+        StripedStock stock = new StripedStock(10, 4);
+
+        assertThat(stock.sum()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("한 버킷의 재고가 부족하면 다른 버킷에서 이어서 차감한다.")
+    void testTakeAcrossBuckets() {
+        StripedStock stock = new StripedStock(8, 4);
+
+        assertThat(stock.tryTake(7)).isTrue();
+        assertThat(stock.sum()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 재고가 부족하면 차감하지 않고 재고를 되돌린다.")
+    void testTakeMoreThanStock() {
+        StripedStock stock = new StripedStock(5, 4);
+
+        assertThat(stock.tryTake(6)).isFalse();
+        assertThat(stock.sum()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("동시에 차감해도 재고보다 많이 팔리지 않는다.")
+    void testConcurrentTake() throws Exception {
+        StripedStock stock = new StripedStock(1000, 8);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        for (int t = 0; t < 8; t++) {
+            results.add(executor.submit(() -> {
+                int sold = 0;
+                for (int i = 0; i < 500; i++) {
+                    if (stock.tryTake(1)) {
+                        sold++;
+                    }
+                }
+                return sold;
+            }));
+        }
+        int totalSold = 0;
+        for (Future<Integer> result : results) {
+            totalSold += result.get();
+        }
+        executor.shutdown();
+
+        assertThat(totalSold).isEqualTo(1000);
+        assertThat(stock.sum()).isZero();
+    }
+}
@@ -0,0 +1,75 @@
+package com.team4.project1.domain.order.entity;
+
+import com.team4.project1.domain.customer.entity.Customer;
+import com.team4.project1.domain.item.entity.Item;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("주문 항목 ID 생성")
+class OrderItemIdGenerationTest {
+
+    private static final int ROWS = 500;
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private Order order;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        Customer customer = Customer.builder()
+                .username("idGenerationUser")
+                .password("password123")
+                .name("Id Generation")
+                .email("id@example.com")
+                .build();
+        em.persist(customer);
+
+        order = new Order(customer, LocalDateTime.now(), 0L);
+        em.persist(order);
+        item = Item.builder()
+                .name("상품")
+                .price(1000)
+                .stock(ROWS)
+                .build();
+        em.persist(item);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("주문 항목 N개를 저장할 때 시퀀스 조회와 INSERT 문장은 각각 약 N/50번만 실행된다.")
+    void testSequenceCallsAndInsertBatches() {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        for (int i = 0; i < ROWS; i++) {
+            em.persist(new OrderItem(order, item, 1));
+        }
+        // flush 전까지는 INSERT가 실행되지 않으므로, 여기까지 준비된 문장은 모두 시퀀스 조회이다
+        long sequenceCalls = statistics.getPrepareStatementCount();
+
+        em.flush();
+        long insertStatements = statistics.getPrepareStatementCount() - sequenceCalls;
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(sequenceCalls).isBetween((long) ROWS / ALLOCATION_SIZE, (long) ROWS / ALLOCATION_SIZE + 1);
+        assertThat(insertStatements).isBetween((long) ROWS / ALLOCATION_SIZE, (long) ROWS / ALLOCATION_SIZE + 1);
+    }
+}
@@ -0,0 +1,39 @@
+package com.team4.project1.domain.order.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("주문 상태")
+class OrderStatusTest {
+
+    @Test
+    @DisplayName("발송 시각이 지나기 전에는 처리 중 상태를 유지한다.")
+    void testProcessingBeforeCutoff() {
+        LocalDateTime orderDate = LocalDateTime.of(2025, 3, 3, 15, 0);
+        LocalDateTime now = LocalDateTime.of(2025, 3, 4, 10, 0);
+
+        assertThat(OrderStatus.PROCESSING.resolve(orderDate, now)).isEqualTo(OrderStatus.PROCESSING);
+    }
+
+    @Test
+    @DisplayName("접수 후 발송 시각이 지나면 발송된 상태로 계산한다.")
+    void testShippedAfterCutoff() {
+        LocalDateTime orderDate = LocalDateTime.of(2025, 3, 4, 9, 0);
+        LocalDateTime now = LocalDateTime.of(2025, 3, 4, 14, 0);
+
+        assertThat(OrderStatus.PROCESSING.resolve(orderDate, now)).isEqualTo(OrderStatus.SHIPPED);
+    }
+
+    @Test
+    @DisplayName("장바구니 상태의 주문은 발송 시각이 지나도 상태가 바뀌지 않는다.")
+    void testTemporaryIsNotShipped() {
+        LocalDateTime orderDate = LocalDateTime.of(2025, 3, 1, 9, 0);
+        LocalDateTime now = LocalDateTime.of(2025, 3, 4, 15, 0);
+
+        assertThat(OrderStatus.TEMPORARY.resolve(orderDate, now)).isEqualTo(OrderStatus.TEMPORARY);
+    }
+}
@@ -0,0 +1,98 @@
+package com.team4.project1.domain.order.repository;
+
+import com.team4.project1.domain.customer.entity.Customer;
+import com.team4.project1.domain.item.entity.Item;
+import com.team4.project1.domain.order.dto.OrderDto;
+import com.team4.project1.domain.order.entity.Order;
+import com.team4.project1.domain.order.entity.OrderItem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("주문 리포지토리")
+class OrderRepositoryTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private Customer customer;
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        customer = Customer.builder()
+                .username("queryCountUser")
+                .password("password123")
+                .name("Query Count")
+                .email("query@example.com")
+                .build();
+        em.persist(customer);
+
+        Order order = new Order(customer, LocalDateTime.now(), 0L);
+        em.persist(order);
+        for (int i = 0; i < 5; i++) {
+            Item item = Item.builder()
+                    .name("상품" + i)
+                    .price(1000 * (i + 1))
+                    .stock(10)
+                    .build();
+            em.persist(item);
+            em.persist(new OrderItem(order, item, i + 1));
+        }
+        em.flush();
+        em.clear();
+        orderId = order.getId();
+    }
+
+    @Test
+    @DisplayName("주문 상세 조회 시 고객, 주문 항목, 상품을 하나의 쿼리로 조회한다.")
+    void testFindWithCustomerAndItemsByIdInSingleQuery() {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Order order = orderRepository.findWithCustomerAndItemsById(orderId).orElseThrow();
+        assertThat(order.getCustomer().getUsername()).isEqualTo("queryCountUser");
+        assertThat(order.getOrderItems()).hasSize(5);
+        order.getOrderItems().forEach(orderItem -> assertThat(orderItem.getItem().getName()).startsWith("상품"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주문 내역을 (주문 날짜, ID) 커서 다음부터 최근 주문 순으로 조회한다.")
+    void testFindOrderHistoryAfter() {
+        LocalDateTime base = LocalDateTime.of(2025, 3, 4, 12, 0);
+        Order first = new Order(customer, base.minusDays(2), 1000L);
+        Order second = new Order(customer, base.minusDays(1), 2000L);
+        Order third = new Order(customer, base.minusDays(1), 3000L);
+        em.persist(first);
+        em.persist(second);
+        em.persist(third);
+        em.flush();
+        em.clear();
+
+        List<OrderDto> page = orderRepository.findOrderHistoryAfter(
+                customer.getId(), third.getDate(), third.getId(), Limit.of(10));
+
+        assertThat(page).extracting(OrderDto::getId).containsExactly(second.getId(), first.getId());
+    }
+}
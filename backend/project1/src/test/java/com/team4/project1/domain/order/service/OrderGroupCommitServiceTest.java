@@ -0,0 +1,152 @@
+package com.team4.project1.domain.order.service;
+
+import com.team4.project1.domain.order.dto.OrderItemDto;
+import com.team4.project1.domain.order.dto.OrderWithOrderItemsDto;
+import com.team4.project1.global.exception.InsufficientStockException;
+import com.team4.project1.global.exception.RequestOutcomeUnknownException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@Timeout(10)
+@DisplayName("주문 그룹 커밋")
+class OrderGroupCommitServiceTest {
+
+    private final OrderService orderService = mock(OrderService.class);
+    private OrderGroupCommitService groupCommitService;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (groupCommitService != null) {
+            groupCommitService.stop();
+        }
+    }
+
+    private void start(int maxBatchSize, long lingerMs) {
+        start(maxBatchSize, lingerMs, 5000);
+    }
+
+    private void start(int maxBatchSize, long lingerMs, long awaitTimeoutMillis) {
+        groupCommitService = new OrderGroupCommitService(orderService, true, 100, maxBatchSize, lingerMs,
+                awaitTimeoutMillis);
+        groupCommitService.start();
+    }
+
+    private static OrderWithOrderItemsDto order(long id) {
+        return new OrderWithOrderItemsDto(id, null, 0L, null, List.of());
+    }
+
+    /** 요청마다 상품 ID 하나로 구분되는 주문을 준비하도록 설정합니다. */
+    private void givenPreparedOrders() {
+        given(orderService.prepareOrder(anyList(), any())).willAnswer(invocation -> {
+            List<OrderItemDto> orderItemDtos = invocation.getArgument(0);
+            return new PendingOrder(null, orderItemDtos, Map.of(orderItemDtos.get(0).getItemId(), 1));
+        });
+    }
+
+    private CompletableFuture<OrderWithOrderItemsDto> submit(long itemId) {
+        Principal principal = () -> "user";
+        List<OrderItemDto> orderItemDtos = List.of(new OrderItemDto(itemId, 1));
+        return CompletableFuture.supplyAsync(() -> groupCommitService.createOrder(orderItemDtos, principal));
+    }
+
+    private static long itemIdOf(PendingOrder pendingOrder) {
+        return pendingOrder.getQuantities().keySet().iterator().next();
+    }
+
+    @Test
+    @DisplayName("대기 시간 동안 모인 주문들을 하나의 트랜잭션으로 저장하고, 각 요청에 자기 주문을 반환한다.")
+    void testOrdersCommittedAsOneBatch() throws Exception {
+        givenPreparedOrders();
+        List<Integer> batchSizes = new ArrayList<>();
+        willAnswer(invocation -> {
+            List<PendingOrder> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            batch.forEach(pendingOrder -> pendingOrder.succeed(order(itemIdOf(pendingOrder))));
+            return null;
+        }).given(orderService).createOrders(anyList());
+        start(3, 5000);
+
+        List<CompletableFuture<OrderWithOrderItemsDto>> results = List.of(submit(1L), submit(2L), submit(3L));
+
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).get().getId()).isEqualTo(i + 1L);
+        }
+        assertThat(batchSizes).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("그룹 커밋이 실패하면 주문을 하나씩 다시 처리해, 실패한 주문만 실패로 응답한다.")
+    void testBatchFailureIsolatesFailedOrder() throws Exception {
+        givenPreparedOrders();
+        willThrow(new IllegalStateException("deadlock")).given(orderService).createOrders(anyList());
+        given(orderService.createOrder(any(PendingOrder.class))).willAnswer(invocation -> {
+            long itemId = itemIdOf(invocation.getArgument(0));
+            if (itemId == 2L) {
+                throw new InsufficientStockException(2L, 0);
+            }
+            return order(itemId);
+        });
+        start(2, 5000);
+
+        CompletableFuture<OrderWithOrderItemsDto> first = submit(1L);
+        CompletableFuture<OrderWithOrderItemsDto> second = submit(2L);
+
+        assertThat(first.get().getId()).isEqualTo(1L);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(InsufficientStockException.class);
+    }
+
+    @Test
+    @DisplayName("처리 결과를 기다리는 시간이 초과되면 결과를 알 수 없다고 응답하고, 주문이 저장되면 그 결과를 전달한다.")
+    void testAwaitTimeoutReportsUnknownOutcome() throws Exception {
+        givenPreparedOrders();
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            release.await();
+            List<PendingOrder> batch = invocation.getArgument(0);
+            batch.forEach(pendingOrder -> pendingOrder.succeed(order(itemIdOf(pendingOrder))));
+            return null;
+        }).given(orderService).createOrders(anyList());
+        start(1, 0, 50);
+
+        Throwable failure = catchThrowable(submit(1L)::join).getCause();
+        assertThat(failure).isInstanceOf(RequestOutcomeUnknownException.class);
+        CompletableFuture<?> outcome = ((RequestOutcomeUnknownException) failure).getOutcome();
+        assertThat(outcome).isNotDone();
+
+        release.countDown();
+        assertThat(((OrderWithOrderItemsDto) outcome.get()).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("종료된 뒤의 주문은 큐에 넣지 않고 바로 거절한다.")
+    void testRejectAfterStop() throws Exception {
+        givenPreparedOrders();
+        start(10, 5);
+        groupCommitService.stop();
+
+        assertThatThrownBy(() -> groupCommitService.createOrder(List.of(new OrderItemDto(1L, 1)), () -> "user"))
+                .isInstanceOf(IllegalStateException.class);
+        verify(orderService, never()).createOrders(anyList());
+    }
+}
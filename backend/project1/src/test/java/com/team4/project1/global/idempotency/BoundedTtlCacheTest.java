@@ -0,0 +1,40 @@
+package com.team4.project1.global.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("크기 제한 TTL 캐시")
+class BoundedTtlCacheTest {
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 제거한다.")
+    void testEvictLeastRecentlyUsed() {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>(2, Duration.ofMinutes(1));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        cache.put("c", 3);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("만료 시간이 지난 항목은 조회되지 않는다.")
+    void testExpiredEntry() throws InterruptedException {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>(2, Duration.ofMillis(10));
+        cache.put("a", 1);
+
+        Thread.sleep(20);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+}
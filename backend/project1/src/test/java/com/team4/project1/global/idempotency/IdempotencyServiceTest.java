@@ -0,0 +1,166 @@
+package com.team4.project1.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.project1.global.exception.IdempotencyKeyInUseException;
+import com.team4.project1.global.exception.IdempotencyKeyMismatchException;
+import com.team4.project1.global.exception.RequestOutcomeUnknownException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Idempotency-Key 처리")
+class IdempotencyServiceTest {
+
+    private static final String ID = "user:key-1";
+    private static final List<Integer> REQUEST = List.of(1, 2);
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger calls = new AtomicInteger();
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(idempotencyRecordRepository, objectMapper, 100, 60, 60);
+    }
+
+    private String hashOf(Object request) throws Exception {
+        byte[] json = objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+    }
+
+    private String execute(Object request) {
+        return idempotencyService.execute("user", "key-1", request, String.class,
+                () -> "order-" + calls.incrementAndGet());
+    }
+
+    @Test
+    @DisplayName("키를 선점한 뒤 처리하고, 같은 키의 재시도에는 처리하지 않고 저장된 응답을 반환한다.")
+    void testReplayReturnsStoredResponse() {
+        assertThat(execute(REQUEST)).isEqualTo("order-1");
+        assertThat(execute(REQUEST)).isEqualTo("order-1");
+
+        assertThat(calls).hasValue(1);
+        then(idempotencyRecordRepository).should().insertPending(eq(ID), anyString(), any());
+        then(idempotencyRecordRepository).should().complete(ID, "\"order-1\"");
+    }
+
+    @Test
+    @Timeout(5)
+    @DisplayName("처리 중인 요청과 같은 키로 다른 요청이 들어오면 기다리지 않고 바로 거절한다.")
+    void testRejectDifferentRequestWhileInFlight() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("user", "key-1", REQUEST, String.class, () -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "order-1";
+                }));
+        started.await();
+
+        assertThatThrownBy(() -> execute(List.of(3)))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+
+        release.countDown();
+        assertThat(first.get()).isEqualTo("order-1");
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 같은 키를 선점해 처리 중이면 처리하지 않고 거절한다.")
+    void testRejectWhenClaimedByAnotherServer() throws Exception {
+        IdempotencyRecord pending = new IdempotencyRecord(ID, hashOf(REQUEST), null, LocalDateTime.now());
+        given(idempotencyRecordRepository.findById(ID))
+                .willReturn(Optional.empty(), Optional.empty(), Optional.of(pending));
+        given(idempotencyRecordRepository.insertPending(eq(ID), anyString(), any()))
+                .willThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertThatThrownBy(() -> execute(REQUEST))
+                .isInstanceOf(IdempotencyKeyInUseException.class);
+
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("선점에 실패했을 때 다른 서버가 처리를 끝냈으면 그 응답을 반환한다.")
+    void testReturnResponseStoredByAnotherServer() throws Exception {
+        IdempotencyRecord completed = new IdempotencyRecord(ID, hashOf(REQUEST), "\"order-9\"", LocalDateTime.now());
+        given(idempotencyRecordRepository.findById(ID))
+                .willReturn(Optional.empty(), Optional.empty(), Optional.of(completed));
+        given(idempotencyRecordRepository.insertPending(eq(ID), anyString(), any()))
+                .willThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertThat(execute(REQUEST)).isEqualTo("order-9");
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("처리에 실패하면 선점을 해제해 같은 키로 다시 시도할 수 있다.")
+    void testFailedRequestReleasesClaim() {
+        assertThatThrownBy(() -> idempotencyService.execute("user", "key-1", REQUEST, String.class, () -> {
+            throw new IllegalStateException("재고 부족");
+        })).hasMessage("재고 부족");
+        then(idempotencyRecordRepository).should().deletePending(ID);
+
+        assertThat(execute(REQUEST)).isEqualTo("order-1");
+    }
+
+    @Test
+    @DisplayName("처리 결과를 기다리다 포기하면 선점을 유지해, 같은 키의 재시도는 다시 처리하지 않고 처리가 끝난 뒤 그 응답을 받는다.")
+    void testRetryAfterOutcomeUnknown() throws Exception {
+        IdempotencyRecord pending = new IdempotencyRecord(ID, hashOf(REQUEST), null, LocalDateTime.now());
+        given(idempotencyRecordRepository.findById(ID))
+                .willReturn(Optional.empty(), Optional.empty(), Optional.of(pending));
+        given(idempotencyRecordRepository.insertPending(eq(ID), anyString(), any()))
+                .willReturn(1)
+                .willThrow(new DataIntegrityViolationException("duplicate key"));
+        CompletableFuture<String> outcome = new CompletableFuture<>();
+
+        assertThatThrownBy(() -> idempotencyService.execute("user", "key-1", REQUEST, String.class, () -> {
+            throw new RequestOutcomeUnknownException("시간 초과", outcome);
+        })).isInstanceOf(RequestOutcomeUnknownException.class);
+        then(idempotencyRecordRepository).should(never()).deletePending(ID);
+
+        // 처리가 끝나기 전의 재시도는 처리하지 않고 거절한다
+        assertThatThrownBy(() -> execute(REQUEST))
+                .isInstanceOf(IdempotencyKeyInUseException.class);
+
+        // 처리가 끝나면 그 응답을 저장하고, 이후의 재시도에는 저장된 응답을 반환한다
+        outcome.complete("order-9");
+        then(idempotencyRecordRepository).should().complete(ID, "\"order-9\"");
+        assertThat(execute(REQUEST)).isEqualTo("order-9");
+        assertThat(calls).hasValue(0);
+    }
+}
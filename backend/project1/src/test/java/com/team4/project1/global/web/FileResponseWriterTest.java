@@ -0,0 +1,38 @@
+package com.team4.project1.global.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("파일 응답 Range 헤더 해석")
+class FileResponseWriterTest {
+
+    private static final long LENGTH = 1000;
+
+    @Test
+    @DisplayName("시작, 끝 위치와 끝이 생략된 구간, 마지막 n바이트 구간을 해석하고 끝 위치는 파일 크기로 자른다.")
+    void testParseRange() {
+        assertThat(FileResponseWriter.parseRange("bytes=0-99", LENGTH))
+                .isEqualTo(new FileResponseWriter.ByteRange(0, 99));
+        assertThat(FileResponseWriter.parseRange("bytes=900-", LENGTH))
+                .isEqualTo(new FileResponseWriter.ByteRange(900, 999));
+        assertThat(FileResponseWriter.parseRange("bytes=-100", LENGTH))
+                .isEqualTo(new FileResponseWriter.ByteRange(900, 999));
+        assertThat(FileResponseWriter.parseRange("bytes=500-5000", LENGTH))
+                .isEqualTo(new FileResponseWriter.ByteRange(500, 999));
+    }
+
+    @Test
+    @DisplayName("파일 범위를 벗어나면 만족할 수 없는 구간을, 형식이 잘못되었거나 여러 구간이면 null(전체 전송)을 반환한다.")
+    void testParseInvalidRange() {
+        assertThat(FileResponseWriter.parseRange("bytes=1000-", LENGTH)).isSameAs(FileResponseWriter.ByteRange.UNSATISFIABLE);
+        assertThat(FileResponseWriter.parseRange("bytes=-0", LENGTH)).isSameAs(FileResponseWriter.ByteRange.UNSATISFIABLE);
+        assertThat(FileResponseWriter.parseRange(null, LENGTH)).isNull();
+        assertThat(FileResponseWriter.parseRange("items=0-1", LENGTH)).isNull();
+        assertThat(FileResponseWriter.parseRange("bytes=0-1,5-6", LENGTH)).isNull();
+        assertThat(FileResponseWriter.parseRange("bytes=9-1", LENGTH)).isNull();
+        assertThat(FileResponseWriter.parseRange("bytes=a-b", LENGTH)).isNull();
+        assertThat(FileResponseWriter.parseRange("bytes=--5", LENGTH)).isNull();
+    }
+}
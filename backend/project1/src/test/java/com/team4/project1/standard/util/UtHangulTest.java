@@ -0,0 +1,37 @@
+package com.team4.project1.standard.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("한글 유틸리티")
+class UtHangulTest {
+
+    @Test
+    @DisplayName("한글 음절은 초성으로 바꾸고 나머지 글자는 소문자로 둔다.")
+    void testToChoseong() {
+        assertThat(Ut.Hangul.toChoseong("스타벅스커피")).isEqualTo("ㅅㅌㅂㅅㅋㅍ");
+        assertThat(Ut.Hangul.toChoseong("까페 Latte")).isEqualTo("ㄲㅍ latte");
+    }
+
+    @Test
+    @DisplayName("한글 음절을 초성, 중성, 종성 자모로 분해한다.")
+    void testToJamo() {
+        assertThat(Ut.Hangul.toJamo("커피값")).isEqualTo("ㅋㅓㅍㅣㄱㅏㅄ");
+        assertThat(Ut.Hangul.toJamo("Tea 한잔")).isEqualTo("tea ㅎㅏㄴㅈㅏㄴ");
+    }
+
+    @Test
+    @DisplayName("초성과 완성된 음절을 섞은 검색어의 글자가 떨어져 있어도 순서대로 나타나면 찾는다.")
+    void testContainsChoseong() {
+        assertThat(Ut.Hangul.containsChoseong("스타벅스커피", "ㅅㅌㅂ")).isTrue();
+        assertThat(Ut.Hangul.containsChoseong("스타벅스커피", "스ㅌㅂ")).isTrue();
+        assertThat(Ut.Hangul.containsChoseong("스타벅스커피", "ㅋㅍ")).isTrue();
+        assertThat(Ut.Hangul.containsChoseong("스타벅스커피", "ㅅㅂ")).isTrue();
+        assertThat(Ut.Hangul.containsChoseong("스타벅스커피", "ㅅㅂㅅ")).isTrue();
+        assertThat(Ut.Hangul.containsChoseong("스타벅스커피", "ㅂㅌ")).isFalse();
+        assertThat(Ut.Hangul.containsChoseong("스타벅스커피", "ㅅㅅㅅ")).isFalse();
+        assertThat(Ut.Hangul.containsChoseong("스타벅스커피", "수ㅌ")).isFalse();
+    }
+}
@@ -126,7 +126,12 @@ export default function ClientItemPage({ item }: { item: ItemDto }) {
       <div className="flex flex-col md:flex-row">
         <div className="w-full h-auto md:w-1/2 rounded-lg flex overflow-hidden items-center justify-center">
           <Image
-            src={`${API_URL}/api/v1/items/${item.id}/image`}
+            src={
+              // UUID 이미지 경로는 내용이 바뀌지 않아 브라우저가 재검증 없이 캐시함
+              item.imageUri
+                ? `${API_URL}/api/v1/items/images/${item.imageUri}?size=detail`
+                : `${API_URL}/api/v1/items/${item.id}/image?size=detail`
+            }
             alt={item.name || "상품 이미지"}
             width={0}
             height={0}
@@ -1,6 +1,6 @@
 "use client";
 
-import { useState, useEffect } from "react";
+import { useState, useEffect, useCallback, useRef } from "react";
 import { useSearchParams, useRouter } from "next/navigation";
 import { Card } from "@/components/ui/card";
 import { Input } from "@/components/ui/input";
@@ -13,14 +13,6 @@ import {
   TableBody,
   TableCell,
 } from "@/components/ui/table";
-import {
-  Pagination,
-  PaginationContent,
-  PaginationItem,
-  PaginationPrevious,
-  PaginationNext,
-  PaginationLink,
-} from "@/components/ui/pagination";
 import { FontAwesomeIcon } from "@fortawesome/react-fontawesome";
 import { faSearch, faBars } from "@fortawesome/free-solid-svg-icons";
 import Link from "next/link";
@@ -33,6 +25,11 @@ type ItemDto = {
   imageUri: string;
 };
 
+type ItemSuggestionDto = {
+  id: number;
+  name: string;
+};
+
 export default function ItemListPage() {
   const searchParams = useSearchParams();
   const router = useRouter();
@@ -41,27 +38,36 @@ export default function ItemListPage() {
   const [searchValue, setSearchValue] = useState(
     searchParams.get("searchKeyword") || ""
   );
+  // 입력할 때마다 목록을 다시 조회하지 않도록, 검색을 실행한 검색어만 따로 보관
+  const [searchKeyword, setSearchKeyword] = useState(
+    searchParams.get("searchKeyword") || ""
+  );
+  const [suggestions, setSuggestions] = useState<ItemSuggestionDto[]>([]);
   const [sortBy, setSortBy] = useState(searchParams.get("sortBy") || "name");
-  const [page, setPage] = useState(Number(searchParams.get("page")) || 0);
-  const [totalPages, setTotalPages] = useState(1);
-  const pageSize = 5; // 페이지당 표시할 개수
+  // 다음 상품을 조회할 때 전달할 커서, 더 조회할 상품이 없으면 null
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const sentinelRef = useRef<HTMLDivElement>(null);
+  const pageSize = 20; // 한 번에 불러올 개수
 
-  useEffect(() => {
-    const fetchItems = async () => {
+  const fetchItems = useCallback(
+    async (after: string | null) => {
       const API_URL =
         process.env.NEXT_PUBLIC_API_BASE_URL || "http://localhost:8080";
 
       const queryParams = new URLSearchParams();
-      queryParams.append("page", page.toString());
       queryParams.append("size", pageSize.toString());
       if (sortBy) queryParams.append("sortBy", sortBy);
-      if (searchValue) queryParams.append("searchKeyword", searchValue);
+      if (searchKeyword) queryParams.append("searchKeyword", searchKeyword);
+      // "ㅅㅌㅂ"처럼 초성이 섞인 검색어는 초성 검색으로 조회
+      if (/[ㄱ-ㅎ]/.test(searchKeyword))
+        queryParams.append("searchMode", "chosung");
+      if (after) queryParams.append("after", after);
 
       try {
         const response = await fetch(
-          `${API_URL}/api/v1/items?${queryParams.toString()}`,
+          `${API_URL}/api/v1/items/scroll?${queryParams.toString()}`,
           {
-            cache: "no-store",
+            cache: "no-cache", // ETag로 재검증하여 변경이 없으면 304로 응답받음
           }
         );
 
@@ -71,39 +77,106 @@ export default function ItemListPage() {
           );
         }
 
-        const result = await response.json();
-        setItems(result.data?.content || []);
-        setTotalPages(result.data?.totalPages || 1);
+        const data = (await response.json()).data;
+        let newItems: ItemDto[] = data?.items || [];
+        let cursor: string | null = data?.nextCursor || null;
+
+        // 검색 결과가 없으면 오타를 허용하는 검색으로 한 번 더 조회 (결과가 적으므로 한 번에 조회)
+        if (
+          !after &&
+          searchKeyword &&
+          !queryParams.has("searchMode") &&
+          newItems.length === 0
+        ) {
+          const fuzzyParams = new URLSearchParams({
+            sortBy,
+            searchKeyword,
+            searchMode: "fuzzy",
+            size: pageSize.toString(),
+          });
+          const fuzzyResponse = await fetch(
+            `${API_URL}/api/v1/items?${fuzzyParams.toString()}`,
+            {
+              cache: "no-cache", // ETag로 재검증하여 변경이 없으면 304로 응답받음
+            }
+          );
+          if (fuzzyResponse.ok)
+            newItems = (await fuzzyResponse.json()).data?.content || [];
+          cursor = null;
+        }
+
+        setItems((prev) => (after ? [...prev, ...newItems] : newItems));
+        setNextCursor(cursor);
       } catch (error) {
         console.error("데이터 가져오기 실패:", error);
       }
+    },
+    [sortBy, searchKeyword]
+  );
+
+  useEffect(() => {
+    fetchItems(null);
+  }, [fetchItems]);
+
+  // 🔹 목록 끝이 보이면 다음 상품을 이어서 조회 (무한 스크롤)
+  useEffect(() => {
+    const sentinel = sentinelRef.current;
+    if (!sentinel || !nextCursor) return;
+
+    const observer = new IntersectionObserver((entries) => {
+      if (entries[0].isIntersecting) fetchItems(nextCursor);
+    });
+    observer.observe(sentinel);
+    return () => observer.disconnect();
+  }, [nextCursor, fetchItems]);
+
+  // 🔹 검색어 자동 완성
+  useEffect(() => {
+    if (!searchValue.trim() || searchValue === searchKeyword) {
+      setSuggestions([]);
+      return;
+    }
+
+    const controller = new AbortController();
+    const fetchSuggestions = async () => {
+      const API_URL =
+        process.env.NEXT_PUBLIC_API_BASE_URL || "http://localhost:8080";
+
+      try {
+        const response = await fetch(
+          `${API_URL}/api/v1/items/suggest?prefix=${encodeURIComponent(
+            searchValue
+          )}`,
+          { signal: controller.signal }
+        );
+        if (!response.ok) return;
+
+        const result = await response.json();
+        setSuggestions(result.data || []);
+      } catch (error) {
+        if (!controller.signal.aborted) {
+          console.error("자동 완성 가져오기 실패:", error);
+        }
+      }
     };
 
-    fetchItems();
-  }, [sortBy, searchValue, page]);
+    fetchSuggestions();
+    return () => controller.abort();
+  }, [searchValue, searchKeyword]);
 
   // 🔹 검색 실행 함수
-  const handleSearch = () => {
-    setPage(0); // 검색 시 첫 페이지로 이동
-    router.push(`?searchKeyword=${searchValue}&sortBy=${sortBy}&page=0`);
+  const handleSearch = (keyword: string = searchValue) => {
+    setSearchValue(keyword);
+    setSearchKeyword(keyword);
+    setSuggestions([]);
+    router.push(`?searchKeyword=${keyword}&sortBy=${sortBy}`);
   };
 
   // 🔹 정렬 변경 함수
   const handleSortChange = (event: React.ChangeEvent<HTMLSelectElement>) => {
     const newSortBy = event.target.value;
     setSortBy(newSortBy);
-    setPage(0); // 정렬 변경 시 첫 페이지로 이동
-    router.push(`?searchKeyword=${searchValue}&sortBy=${newSortBy}&page=0`);
-  };
-
-  // 🔹 페이지 변경 함수
-  const handlePageChange = (newPage: number) => {
-    if (newPage >= 0 && newPage < totalPages) {
-      setPage(newPage);
-      router.push(
-        `?searchKeyword=${searchValue}&sortBy=${sortBy}&page=${newPage}`
-      );
-    }
+    router.push(`?searchKeyword=${searchKeyword}&sortBy=${newSortBy}`);
   };
 
   return (
@@ -122,18 +195,34 @@ export default function ItemListPage() {
           >
             <option value="name">이름순</option>
             <option value="price">가격순</option>
+            <option value="popularity">인기순</option>
           </select>
-          <Input
-            type="text"
-            placeholder="검색어를 입력하세요"
-            className="p-2 border rounded-lg w-full max-w-md"
-            value={searchValue}
-            onChange={(e) => setSearchValue(e.target.value)}
-            onKeyDown={(e) => {
-              if (e.key === "Enter") handleSearch();
-            }}
-          />
-          <Button onClick={handleSearch}>
+          <div className="relative w-full max-w-md">
+            <Input
+              type="text"
+              placeholder="검색어를 입력하세요"
+              className="p-2 border rounded-lg w-full"
+              value={searchValue}
+              onChange={(e) => setSearchValue(e.target.value)}
+              onKeyDown={(e) => {
+                if (e.key === "Enter") handleSearch();
+              }}
+            />
+            {suggestions.length > 0 && (
+              <ul className="absolute z-10 mt-1 w-full bg-white border rounded-lg shadow-lg">
+                {suggestions.map((suggestion) => (
+                  <li
+                    key={suggestion.id}
+                    className="p-2 hover:bg-gray-100 cursor-pointer"
+                    onClick={() => handleSearch(suggestion.name)}
+                  >
+                    {suggestion.name}
+                  </li>
+                ))}
+              </ul>
+            )}
+          </div>
+          <Button onClick={() => handleSearch()}>
             <FontAwesomeIcon icon={faSearch} className="mr-1" />
             검색
           </Button>
@@ -184,35 +273,8 @@ export default function ItemListPage() {
         </TableBody>
       </Table>
 
-      {/* Pagination */}
-      <Pagination className="mt-6">
-        <PaginationContent>
-          <PaginationItem>
-            <PaginationPrevious
-              onClick={() => handlePageChange(page - 1)}
-              // disabled={page === 0}
-            />
-          </PaginationItem>
-
-          {Array.from({ length: totalPages }).map((_, index) => (
-            <PaginationItem key={index}>
-              <PaginationLink
-                isActive={page === index}
-                onClick={() => handlePageChange(index)}
-              >
-                {index + 1}
-              </PaginationLink>
-            </PaginationItem>
-          ))}
-
-          <PaginationItem>
-            <PaginationNext
-              onClick={() => handlePageChange(page + 1)}
-              // disabled={page >= totalPages - 1}
-            />
-          </PaginationItem>
-        </PaginationContent>
-      </Pagination>
+      {/* 무한 스크롤: 이 요소가 화면에 보이면 다음 상품을 조회 */}
+      <div ref={sentinelRef} className="h-1" />
     </Card>
   );
 }
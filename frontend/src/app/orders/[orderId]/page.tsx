@@ -17,12 +17,6 @@ import moment from "moment";
 type OrderWithOrderItemsDto = components["schemas"]["OrderWithOrderItemsDto"];
 type OrderItemDto = components["schemas"]["OrderItemDto"];
 
-type ItemData = {
-  id: number;
-  name: string;
-  price: number;
-};
-
 export default function OrderDetailPage() {
   const params = useParams();
   const router = useRouter();
@@ -30,13 +24,12 @@ export default function OrderDetailPage() {
   const [order, setOrder] = useState<OrderWithOrderItemsDto | null>(null);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
-  const [itemDetails, setItemDetails] = useState<Record<number, ItemData>>({});
 
   useEffect(() => {
     fetchOrderDetail();
   }, [params.orderId]);
 
-  // 🔹 주문 상세 정보 가져오기 + 상품 정보 매핑
+  // 🔹 주문 상세 정보 가져오기 (상품 정보 포함)
   const fetchOrderDetail = async () => {
     if (!params.orderId) {
       setError("주문 ID가 없습니다.");
@@ -56,9 +49,9 @@ export default function OrderDetailPage() {
     }
 
     try {
-      // 1️⃣ 주문 상세 정보 가져오기
+      // 주문 항목에 상품 이름, 가격, 합계를 포함해서 가져오기
       const response = await fetch(
-        `${API_URL}/api/v1/orders/${params.orderId}`,
+        `${API_URL}/api/v1/orders/${params.orderId}?includeItems=true`,
         {
           method: "GET",
           headers: {
@@ -78,33 +71,6 @@ export default function OrderDetailPage() {
       const data = await response.json();
       const orderData: OrderWithOrderItemsDto = data.data;
       setOrder(orderData);
-
-      // 2️⃣ 주문 내 모든 itemId 목록 가져오기
-      const itemIds = orderData.orderedItems.map((item) => item.itemId);
-
-      // 3️⃣ 상품 정보 한 번의 API 호출로 가져오기
-      const itemsResponse = await fetch(`${API_URL}/api/v1/items`, {
-        method: "GET",
-        headers: {
-          "Content-Type": "application/json",
-          Authorization: `Bearer ${API_KEY}`,
-        },
-      });
-
-      if (!itemsResponse.ok) {
-        throw new Error("상품 정보를 불러오지 못했습니다.");
-      }
-
-      const itemsData = await itemsResponse.json();
-      const allItems: ItemData[] = itemsData.data.content;
-
-      // 4️⃣ itemId 기준으로 매핑
-      const mappedItems: Record<number, ItemData> = {};
-      allItems.forEach((item) => {
-        mappedItems[item.id] = item;
-      });
-
-      setItemDetails(mappedItems);
     } catch (error) {
       setError("주문 정보를 가져오는 중 오류가 발생했습니다.");
     } finally {
@@ -145,29 +111,22 @@ export default function OrderDetailPage() {
                 </TableRow>
               </TableHeader>
               <TableBody>
-                {order?.orderedItems?.map((item: OrderItemDto) => {
-                  const itemInfo = itemDetails[item.itemId];
-                  return (
-                    <TableRow key={item.itemId}>
-                      <TableCell>
-                        {itemInfo ? itemInfo.name : "상품 정보 없음"}
-                      </TableCell>
-                      <TableCell>
-                        {itemInfo
-                          ? `${itemInfo.price.toLocaleString()} 원`
-                          : "-"}
-                      </TableCell>
-                      <TableCell>{item.quantity}</TableCell>
-                      <TableCell>
-                        {itemInfo
-                          ? `${(
-                              itemInfo.price * item.quantity
-                            ).toLocaleString()} 원`
-                          : "-"}
-                      </TableCell>
-                    </TableRow>
-                  );
-                })}
+                {order?.orderedItems?.map((item: OrderItemDto) => (
+                  <TableRow key={item.itemId}>
+                    <TableCell>{item.name ?? "상품 정보 없음"}</TableCell>
+                    <TableCell>
+                      {item.price != null
+                        ? `${item.price.toLocaleString()} 원`
+                        : "-"}
+                    </TableCell>
+                    <TableCell>{item.quantity}</TableCell>
+                    <TableCell>
+                      {item.lineTotal != null
+                        ? `${item.lineTotal.toLocaleString()} 원`
+                        : "-"}
+                    </TableCell>
+                  </TableRow>
+                ))}
               </TableBody>
             </Table>
           </div>
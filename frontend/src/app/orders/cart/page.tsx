@@ -17,8 +17,9 @@ const API_URL = process.env.NEXT_PUBLIC_API_BASE_URL || "http://localhost:8080";
 
 type OrderItemDto = {
   itemId: number;
-  name: string;
-  price: number;
+  name?: string;
+  price?: number;
+  lineTotal?: number;
   quantity: number;
 };
 
@@ -30,12 +31,6 @@ type OrderWithOrderItemsDto = {
   orderedItems: OrderItemDto[];
 };
 
-type ItemData = {
-  id: number;
-  name: string;
-  price: number;
-};
-
 export default function CartPage() {
   const [cartOrder, setCartOrder] = useState<OrderWithOrderItemsDto | null>(
     null
@@ -84,9 +79,9 @@ export default function CartPage() {
         temporaryOrders[0]
       );
 
-      // 2️⃣ 최신 주문 상세 정보 가져오기
+      // 2️⃣ 최신 주문 상세 정보를 상품 정보와 함께 가져오기
       const orderResponse = await fetch(
-        `${API_URL}/api/v1/orders/${latestOrder.id}`,
+        `${API_URL}/api/v1/orders/${latestOrder.id}?includeItems=true`,
         {
           method: "GET",
           headers: {
@@ -102,32 +97,7 @@ export default function CartPage() {
       const orderData = await orderResponse.json();
       const cartData: OrderWithOrderItemsDto = orderData.data;
 
-      // 3️⃣ 한 번의 호출로 모든 상품 정보 가져오기
-      const itemsResponse = await fetch(`${API_URL}/api/v1/items`, {
-        method: "GET",
-        headers: {
-          "Content-Type": "application/json",
-          ...(API_KEY && { Authorization: `Bearer ${API_KEY}` }),
-        },
-      });
-
-      if (!itemsResponse.ok)
-        throw new Error("상품 정보를 불러오지 못했습니다.");
-
-      const itemsData = await itemsResponse.json();
-      const allItems: ItemData[] = itemsData.data.content; // 상품 목록
-
-      // 4️⃣ 주문 항목과 상품 정보 매칭하여 업데이트
-      const updatedOrderItems = cartData.orderedItems.map((orderItem) => {
-        const itemInfo = allItems.find((item) => item.id === orderItem.itemId);
-        return {
-          ...orderItem,
-          name: itemInfo ? itemInfo.name : "상품 정보 없음",
-          price: itemInfo ? itemInfo.price : 0,
-        };
-      });
-
-      setCartOrder({ ...cartData, orderedItems: updatedOrderItems });
+      setCartOrder(cartData);
     } catch (error) {
       console.error("장바구니 불러오기 실패:", error);
     } finally {
@@ -202,10 +172,10 @@ export default function CartPage() {
           <TableBody>
             {cartOrder.orderedItems.map((item) => (
               <TableRow key={item.itemId}>
-                <TableCell>{item.name}</TableCell>
-                <TableCell>{item.price} 원</TableCell>
+                <TableCell>{item.name ?? "상품 정보 없음"}</TableCell>
+                <TableCell>{item.price ?? 0} 원</TableCell>
                 <TableCell>{item.quantity}</TableCell>
-                <TableCell>{item.price * item.quantity} 원</TableCell>
+                <TableCell>{item.lineTotal ?? 0} 원</TableCell>
               </TableRow>
             ))}
           </TableBody>
@@ -120,6 +120,66 @@ export interface paths {
         patch?: never;
         trace?: never;
     };
+    "/api/v1/items/batch": {
+        parameters: {
+            query?: never;
+            header?: never;
+            path?: never;
+            cookie?: never;
+        };
+        get?: never;
+        put?: never;
+        post?: never;
+        delete?: never;
+        options?: never;
+        head?: never;
+        /**
+         * 상품 재고, 가격 일괄 변경
+         * @description 여러 상품의 재고 변화량과 가격을 하나의 트랜잭션에서 변경
+         */
+        patch: operations["updateItems"];
+        trace?: never;
+    };
+    "/api/v1/items/lookup": {
+        parameters: {
+            query?: never;
+            header?: never;
+            path?: never;
+            cookie?: never;
+        };
+        get?: never;
+        put?: never;
+        /**
+         * 상품 여러 개 조회 (본문)
+         * @description 요청 본문의 상품 ID 배열로 한 번에 조회, 요청 순서대로 반환
+         */
+        post: operations["lookupItems"];
+        delete?: never;
+        options?: never;
+        head?: never;
+        patch?: never;
+        trace?: never;
+    };
+    "/api/v1/items/bulk": {
+        parameters: {
+            query?: never;
+            header?: never;
+            path?: never;
+            cookie?: never;
+        };
+        get?: never;
+        put?: never;
+        /**
+         * 상품 대량 등록 (CSV)
+         * @description name, price, stock 헤더가 있는 CSV 본문을 한 줄씩 읽어 일괄 등록하고 행별 오류를 반환
+         */
+        post: operations["importItemsFromCsv"];
+        delete?: never;
+        options?: never;
+        head?: never;
+        patch?: never;
+        trace?: never;
+    };
     "/api/v1/items/{id}/image": {
         parameters: {
             query?: never;
@@ -127,7 +187,10 @@ export interface paths {
             path?: never;
             cookie?: never;
         };
-        /** 상품 이미지 조회 */
+        /**
+         * 상품 이미지 조회
+         * @description size로 thumb, list, detail 크기의 이미지를 조회
+         */
         get: operations["getItemImage"];
         put?: never;
         /**
@@ -141,6 +204,26 @@ export interface paths {
         patch?: never;
         trace?: never;
     };
+    "/api/v1/items/images/{imageUuid}.jpg": {
+        parameters: {
+            query?: never;
+            header?: never;
+            path?: never;
+            cookie?: never;
+        };
+        /**
+         * 이미지 파일 조회
+         * @description UUID로 저장된 상품 이미지를 조회 (내용이 바뀌지 않으므로 장기 캐시)
+         */
+        get: operations["getImageFile"];
+        put?: never;
+        post?: never;
+        delete?: never;
+        options?: never;
+        head?: never;
+        patch?: never;
+        trace?: never;
+    };
     "/api/v1/customer": {
         parameters: {
             query?: never;
@@ -196,6 +279,46 @@ export interface paths {
         patch?: never;
         trace?: never;
     };
+    "/api/v1/items/scroll": {
+        parameters: {
+            query?: never;
+            header?: never;
+            path?: never;
+            cookie?: never;
+        };
+        /**
+         * 상품 커서 조회
+         * @description 전체 개수를 세지 않고 이전 페이지의 마지막 상품 다음부터 이어서 조회
+         */
+        get: operations["scrollItems"];
+        put?: never;
+        post?: never;
+        delete?: never;
+        options?: never;
+        head?: never;
+        patch?: never;
+        trace?: never;
+    };
+    "/api/v1/items/suggest": {
+        parameters: {
+            query?: never;
+            header?: never;
+            path?: never;
+            cookie?: never;
+        };
+        /**
+         * 상품 검색어 자동 완성
+         * @description 접두사로 시작하는 상품 이름을 이름 순으로 조회
+         */
+        get: operations["suggestItems"];
+        put?: never;
+        post?: never;
+        delete?: never;
+        options?: never;
+        head?: never;
+        patch?: never;
+        trace?: never;
+    };
 }
 export type webhooks = Record<string, never>;
 export interface components {
@@ -205,6 +328,12 @@ export interface components {
             itemId?: number;
             /** Format: int32 */
             quantity?: number;
+            name?: string;
+            /** Format: int32 */
+            price?: number;
+            /** Format: int64 */
+            lineTotal?: number;
+            imageUri?: string;
         };
         OrderWithOrderItemsDto: {
             /** Format: int64 */
@@ -352,6 +481,76 @@ export interface components {
             message?: string;
             data?: components["schemas"]["PageItemDto"];
         };
+        CursorPageDtoItemDto: {
+            items?: components["schemas"]["ItemDto"][];
+            nextCursor?: string;
+            /** Format: int64 */
+            total?: number;
+        };
+        ResponseDtoCursorPageDtoItemDto: {
+            code?: string;
+            message?: string;
+            data?: components["schemas"]["CursorPageDtoItemDto"];
+        };
+        ItemSuggestionDto: {
+            /** Format: int64 */
+            id?: number;
+            name?: string;
+        };
+        ResponseDtoListItemSuggestionDto: {
+            code?: string;
+            message?: string;
+            data?: components["schemas"]["ItemSuggestionDto"][];
+        };
+        ItemLookupDto: {
+            items?: components["schemas"]["ItemDto"][];
+            missingIds?: number[];
+        };
+        ResponseDtoItemLookupDto: {
+            code?: string;
+            message?: string;
+            data?: components["schemas"]["ItemLookupDto"];
+        };
+        Change: {
+            /** Format: int64 */
+            id?: number;
+            /** Format: int32 */
+            stockDelta?: number;
+            /** Format: int32 */
+            price?: number;
+        };
+        ItemBatchUpdateDto: {
+            items?: components["schemas"]["Change"][];
+        };
+        ItemVersionedDto: {
+            item?: components["schemas"]["ItemDto"];
+            etag?: string;
+        };
+        ResponseDtoListItemVersionedDto: {
+            code?: string;
+            message?: string;
+            data?: components["schemas"]["ItemVersionedDto"][];
+        };
+        ItemBulkImportResultDto: {
+            /** Format: int32 */
+            totalRows?: number;
+            /** Format: int32 */
+            importedRows?: number;
+            /** Format: int32 */
+            failedRows?: number;
+            errors?: components["schemas"]["RowError"][];
+            errorsTruncated?: boolean;
+        };
+        RowError: {
+            /** Format: int32 */
+            line?: number;
+            message?: string;
+        };
+        ResponseDtoItemBulkImportResultDto: {
+            code?: string;
+            message?: string;
+            data?: components["schemas"]["ItemBulkImportResultDto"];
+        };
         ResponseDtoListCustomerDto: {
             code?: string;
             message?: string;
@@ -368,7 +567,9 @@ export type $defs = Record<string, never>;
 export interface operations {
     getOrderByOrderId: {
         parameters: {
-            query?: never;
+            query?: {
+                includeItems?: boolean;
+            };
             header?: never;
             path?: never;
             cookie?: never;
@@ -592,7 +793,12 @@ export interface operations {
         parameters: {
             query: {
                 sortBy?: string;
+                searchMode?: string;
                 searchKeyword?: string;
+                minPrice?: number;
+                maxPrice?: number;
+                inStock?: boolean;
+                ids?: number[];
                 arg2: components["schemas"]["Pageable"];
             };
             header?: never;
@@ -636,10 +842,85 @@ export interface operations {
             };
         };
     };
-    getItemImage: {
+    lookupItems: {
+        parameters: {
+            query?: never;
+            header?: never;
+            path?: never;
+            cookie?: never;
+        };
+        requestBody: {
+            content: {
+                "application/json": number[];
+            };
+        };
+        responses: {
+            /** @description OK */
+            200: {
+                headers: {
+                    [name: string]: unknown;
+                };
+                content: {
+                    "application/json;charset=UTF-8": components["schemas"]["ResponseDtoItemLookupDto"];
+                };
+            };
+        };
+    };
+    updateItems: {
         parameters: {
             query?: never;
             header?: never;
+            path?: never;
+            cookie?: never;
+        };
+        requestBody: {
+            content: {
+                "application/json": components["schemas"]["ItemBatchUpdateDto"];
+            };
+        };
+        responses: {
+            /** @description OK */
+            200: {
+                headers: {
+                    [name: string]: unknown;
+                };
+                content: {
+                    "application/json;charset=UTF-8": components["schemas"]["ResponseDtoListItemVersionedDto"];
+                };
+            };
+        };
+    };
+    importItemsFromCsv: {
+        parameters: {
+            query?: never;
+            header?: never;
+            path?: never;
+            cookie?: never;
+        };
+        requestBody: {
+            content: {
+                "text/csv": string;
+                "application/x-ndjson": string;
+            };
+        };
+        responses: {
+            /** @description OK */
+            200: {
+                headers: {
+                    [name: string]: unknown;
+                };
+                content: {
+                    "application/json;charset=UTF-8": components["schemas"]["ResponseDtoItemBulkImportResultDto"];
+                };
+            };
+        };
+    };
+    getItemImage: {
+        parameters: {
+            query?: {
+                size?: string;
+            };
+            header?: never;
             path: {
                 id: number;
             };
@@ -658,6 +939,30 @@ export interface operations {
             };
         };
     };
+    getImageFile: {
+        parameters: {
+            query?: {
+                size?: string;
+            };
+            header?: never;
+            path: {
+                imageUuid: string;
+            };
+            cookie?: never;
+        };
+        requestBody?: never;
+        responses: {
+            /** @description OK */
+            200: {
+                headers: {
+                    [name: string]: unknown;
+                };
+                content: {
+                    "application/json;charset=UTF-8": Record<string, never>;
+                };
+            };
+        };
+    };
     addImageToItem: {
         parameters: {
             query?: never;
@@ -775,4 +1080,54 @@ export interface operations {
             };
         };
     };
+    scrollItems: {
+        parameters: {
+            query?: {
+                sortBy?: string;
+                searchMode?: string;
+                searchKeyword?: string;
+                after?: string;
+                size?: number;
+                withTotal?: boolean;
+            };
+            header?: never;
+            path?: never;
+            cookie?: never;
+        };
+        requestBody?: never;
+        responses: {
+            /** @description OK */
+            200: {
+                headers: {
+                    [name: string]: unknown;
+                };
+                content: {
+                    "application/json;charset=UTF-8": components["schemas"]["ResponseDtoCursorPageDtoItemDto"];
+                };
+            };
+        };
+    };
+    suggestItems: {
+        parameters: {
+            query: {
+                prefix: string;
+                size?: number;
+            };
+            header?: never;
+            path?: never;
+            cookie?: never;
+        };
+        requestBody?: never;
+        responses: {
+            /** @description OK */
+            200: {
+                headers: {
+                    [name: string]: unknown;
+                };
+                content: {
+                    "application/json;charset=UTF-8": components["schemas"]["ResponseDtoListItemSuggestionDto"];
+                };
+            };
+        };
+    };
 }